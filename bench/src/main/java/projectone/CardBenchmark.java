@@ -0,0 +1,52 @@
+package projectone;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the per-card hot paths: playability checks and ordering.
+ * Each invocation walks a full shuffled 108-card deck.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CardBenchmark {
+    private Card[] cards;
+    private Card numberTop;
+    private Card wildTop;
+
+    @Setup
+    public void setUp() {
+        List<Card> deck = new Deck(42L).drawCards(Deck.STANDARD_SIZE);
+        cards = deck.toArray(new Card[0]);
+        numberTop = CardTable.get(Color.GREEN, Value.SEVEN);
+        wildTop = CardTable.get(Color.WILD, Value.WILD);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Deck.STANDARD_SIZE)
+    public void canPlayOnNumber(Blackhole bh) {
+        for (Card card : cards) {
+            bh.consume(card.canPlayOn(numberTop, null));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Deck.STANDARD_SIZE)
+    public void canPlayOnWild(Blackhole bh) {
+        for (Card card : cards) {
+            bh.consume(card.canPlayOn(wildTop, Color.BLUE));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Deck.STANDARD_SIZE - 1)
+    public void compareTo(Blackhole bh) {
+        for (int i = 1; i < cards.length; i++) {
+            bh.consume(cards[i - 1].compareTo(cards[i]));
+        }
+    }
+}
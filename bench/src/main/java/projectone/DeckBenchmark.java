@@ -0,0 +1,55 @@
+package projectone;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for building, shuffling and dealing from the draw deck.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DeckBenchmark {
+    private long seed;
+    private Deck deck;
+    private Hand[] hands;
+
+    @Setup
+    public void setUp() {
+        deck = new Deck(42L);
+        hands = new Hand[]{new Hand(), new Hand(), new Hand(), new Hand()};
+    }
+
+    @Benchmark
+    public Deck construct() {
+        return new Deck(seed++);
+    }
+
+    @Benchmark
+    public Deck shuffle() {
+        deck.shuffle();
+        return deck;
+    }
+
+    /** Deals 7 cards to each of 4 hands, then returns them so the deck is reusable. */
+    @Benchmark
+    public int dealFourHands() {
+        for (Hand hand : hands) {
+            deck.drawInto(hand, 7);
+        }
+        for (Hand hand : hands) {
+            while (!hand.isEmpty()) {
+                deck.addCard(hand.playCard(0));
+            }
+        }
+        return deck.cardsRemaining();
+    }
+
+    @Benchmark
+    public Card drawCard() {
+        Card card = deck.drawCard();
+        deck.addCard(card);
+        return card;
+    }
+}
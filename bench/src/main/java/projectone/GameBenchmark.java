@@ -0,0 +1,28 @@
+package projectone;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a complete headless 4-player game between basic AI players,
+ * with a different deck seed each invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GameBenchmark {
+    private final List<String> names = Arrays.asList("A", "B", "C", "D");
+    private long seed;
+
+    @Benchmark
+    public int fullGame() {
+        List<PlayerStrategy> strategies = Arrays.asList(
+                new BasicAIStrategy(), new BasicAIStrategy(), new BasicAIStrategy(), new BasicAIStrategy());
+        UnoGame game = new UnoGame(strategies, names, seed++, GameEventListener.NONE);
+        game.run();
+        return game.getTurnCount();
+    }
+}
@@ -0,0 +1,43 @@
+package projectone;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for a typical 7-card hand: adding and playing a card, and finding the playable cards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HandBenchmark {
+    private Hand hand;
+    private Card drawn;
+    private Card top;
+
+    @Setup
+    public void setUp() {
+        Deck deck = new Deck(42L);
+        hand = new Hand();
+        deck.drawInto(hand, 7);
+        drawn = CardTable.get(Color.YELLOW, Value.REVERSE);
+        top = CardTable.get(Color.BLUE, Value.FIVE);
+    }
+
+    @Benchmark
+    public Card addCardThenPlayCard() {
+        hand.addCard(drawn);
+        return hand.playCard(drawn);
+    }
+
+    @Benchmark
+    public List<Card> findValidCards() {
+        return hand.findValidCards(top, null);
+    }
+
+    @Benchmark
+    public long playableMask() {
+        return hand.getPlayableMask(top, null);
+    }
+}
@@ -0,0 +1,47 @@
+package projectone;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for moving a full discard pile back into an empty deck.
+ * Each invocation refills the deck and then deals every card back onto the pile.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PileBenchmark {
+    private Deck deck;
+    private Pile pile;
+
+    @Setup
+    public void setUp() {
+        deck = new Deck(42L);
+        pile = new Pile();
+        dealAllToPile();
+    }
+
+    private void dealAllToPile() {
+        while (!deck.isEmpty()) {
+            pile.addCard(deck.drawCard());
+        }
+    }
+
+    @Benchmark
+    public int takeCardsForNewDeck() {
+        List<Card> cards = pile.takeCardsForNewDeck();
+        deck.addCards(cards);
+        deck.shuffle();
+        dealAllToPile();
+        return cards.size();
+    }
+
+    @Benchmark
+    public int refillFrom() {
+        int moved = deck.refillFrom(pile);
+        dealAllToPile();
+        return moved;
+    }
+}
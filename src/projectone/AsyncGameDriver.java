@@ -0,0 +1,234 @@
+package projectone;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Plays games of {@link AsyncPlayerStrategy} players without ever blocking a thread on a
+ * decision, so a small executor can host many tables whose decisions are pending.
+ * A table advances in short tasks on the executor: it applies moves with
+ * {@link UnoGame#apply(Move)} until a player has a real choice, asks that player's
+ * strategy, and returns the thread. When the answer arrives, or the decision's budget
+ * runs out, the next task validates it and continues. Moves that are forced (drawing, a
+ * single playable card) are made without asking. A late, failed or invalid decision is
+ * made by {@link BasicAIStrategy} instead, and a late one is cancelled.
+ * Strategies decide on a copy of the game, so a strategy that is still reading after its
+ * deadline cannot race the table; for a wild card's color the copy still has the card in
+ * hand. Events reach the table's listener as {@link UnoGame#apply(Move)} reports them,
+ * which does not include {@link GameEventListener#onTurnStart}.
+ */
+public class AsyncGameDriver {
+    private final Executor executor;
+    private final Duration budget;
+    private int maxTurns = BatchSimulator.DEFAULT_MAX_TURNS;
+    private final LongAdder decisions = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    /**
+     * @param executor Where the tables' tasks run; it is never blocked on a decision.
+     * @param budget Time allowed for each decision; must be positive.
+     */
+    public AsyncGameDriver(Executor executor, Duration budget) {
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+        Objects.requireNonNull(budget, "Budget cannot be null");
+        if (budget.isNegative() || budget.isZero()) throw new IllegalArgumentException("Budget must be positive: " + budget);
+        this.budget = budget;
+    }
+
+    /**
+     * Sets the turn limit after which later games are abandoned without a winner.
+     * @param maxTurns The maximum number of turns per game; must be positive.
+     */
+    public void setMaxTurns(int maxTurns) {
+        if (maxTurns <= 0) throw new IllegalArgumentException("Max turns must be positive: " + maxTurns);
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Starts a game.
+     * @param strategies One strategy per seat; each game needs its own instances.
+     * @param names One player name per seat.
+     * @param deckSeed Seed for the deck shuffle.
+     * @return A future for the finished game. Cancelling it abandons the game.
+     */
+    public CompletableFuture<UnoGame> play(List<AsyncPlayerStrategy> strategies, List<String> names, long deckSeed) {
+        return play(strategies, names, deckSeed, GameEventListener.NONE);
+    }
+
+    /**
+     * Starts a game, reporting its events to a listener. The listener is called on the
+     * executor, by one task at a time.
+     * @param strategies One strategy per seat; each game needs its own instances.
+     * @param names One player name per seat.
+     * @param deckSeed Seed for the deck shuffle.
+     * @param listener Receiver of the game's events.
+     * @return A future for the finished game. Cancelling it abandons the game.
+     */
+    public CompletableFuture<UnoGame> play(List<AsyncPlayerStrategy> strategies, List<String> names, long deckSeed,
+            GameEventListener listener) {
+        Objects.requireNonNull(strategies, "Strategies cannot be null");
+        List<PlayerStrategy> fallbackStrategies = new ArrayList<>(strategies.size());
+        for (AsyncPlayerStrategy strategy : strategies) {
+            Objects.requireNonNull(strategy, "Strategy cannot be null");
+            fallbackStrategies.add(new BasicAIStrategy());
+        }
+        // The game's own players hold the fallbacks, which also choose a starting wild color
+        UnoGame game = new UnoGame(fallbackStrategies, names, deckSeed, listener);
+        game.setMaxTurns(maxTurns);
+        Table table = new Table(game, List.copyOf(strategies));
+        executor.execute(table::start);
+        return table.result;
+    }
+
+    /** One game in progress. Only one of its tasks runs at a time. */
+    private final class Table {
+        private final UnoGame game;
+        private final List<AsyncPlayerStrategy> strategies;
+        private final CompletableFuture<UnoGame> result = new CompletableFuture<>();
+        private final Move[] moves = new Move[Move.COUNT];
+        private volatile CompletableFuture<?> pendingDecision;
+
+        Table(UnoGame game, List<AsyncPlayerStrategy> strategies) {
+            this.game = game;
+            this.strategies = strategies;
+            result.whenComplete((finished, error) -> {
+                CompletableFuture<?> decision = pendingDecision;
+                if (decision != null) decision.cancel(false); // the game was abandoned
+            });
+        }
+
+        void start() {
+            try {
+                if (game.start()) {
+                    advance();
+                } else {
+                    result.complete(game);
+                }
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }
+
+        /** Applies forced moves until the game ends or the current player has a choice to make. */
+        private void advance() {
+            while (!result.isDone()) {
+                if (!game.isGameRunning() || game.isTurnLimitReached()) {
+                    game.endGame();
+                    result.complete(game);
+                    return;
+                }
+                int n = game.legalMoves(moves);
+                Move first = moves[0];
+                if (n == 1) {
+                    game.apply(first);
+                    game.clearUndoHistory();
+                } else if (first.getCard() == moves[n - 1].getCard()) {
+                    chooseColor(first.getCard()); // one wild card, so only its color is open
+                    return;
+                } else {
+                    chooseCard();
+                    return;
+                }
+            }
+        }
+
+        private void chooseCard() {
+            Player player = game.getCurrentPlayer();
+            Card top = game.getPile().getTopCard();
+            Color wildColor = game.getActiveWildColor();
+            List<Card> playable = player.getHand().findValidCards(top, wildColor);
+            UnoGame copy = game.copyPosition();
+            Hand hand = copy.getCurrentPlayer().getHand();
+            decide(strategy -> strategy.chooseCardAsync(copy, hand, playable, top, wildColor),
+                    playable::contains,
+                    () -> player.chooseCardToPlay(game, playable),
+                    card -> {
+                        if (card.getColor() == Color.WILD) {
+                            chooseColor(card);
+                        } else {
+                            play(card, null);
+                        }
+                    });
+        }
+
+        private void chooseColor(Card card) {
+            Player player = game.getCurrentPlayer();
+            UnoGame copy = game.copyPosition();
+            Hand hand = copy.getCurrentPlayer().getHand();
+            decide(strategy -> strategy.chooseWildColorAsync(copy, hand),
+                    DeadlineStrategy::isChoosableColor,
+                    () -> player.chooseWildColor(game),
+                    color -> play(card, color));
+        }
+
+        private void play(Card card, Color wildColor) {
+            game.apply(Move.play(card, wildColor));
+            game.clearUndoHistory();
+            advance();
+        }
+
+        /**
+         * Asks the current player's strategy, then continues on the executor with its answer
+         * or, if that is late, failed or rejected by {@code valid}, the fallback's.
+         */
+        private <T> void decide(Function<AsyncPlayerStrategy, CompletableFuture<T>> ask, Predicate<T> valid,
+                Supplier<T> fallback, Consumer<T> then) {
+            decisions.increment();
+            CompletableFuture<T> decision;
+            try {
+                decision = Objects.requireNonNull(ask.apply(strategies.get(game.getCurrentPlayerIndex())), "Strategy returned no future");
+            } catch (RuntimeException e) {
+                decision = CompletableFuture.failedFuture(e);
+            }
+            pendingDecision = decision;
+            if (result.isDone()) decision.cancel(false);
+            decision.orTimeout(budget.toNanos(), TimeUnit.NANOSECONDS).handleAsync((choice, error) -> {
+                pendingDecision = null;
+                if (result.isDone()) return null;
+                T made = choice;
+                if (error != null || made == null || !valid.test(made)) {
+                    if (unwrap(error) instanceof TimeoutException) timeouts.increment();
+                    fallbacks.increment();
+                    made = fallback.get();
+                }
+                then.accept(made);
+                return null;
+            }, executor).exceptionally(error -> {
+                result.completeExceptionally(unwrap(error));
+                return null;
+            });
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /** @return Decisions asked of strategies, across all games. */
+    public long getDecisions() { return decisions.sum(); }
+
+    /** @return Decisions that missed their deadline. */
+    public long getTimeouts() { return timeouts.sum(); }
+
+    /** @return Decisions made by the fallback: late, failed or invalid ones. */
+    public long getFallbacks() { return fallbacks.sum(); }
+
+    @Override
+    public String toString() {
+        return "projectone.AsyncGameDriver [budget=" + budget + ", decisions=" + getDecisions()
+                + ", timeouts=" + getTimeouts() + ", fallbacks=" + getFallbacks() + "]";
+    }
+}
@@ -0,0 +1,71 @@
+package projectone;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Non-blocking counterpart of {@link PlayerStrategy}: each decision is returned as a
+ * future, so the engine can serve other tables while it is pending.
+ * The engine bounds every future with a deadline ({@link AsyncGameDriver},
+ * {@link DeadlineStrategy}) and falls back to a default policy if it is late, fails or
+ * names an illegal choice. A late future is completed exceptionally by the engine, which
+ * a long computation can poll to stop early. The game passed in is a private copy of the
+ * position, so reading it after the deadline is harmless.
+ */
+public interface AsyncPlayerStrategy {
+    /**
+     * Chooses a card to play.
+     * @param game A copy of the game at the decision.
+     * @param hand The player's hand in that copy.
+     * @param playableCards Cards the player may play; never empty.
+     * @param topPileCard The card on top of the pile.
+     * @param activeWildColor The currently selected wild color, or null.
+     * @return A future for one of {@code playableCards}.
+     */
+    CompletableFuture<Card> chooseCardAsync(UnoGame game, Hand hand, List<Card> playableCards, Card topPileCard, Color activeWildColor);
+
+    /**
+     * Chooses a color for a wild card being played.
+     * @param game A copy of the game at the decision.
+     * @param hand The player's hand in that copy.
+     * @return A future for RED, YELLOW, GREEN or BLUE.
+     */
+    CompletableFuture<Color> chooseWildColorAsync(UnoGame game, Hand hand);
+
+    /**
+     * Supplies the seed for any random choices this strategy makes.
+     * @param seed The seed for this strategy's random stream.
+     * @see PlayerStrategy#setSeed(long)
+     */
+    default void setSeed(long seed) {}
+
+    /**
+     * Runs a synchronous strategy's decisions on an executor, e.g. a pool reserved for
+     * expensive bots, so they never occupy the engine's threads.
+     * @param strategy The strategy.
+     * @param executor Where its decisions run.
+     * @return The asynchronous view of the strategy.
+     */
+    static AsyncPlayerStrategy of(PlayerStrategy strategy, Executor executor) {
+        Objects.requireNonNull(strategy, "Strategy cannot be null");
+        Objects.requireNonNull(executor, "Executor cannot be null");
+        return new AsyncPlayerStrategy() {
+            @Override
+            public CompletableFuture<Card> chooseCardAsync(UnoGame game, Hand hand, List<Card> playableCards, Card topPileCard, Color activeWildColor) {
+                return CompletableFuture.supplyAsync(() -> strategy.chooseCard(game, hand, playableCards, topPileCard, activeWildColor), executor);
+            }
+
+            @Override
+            public CompletableFuture<Color> chooseWildColorAsync(UnoGame game, Hand hand) {
+                return CompletableFuture.supplyAsync(() -> strategy.chooseWildColor(game, hand), executor);
+            }
+
+            @Override
+            public void setSeed(long seed) {
+                strategy.setSeed(seed);
+            }
+        };
+    }
+}
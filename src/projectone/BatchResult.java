@@ -0,0 +1,137 @@
+package projectone;
+
+import java.util.Arrays;
+
+/**
+ * Aggregated outcome of a batch of simulated games with a fixed seat lineup.
+ * Each worker fills its own instance and instances are merged at the end,
+ * so no counter is ever shared between threads.
+ */
+public class BatchResult {
+    private final long[] winsBySeat;
+    private long games;
+    private long abandonedGames;
+    private long totalTurns;
+    private long totalReshuffles;
+    private GameStatistics statistics;
+
+    /**
+     * Creates an empty result.
+     * @param seats Number of players at the table.
+     */
+    public BatchResult(int seats) {
+        if (seats < 2) throw new IllegalArgumentException("A table needs at least 2 seats: " + seats);
+        this.winsBySeat = new long[seats];
+    }
+
+    /**
+     * Starts collecting detailed statistics alongside the counts. The caller reports each
+     * game's events to the returned listener; {@link #merge} combines them.
+     * @return The statistics to attach to this result's games.
+     */
+    GameStatistics collectStatistics() {
+        if (statistics == null) statistics = new GameStatistics(winsBySeat.length);
+        return statistics;
+    }
+
+    /** @return Detailed statistics, or null if they were not collected. */
+    public GameStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Records one finished (or abandoned) game.
+     * @param game The game after {@link UnoGame#run()} has returned.
+     */
+    public void record(UnoGame game) {
+        games++;
+        int winner = game.getWinnerIndex();
+        if (winner < 0) {
+            abandonedGames++;
+        } else {
+            winsBySeat[winner]++;
+        }
+        totalTurns += game.getTurnCount();
+        totalReshuffles += game.getReshuffleCount();
+    }
+
+    /**
+     * Adds another result's counts into this one.
+     * @param other Result for the same lineup.
+     * @return This result, for chaining.
+     */
+    public BatchResult merge(BatchResult other) {
+        if (other.winsBySeat.length != winsBySeat.length) {
+            throw new IllegalArgumentException("Cannot merge results for different table sizes");
+        }
+        for (int i = 0; i < winsBySeat.length; i++) {
+            winsBySeat[i] += other.winsBySeat[i];
+        }
+        games += other.games;
+        abandonedGames += other.abandonedGames;
+        totalTurns += other.totalTurns;
+        totalReshuffles += other.totalReshuffles;
+        if (other.statistics != null) collectStatistics().merge(other.statistics);
+        return this;
+    }
+
+    public int getSeats() { return winsBySeat.length; }
+    public long getGames() { return games; }
+    public long getAbandonedGames() { return abandonedGames; }
+    public long getWins(int seat) { return winsBySeat[seat]; }
+    public long getTotalTurns() { return totalTurns; }
+    public long getTotalReshuffles() { return totalReshuffles; }
+
+    /**
+     * @param seat The seat index.
+     * @return Fraction of all games won by the seat, or 0 if no games were played.
+     */
+    public double getWinRate(int seat) {
+        return games == 0 ? 0.0 : (double) winsBySeat[seat] / games;
+    }
+
+    /**
+     * @param seat The seat index.
+     * @return Standard error of the seat's win rate, or NaN with fewer than 2 games.
+     */
+    public double getWinRateStandardError(int seat) {
+        if (games < 2) return Double.NaN;
+        double p = getWinRate(seat);
+        return Math.sqrt(p * (1 - p) / (games - 1));
+    }
+
+    /** @return Mean turns per game, or 0 if no games were played. */
+    public double getAverageTurns() {
+        return games == 0 ? 0.0 : (double) totalTurns / games;
+    }
+
+    /** @return Mean reshuffles per game, or 0 if no games were played. */
+    public double getAverageReshuffles() {
+        return games == 0 ? 0.0 : (double) totalReshuffles / games;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BatchResult)) return false;
+        BatchResult that = (BatchResult) o;
+        return games == that.games && abandonedGames == that.abandonedGames
+                && totalTurns == that.totalTurns && totalReshuffles == that.totalReshuffles
+                && Arrays.equals(winsBySeat, that.winsBySeat);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(winsBySeat) + Long.hashCode(games + totalTurns);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("projectone.BatchResult [games=").append(games);
+        for (int i = 0; i < winsBySeat.length; i++) {
+            sb.append(String.format(", seat %d wins=%d (%.2f%%)", i + 1, winsBySeat[i], 100 * getWinRate(i)));
+        }
+        return sb.append(String.format(", abandoned=%d, avg turns=%.2f, avg reshuffles=%.3f]",
+                abandonedGames, getAverageTurns(), getAverageReshuffles())).toString();
+    }
+}
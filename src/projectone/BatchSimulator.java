@@ -0,0 +1,264 @@
+package projectone;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Plays large batches of headless games for a fixed lineup of strategies, spread
+ * across all cores with a work-stealing {@link ForkJoinPool}.
+ * Seeds are derived per game from a {@link SeedTree}, so a batch is bit-identical
+ * regardless of the number of threads.
+ * The range of game indices is split recursively. Each leaf task plays its games
+ * one {@link UnoGame} at a time into its own {@link BatchResult}, and partial results
+ * are merged as the tasks join, so workers never contend on shared counters.
+ */
+public class BatchSimulator {
+    /** Games played sequentially by one leaf task before it stops splitting. */
+    private static final int LEAF_GAMES = 256;
+    /** Games played before the first check of an early-stopping run. */
+    private static final int FIRST_STAGE_GAMES = 4096;
+    static final int DEFAULT_MAX_TURNS = 10_000;
+
+    static final Map<String, Supplier<PlayerStrategy>> NAMED_STRATEGIES = new LinkedHashMap<>();
+
+    static {
+        NAMED_STRATEGIES.put("basic", BasicAIStrategy::new);
+        NAMED_STRATEGIES.put("ismcts", IsmctsStrategy::new);
+    }
+
+    private final List<Supplier<PlayerStrategy>> lineup;
+    private final List<String> seatNames;
+    private final ForkJoinPool pool;
+    private int maxTurns = DEFAULT_MAX_TURNS;
+    private boolean collectStatistics;
+
+    /**
+     * Creates a simulator that runs on the common fork/join pool.
+     * @param lineup One strategy factory per seat; each game gets fresh strategy instances.
+     */
+    public BatchSimulator(List<Supplier<PlayerStrategy>> lineup) {
+        this(lineup, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param lineup One strategy factory per seat; each game gets fresh strategy instances.
+     * @param pool The pool to run games on.
+     */
+    public BatchSimulator(List<Supplier<PlayerStrategy>> lineup, ForkJoinPool pool) {
+        Objects.requireNonNull(lineup, "Lineup cannot be null");
+        if (lineup.size() < 2 || lineup.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Lineup must have at least 2 non-null strategies");
+        }
+        this.lineup = new ArrayList<>(lineup);
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < lineup.size(); i++) {
+            names.add("Seat " + (i + 1));
+        }
+        this.seatNames = Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Sets the turn limit after which a game is abandoned without a winner.
+     * @param maxTurns The maximum number of turns per game; must be positive.
+     */
+    public void setMaxTurns(int maxTurns) {
+        if (maxTurns <= 0) throw new IllegalArgumentException("Max turns must be positive: " + maxTurns);
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Sets whether results carry {@link GameStatistics} (game length, cards drawn,
+     * reshuffles, turn times), at the cost of listening to every game's events.
+     * @param collectStatistics true to collect statistics; off by default.
+     */
+    public void setCollectStatistics(boolean collectStatistics) {
+        this.collectStatistics = collectStatistics;
+    }
+
+    /**
+     * Plays a batch of games and waits for the merged result.
+     * @param games Number of games to play.
+     * @param masterSeed Seed from which every game's deck seed is derived.
+     * @return The aggregated result.
+     */
+    public BatchResult run(long games, long masterSeed) {
+        if (games < 0) throw new IllegalArgumentException("Cannot play a negative number of games.");
+        return pool.invoke(new GameRangeTask(masterSeed, 0, games));
+    }
+
+    /**
+     * Plays games in stages until every seat's win rate is known to within
+     * {@code halfWidth} at 95% confidence, or {@code maxGames} have been played.
+     * The first stage is 4,096 games and each later stage adds a quarter of the games
+     * played so far, so a batch overshoots the point where it could have stopped by at
+     * most a quarter, and checks only a logarithmic number of times. Stage boundaries
+     * depend only on the game count, so the result equals {@link #run(long, long)} for
+     * the number of games it played, on any number of threads.
+     * @param maxGames Most games to play.
+     * @param masterSeed Seed from which every game's deck seed is derived.
+     * @param halfWidth Target half-width of each seat's 95% confidence interval, e.g. 0.005.
+     * @return The aggregated result of the games played.
+     */
+    public BatchResult runUntil(long maxGames, long masterSeed, double halfWidth) {
+        if (maxGames < 0) throw new IllegalArgumentException("Cannot play a negative number of games.");
+        if (!(halfWidth > 0)) throw new IllegalArgumentException("Half-width must be positive: " + halfWidth);
+        BatchResult result = pool.invoke(new GameRangeTask(masterSeed, 0, Math.min(FIRST_STAGE_GAMES, maxGames)));
+        while (result.getGames() < maxGames && !isPreciseEnough(result, halfWidth)) {
+            long from = result.getGames();
+            long to = Math.min(maxGames, from + Math.max(FIRST_STAGE_GAMES, from / 4));
+            result.merge(pool.invoke(new GameRangeTask(masterSeed, from, to)));
+        }
+        return result;
+    }
+
+    private static boolean isPreciseEnough(BatchResult result, double halfWidth) {
+        for (int seat = 0; seat < result.getSeats(); seat++) {
+            if (DuplicateResult.Z_95 * result.getWinRateStandardError(seat) > halfWidth) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Plays one headless game with fresh strategies, taking the deck seed and each seat's
+     * strategy seed from a {@link SeedTree} node.
+     * @param lineup One strategy factory per seat.
+     * @param names One player name per seat.
+     * @param gameSeeds The game's node in the seed tree.
+     * @param maxTurns Turn limit after which the game is abandoned.
+     * @return The finished game.
+     */
+    static UnoGame playSeededGame(List<Supplier<PlayerStrategy>> lineup, List<String> names, SeedTree gameSeeds, int maxTurns) {
+        return playSeededGame(lineup, names, gameSeeds, maxTurns, GameEventListener.NONE);
+    }
+
+    /**
+     * Plays one seeded headless game as {@link #playSeededGame(List, List, SeedTree, int)}
+     * does, reporting its events to a listener.
+     * @param listener Receiver of the game's events.
+     * @return The finished game.
+     */
+    static UnoGame playSeededGame(List<Supplier<PlayerStrategy>> lineup, List<String> names, SeedTree gameSeeds, int maxTurns,
+            GameEventListener listener) {
+        List<PlayerStrategy> strategies = new ArrayList<>(lineup.size());
+        for (int seat = 0; seat < lineup.size(); seat++) {
+            PlayerStrategy strategy = lineup.get(seat).get();
+            strategy.setSeed(gameSeeds.childSeed(SeedTree.STRATEGY + seat));
+            strategies.add(strategy);
+        }
+        UnoGame game = new UnoGame(strategies, names, gameSeeds.childSeed(SeedTree.DECK), listener);
+        game.setMaxTurns(maxTurns);
+        game.run();
+        return game;
+    }
+
+    @SuppressWarnings("serial")
+    private final class GameRangeTask extends RecursiveTask<BatchResult> {
+        private final long masterSeed;
+        private final long from;
+        private final long to;
+
+        GameRangeTask(long masterSeed, long from, long to) {
+            this.masterSeed = masterSeed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected BatchResult compute() {
+            if (to - from <= LEAF_GAMES) {
+                BatchResult result = new BatchResult(lineup.size());
+                GameStatistics statistics = collectStatistics ? result.collectStatistics() : null;
+                GameEventListener listener = statistics != null ? statistics : GameEventListener.NONE;
+                SeedTree seeds = new SeedTree(masterSeed);
+                // A game's seeds come from the tree node for its index, so its outcome
+                // depends only on the master seed and the index
+                for (long i = from; i < to; i++) {
+                    result.record(playSeededGame(lineup, seatNames, seeds.child(i), maxTurns, listener));
+                }
+                return result;
+            }
+            long mid = (from + to) >>> 1;
+            GameRangeTask left = new GameRangeTask(masterSeed, from, mid);
+            left.fork();
+            BatchResult right = new GameRangeTask(masterSeed, mid, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Command-line entry point:
+     * {@code java projectone.BatchSimulator [--games N] [--seed S] [--threads T] [--players basic,basic] [--max-turns M]
+     * [--precision H] [--stats true]}
+     * With {@code --precision}, the batch stops early once every seat's win rate is known to within H.
+     * @param args Command-line options.
+     */
+    public static void main(String[] args) {
+        long games = 100_000;
+        long seed = System.currentTimeMillis();
+        int threads = Runtime.getRuntime().availableProcessors();
+        int maxTurns = DEFAULT_MAX_TURNS;
+        String players = "basic,basic,basic,basic";
+        double precision = 0;
+        boolean stats = false;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (i + 1 >= args.length) throw new IllegalArgumentException("Missing value for " + option);
+                String value = args[++i];
+                switch (option) {
+                    case "--games": games = Long.parseLong(value); break;
+                    case "--seed": seed = Long.parseLong(value); break;
+                    case "--threads": threads = Integer.parseInt(value); break;
+                    case "--max-turns": maxTurns = Integer.parseInt(value); break;
+                    case "--players": players = value; break;
+                    case "--precision": precision = Double.parseDouble(value); break;
+                    case "--stats": stats = Boolean.parseBoolean(value); break;
+                    default: throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: java projectone.BatchSimulator [--games N] [--seed S] [--threads T]"
+                    + " [--players " + String.join("|", NAMED_STRATEGIES.keySet()) + ",...] [--max-turns M] [--precision H] [--stats true]");
+            System.exit(1);
+            return;
+        }
+
+        List<Supplier<PlayerStrategy>> lineup = new ArrayList<>();
+        for (String name : players.split(",")) {
+            Supplier<PlayerStrategy> factory = NAMED_STRATEGIES.get(name.trim());
+            if (factory == null) {
+                System.err.println("Unknown strategy '" + name + "'. Known: " + NAMED_STRATEGIES.keySet());
+                System.exit(1);
+                return;
+            }
+            lineup.add(factory);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            BatchSimulator simulator = new BatchSimulator(lineup, pool);
+            simulator.setMaxTurns(maxTurns);
+            simulator.setCollectStatistics(stats);
+            System.out.println("Playing " + (precision > 0 ? "up to " : "") + games + " games of " + players
+                    + " on " + threads + " threads, seed " + seed);
+            long start = System.nanoTime();
+            BatchResult result = precision > 0 ? simulator.runUntil(games, seed, precision) : simulator.run(games, seed);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.println(result);
+            if (result.getStatistics() != null) System.out.println(result.getStatistics());
+            System.out.printf("%.2f s, %.0f games/s%n", seconds, result.getGames() / seconds);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.util.*;
 public abstract class Card implements Comparable<Card> {
     protected final Color color;
     protected final Value value;
+    private final int id;
 
     protected Card(Color color, Value value) {
         Objects.requireNonNull(color, "projectone.Card color cannot be null");
@@ -21,6 +22,7 @@ public abstract class Card implements Comparable<Card> {
         validateColorValueCombination(color, value);
         this.color = color;
         this.value = value;
+        this.id = CardTable.idOf(color, value);
     }
 
     public boolean isSpecial() { return this.value == Value.SKIP || this.value == Value.REVERSE
@@ -39,41 +41,45 @@ public abstract class Card implements Comparable<Card> {
     public Color getColor() { return color; }
     public Value getValue() { return value; }
 
+    /**
+     * Returns the dense card-type ID (0..53) shared by all cards with this color and value.
+     * IDs follow the natural card order, so this is also the card's sort key.
+     * @return The card ID, usable as an index into {@link CardTable}.
+     */
+    public int getId() { return id; }
+
     public abstract void applyEffect(UnoGame gameController);
 
+    /**
+     * Checks whether this card may be played on the given top card.
+     * Answered by a single lookup in the {@link CardTable} playability matrix.
+     * @param topPileCard The card on top of the pile, or null if the pile is empty.
+     * @param activeWildColorOnPile The chosen color if the top card is wild.
+     * @return true if the card can be played, false otherwise.
+     */
     public boolean canPlayOn(Card topPileCard, Color activeWildColorOnPile) {
-        if (topPileCard == null) return true; 
-        if (this.color == Color.WILD) return true;
-
-        Color effectiveTopColor = topPileCard.getEffectiveColor(activeWildColorOnPile);
-        if (this.color == effectiveTopColor) return true; 
-
-        if (topPileCard.getColor() != Color.WILD && this.value == topPileCard.getValue()) {
-            return true;
-        }
-        return false;
+        return (CardTable.playableMask(topPileCard, activeWildColorOnPile) & (1L << id)) != 0;
     }
-    
+
     public Color getEffectiveColor(Color chosenColorForThisWildCard) {
         return (this.color == Color.WILD && chosenColorForThisWildCard != null) ? chosenColorForThisWildCard : this.color;
     }
 
+    /**
+     * Orders cards by color (WILD, RED, YELLOW, GREEN, BLUE) and then by value.
+     * The card ID is assigned in exactly this order, so it doubles as a precomputed
+     * sort key and the comparison is a single int compare with no allocation.
+     * @param other The card to compare against.
+     * @return negative, zero or positive as this card sorts before, with, or after the other.
+     */
     @Override
     public int compareTo(Card other) {
         if (other == null) {
             return 1; // Place null cards at the end
         }
-        List<Color> colorOrder = List.of(Color.WILD, Color.RED, Color.YELLOW, Color.GREEN, Color.BLUE);
-        int colorCompare = Integer.compare(
-                colorOrder.indexOf(this.color),
-                colorOrder.indexOf(other.color)
-        );
-
-        if (colorCompare != 0) {
-            return colorCompare; // Prioritize sorting by color order
-        }
-        return this.value.compareTo(other.value);
+        return Integer.compare(this.id, other.id);
     }
+
     @Override
     public String toString() { return color + " " + value; }
 
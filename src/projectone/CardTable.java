@@ -0,0 +1,127 @@
+package projectone;
+
+/**
+ * Canonical registry of the 54 distinct Uno cards.
+ * Each (color, value) pair has exactly one shared, immutable instance and a dense
+ * integer ID in the range 0..53. IDs follow the natural card order
+ * (WILD first, then RED, YELLOW, GREEN, BLUE, each by value), so sorting by ID
+ * is the same as sorting by {@link Card#compareTo(Card)}.
+ */
+public final class CardTable {
+    /** Number of distinct card types, and the size of any per-card-type array. */
+    public static final int SIZE = 54;
+
+    /** Bitmask with one bit set for every card ID. */
+    public static final long ALL_CARDS = (1L << SIZE) - 1;
+
+    private static final int VALUES_PER_COLOR = Value.DRAW_TWO.ordinal() + 1;
+    private static final int FIRST_COLORED_ID = 2;
+    // One slot per chosen wild color; "no color chosen" shares the WILD slot
+    private static final int WILD_COLOR_SLOTS = Color.values().length;
+
+    private static final Card[] CARDS = new Card[SIZE];
+
+    // PLAYABLE[topId * WILD_COLOR_SLOTS + slot] has bit c set iff card c may be played on topId
+    private static final long[] PLAYABLE = new long[SIZE * WILD_COLOR_SLOTS];
+
+    static {
+        CARDS[idOf(Color.WILD, Value.WILD)] = new WildCard(Color.WILD, Value.WILD);
+        CARDS[idOf(Color.WILD, Value.WILD_DRAW_FOUR)] = new WildCard(Color.WILD, Value.WILD_DRAW_FOUR);
+        for (Color color : new Color[]{Color.RED, Color.YELLOW, Color.GREEN, Color.BLUE}) {
+            for (int v = 0; v < VALUES_PER_COLOR; v++) {
+                Value value = Value.values()[v];
+                CARDS[idOf(color, value)] = value.ordinal() <= Value.NINE.ordinal()
+                        ? new NumberCard(color, value)
+                        : new ActionCard(color, value);
+            }
+        }
+        for (int top = 0; top < SIZE; top++) {
+            for (Color active : Color.values()) {
+                long mask = 0L;
+                for (int candidate = 0; candidate < SIZE; candidate++) {
+                    if (matches(CARDS[candidate], CARDS[top], active)) {
+                        mask |= 1L << candidate;
+                    }
+                }
+                PLAYABLE[top * WILD_COLOR_SLOTS + active.ordinal()] = mask;
+            }
+        }
+    }
+
+    /**
+     * The Uno matching rule, used once to build the playability matrix:
+     * wilds always match, otherwise the color must match the top card's effective
+     * color or the value must match a non-wild top card.
+     */
+    private static boolean matches(Card candidate, Card top, Color activeWildColor) {
+        if (candidate.getColor() == Color.WILD) return true;
+        if (candidate.getColor() == top.getEffectiveColor(activeWildColor)) return true;
+        return top.getColor() != Color.WILD && candidate.getValue() == top.getValue();
+    }
+
+    private CardTable() {
+    }
+
+    /**
+     * Computes the dense ID of a (color, value) pair. Does not validate the combination;
+     * callers must pass a legal pair (see {@link Card}).
+     * @param color The card color.
+     * @param value The card value.
+     * @return The card ID in the range 0..53.
+     */
+    public static int idOf(Color color, Value value) {
+        if (color == Color.WILD) {
+            return value.ordinal() - Value.WILD.ordinal();
+        }
+        return FIRST_COLORED_ID + color.ordinal() * VALUES_PER_COLOR + value.ordinal();
+    }
+
+    /**
+     * Returns the shared card instance for an ID.
+     * @param id The card ID (0..53).
+     * @return The canonical card.
+     * @throws ArrayIndexOutOfBoundsException if the ID is out of range.
+     */
+    public static Card byId(int id) {
+        return CARDS[id];
+    }
+
+    /**
+     * Returns the set of card IDs that may legally be played on a top card, as a bitmask
+     * (bit {@code id} is set when card {@code id} is playable). AND this with a hand's
+     * card-type mask to find every playable card in one step.
+     * @param topPileCard The card on top of the pile, or null if the pile is empty.
+     * @param activeWildColor The chosen wild color, or null if none.
+     * @return The playable-card bitmask.
+     */
+    public static long playableMask(Card topPileCard, Color activeWildColor) {
+        if (topPileCard == null) return ALL_CARDS;
+        return playableMask(topPileCard.getId(), activeWildColor);
+    }
+
+    /**
+     * Returns the playable-card bitmask for a top card given by ID.
+     * @param topId The ID of the card on top of the pile.
+     * @param activeWildColor The chosen wild color, or null if none.
+     * @return The playable-card bitmask.
+     */
+    public static long playableMask(int topId, Color activeWildColor) {
+        int slot = activeWildColor == null ? Color.WILD.ordinal() : activeWildColor.ordinal();
+        return PLAYABLE[topId * WILD_COLOR_SLOTS + slot];
+    }
+
+    /**
+     * Returns the shared card instance for a (color, value) pair.
+     * @param color The card color.
+     * @param value The card value.
+     * @return The canonical card.
+     * @throws IllegalArgumentException if the combination is not a legal Uno card.
+     */
+    public static Card get(Color color, Value value) {
+        boolean isWildValueType = (value == Value.WILD || value == Value.WILD_DRAW_FOUR);
+        if (isWildValueType != (color == Color.WILD)) {
+            throw new IllegalArgumentException("No Uno card exists for " + color + " " + value);
+        }
+        return CARDS[idOf(color, value)];
+    }
+}
@@ -0,0 +1,235 @@
+package projectone;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One player's running knowledge of the cards they cannot see, kept up to date from
+ * game events so that strategies can query it in constant time instead of replaying
+ * the game's history.
+ * A card is seen while it lies face up in the discard pile or sits in the observer's
+ * own hand; every other card of the 108 is unseen, i.e. in the deck or an opponent's
+ * hand. When the pile is reshuffled into the deck its cards become unseen again.
+ * The tracker also remembers which colors each opponent is known to lack: a player who
+ * has to draw cannot follow the color in play, and stays void in it until they pick up
+ * further cards.
+ * Register the tracker with {@link UnoGame#addEventListener(GameEventListener)}. It only
+ * uses the cards revealed to its observer, even though events carry more.
+ */
+public class CardTracker implements GameEventListener {
+    private static final int COLORS = Color.values().length;
+    private static final int COPIES_PER_COLOR = 25; // One zero and two each of twelve other values
+    private static final int WILD_COPIES = 8;
+    /** Natural logs of 0! .. 108!, for hypergeometric probabilities in constant time. */
+    private static final double[] LOG_FACTORIAL = new double[Deck.STANDARD_SIZE + 1];
+    private static final long[] COLOR_MASKS = new long[COLORS]; // Card types of each color
+
+    static {
+        for (int id = 0; id < CardTable.SIZE; id++) {
+            COLOR_MASKS[CardTable.byId(id).getColor().ordinal()] |= 1L << id;
+        }
+        for (int n = 1; n < LOG_FACTORIAL.length; n++) {
+            LOG_FACTORIAL[n] = LOG_FACTORIAL[n - 1] + Math.log(n);
+        }
+    }
+
+    private final UnoGame game;
+    private final int observer;
+    private final Hand ownHand;
+    private final int[] seenCounts = new int[CardTable.SIZE]; // Face-up cards in the pile, by type
+    private final int[] seenByColor = new int[COLORS];
+    private int seenTotal;
+    private final int[] voidColors; // Per seat, a bit per Color ordinal the player is known to lack
+
+    /**
+     * Creates a tracker for one seat and reads the cards already in the pile.
+     * @param game The game to observe.
+     * @param observer The seat whose knowledge is tracked.
+     */
+    public CardTracker(UnoGame game, int observer) {
+        this.game = Objects.requireNonNull(game, "Game cannot be null");
+        if (observer < 0 || observer >= game.getNumberOfPlayers()) {
+            throw new IllegalArgumentException("No seat " + observer + " in a " + game.getNumberOfPlayers() + "-player game");
+        }
+        this.observer = observer;
+        this.ownHand = game.getPlayers().get(observer).getHand();
+        this.voidColors = new int[game.getNumberOfPlayers()];
+        readPile();
+    }
+
+    /**
+     * Number of copies of a card type in a full deck.
+     * @param cardId The card type.
+     * @return 1 for zeros, 4 for each kind of wild, 2 otherwise.
+     */
+    static int copiesInDeck(int cardId) {
+        Card card = CardTable.byId(cardId);
+        if (card.getColor() == Color.WILD) return 4;
+        return card.getValue() == Value.ZERO ? 1 : 2;
+    }
+
+    /**
+     * Rebuilds the seen cards from the pile, e.g. after the game was restored from a snapshot.
+     * Known void colors are forgotten.
+     */
+    public void resync() {
+        readPile();
+    }
+
+    /** Kept private so the constructor does not call an overridable method. */
+    private void readPile() {
+        Arrays.fill(seenCounts, 0);
+        Arrays.fill(seenByColor, 0);
+        Arrays.fill(voidColors, 0);
+        seenTotal = 0;
+        Pile pile = game.getPile();
+        int[] ids = pile.cardIds();
+        for (int i = 0; i < pile.getSize(); i++) {
+            see(ids[i]);
+        }
+    }
+
+    private void see(int cardId) {
+        seenCounts[cardId]++;
+        seenByColor[CardTable.byId(cardId).getColor().ordinal()]++;
+        seenTotal++;
+    }
+
+    private int seatOf(Player player) {
+        List<Player> players = game.getPlayers();
+        for (int seat = 0; seat < players.size(); seat++) {
+            if (players.get(seat) == player) return seat;
+        }
+        return -1;
+    }
+
+    @Override
+    public void onInitialCardFlipped(Card card, boolean accepted) {
+        if (accepted) see(card.getId());
+    }
+
+    @Override
+    public void onCardPlayed(Player player, Card card) {
+        see(card.getId());
+    }
+
+    @Override
+    public void onCardDrawn(Player player, Card card) {
+        int seat = seatOf(player);
+        if (seat < 0 || seat == observer) return;
+        // A player draws only when nothing in hand can be played, so they lack the color in play.
+        // The drawn card is either played at once or does not match, but may void any other color.
+        Card top = game.getPile().getTopCard();
+        Color active = game.getActiveWildColor();
+        if (active == null && top != null) active = top.getColor();
+        voidColors[seat] = active != null && active != Color.WILD ? 1 << active.ordinal() : 0;
+    }
+
+    @Override
+    public void onCardsDrawn(Player player, int count) {
+        int seat = seatOf(player);
+        if (seat >= 0) voidColors[seat] = 0; // The new cards are unknown
+    }
+
+    @Override
+    public void onReshuffle(int cardsInDeck) {
+        int top = game.getPile().getTopCard().getId();
+        Arrays.fill(seenCounts, 0);
+        Arrays.fill(seenByColor, 0);
+        seenTotal = 0;
+        see(top);
+    }
+
+    /** @return The seat whose knowledge this tracker models. */
+    public int getObserver() { return observer; }
+
+    /**
+     * @param card A card type.
+     * @return How many copies of it are face up in the discard pile.
+     */
+    public int getSeenCount(Card card) {
+        return seenCounts[card.getId()];
+    }
+
+    /**
+     * @param card A card type.
+     * @return How many copies of it are in the deck or in opponents' hands.
+     */
+    public int getUnseenCount(Card card) {
+        return copiesInDeck(card.getId()) - seenCounts[card.getId()] - ownHand.count(card);
+    }
+
+    /**
+     * @return The number of cards in the deck and opponents' hands together.
+     */
+    public int getUnseenCount() {
+        return Deck.STANDARD_SIZE - seenTotal - ownHand.getSize();
+    }
+
+    /**
+     * @param color A card color, or WILD for the wild cards.
+     * @return How many unseen cards have that color.
+     */
+    public int getUnseenCount(Color color) {
+        return copiesOf(color) - seenByColor[color.ordinal()] - ownCount(color);
+    }
+
+    private static int copiesOf(Color color) {
+        return color == Color.WILD ? WILD_COPIES : COPIES_PER_COLOR;
+    }
+
+    private int ownCount(Color color) {
+        int count = 0;
+        for (long held = ownHand.getCardMask() & COLOR_MASKS[color.ordinal()]; held != 0; held &= held - 1) {
+            count += ownHand.count(CardTable.byId(Long.numberOfTrailingZeros(held)));
+        }
+        return count;
+    }
+
+    /**
+     * @param seat A player's seat.
+     * @param color A card color.
+     * @return true if that player is known to hold no card of the color.
+     */
+    public boolean isVoid(int seat, Color color) {
+        return (voidColors[seat] & (1 << color.ordinal())) != 0;
+    }
+
+    /**
+     * Estimates the chance that a player holds at least one card of a color, treating the
+     * unseen cards as dealt at random between the deck and the opponents' hands.
+     * A player known to be void in the color gets 0.
+     * @param seat A player's seat; for the observer the answer is exact.
+     * @param color A card color.
+     * @return The probability, between 0 and 1.
+     */
+    public double probabilityHolds(int seat, Color color) {
+        if (seat == observer) return ownCount(color) > 0 ? 1.0 : 0.0;
+        Hand hand = game.getPlayers().get(seat).getHand();
+        if (isVoid(seat, color)) return 0.0;
+        int pool = getUnseenCount();
+        int matching = getUnseenCount(color);
+        int handSize = Math.min(hand.getSize(), pool);
+        if (matching <= 0 || handSize == 0) return 0.0;
+        if (pool - matching < handSize) return 1.0;
+        // 1 - C(pool - matching, handSize) / C(pool, handSize)
+        double logMiss = LOG_FACTORIAL[pool - matching] - LOG_FACTORIAL[pool - matching - handSize]
+                - LOG_FACTORIAL[pool] + LOG_FACTORIAL[pool - handSize];
+        return 1.0 - Math.exp(logMiss);
+    }
+
+    /**
+     * @param color A card color.
+     * @return The chance that the player after the current one holds that color.
+     * @see #probabilityHolds(int, Color)
+     */
+    public double probabilityNextPlayerHolds(Color color) {
+        return probabilityHolds(seatOf(game.getNextPlayer()), color);
+    }
+
+    @Override
+    public String toString() {
+        return "projectone.CardTracker [observer=" + observer + ", unseen=" + getUnseenCount() + "]";
+    }
+}
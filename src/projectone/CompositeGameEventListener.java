@@ -0,0 +1,108 @@
+package projectone;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Forwards every game event to several listeners, in the order they were given.
+ * Used by {@link UnoGame#addEventListener(GameEventListener)} so that narration,
+ * card tracking and statistics can all observe one game.
+ */
+public final class CompositeGameEventListener implements GameEventListener {
+    private final GameEventListener[] listeners;
+
+    /**
+     * @param listeners The listeners to notify.
+     */
+    public CompositeGameEventListener(GameEventListener... listeners) {
+        this.listeners = Arrays.copyOf(listeners, listeners.length);
+        for (GameEventListener listener : this.listeners) {
+            Objects.requireNonNull(listener, "Event listener cannot be null");
+        }
+    }
+
+    /**
+     * @param listener A listener to add.
+     * @return A new composite notifying this composite's listeners, then the given one.
+     */
+    public CompositeGameEventListener with(GameEventListener listener) {
+        GameEventListener[] all = Arrays.copyOf(listeners, listeners.length + 1);
+        all[listeners.length] = listener;
+        return new CompositeGameEventListener(all);
+    }
+
+    @Override
+    public void onHandsDealt(UnoGame game, int cardsPerPlayer) {
+        for (GameEventListener l : listeners) l.onHandsDealt(game, cardsPerPlayer);
+    }
+
+    @Override
+    public void onInitialCardFlipped(Card card, boolean accepted) {
+        for (GameEventListener l : listeners) l.onInitialCardFlipped(card, accepted);
+    }
+
+    @Override
+    public void onGameStart(UnoGame game) {
+        for (GameEventListener l : listeners) l.onGameStart(game);
+    }
+
+    @Override
+    public void onTurnStart(UnoGame game, Player player) {
+        for (GameEventListener l : listeners) l.onTurnStart(game, player);
+    }
+
+    @Override
+    public void onPlayerSkipped(Player player) {
+        for (GameEventListener l : listeners) l.onPlayerSkipped(player);
+    }
+
+    @Override
+    public void onCardDrawn(Player player, Card card) {
+        for (GameEventListener l : listeners) l.onCardDrawn(player, card);
+    }
+
+    @Override
+    public void onCardsDrawn(Player player, int count) {
+        for (GameEventListener l : listeners) l.onCardsDrawn(player, count);
+    }
+
+    @Override
+    public void onCardPlayed(Player player, Card card) {
+        for (GameEventListener l : listeners) l.onCardPlayed(player, card);
+    }
+
+    @Override
+    public void onTurnPassed(Player player) {
+        for (GameEventListener l : listeners) l.onTurnPassed(player);
+    }
+
+    @Override
+    public void onDirectionReversed(boolean clockwise) {
+        for (GameEventListener l : listeners) l.onDirectionReversed(clockwise);
+    }
+
+    @Override
+    public void onWildColorChosen(Player player, Color color) {
+        for (GameEventListener l : listeners) l.onWildColorChosen(player, color);
+    }
+
+    @Override
+    public void onReshuffle(int cardsInDeck) {
+        for (GameEventListener l : listeners) l.onReshuffle(cardsInDeck);
+    }
+
+    @Override
+    public void onGameWon(Player winner) {
+        for (GameEventListener l : listeners) l.onGameWon(winner);
+    }
+
+    @Override
+    public void onGameOver(UnoGame game) {
+        for (GameEventListener l : listeners) l.onGameOver(game);
+    }
+
+    @Override
+    public void onError(String message) {
+        for (GameEventListener l : listeners) l.onError(message);
+    }
+}
@@ -0,0 +1,112 @@
+package projectone;
+
+import java.io.PrintStream;
+import java.util.Objects;
+
+/**
+ * Narrates a game on the console, for interactive play.
+ */
+public class ConsoleGameEventListener implements GameEventListener {
+    private final PrintStream out;
+    private final PrintStream err;
+
+    public ConsoleGameEventListener() {
+        this(System.out, System.err);
+    }
+
+    /**
+     * @param out Stream for game narration.
+     * @param err Stream for error messages.
+     */
+    public ConsoleGameEventListener(PrintStream out, PrintStream err) {
+        this.out = Objects.requireNonNull(out, "Output stream cannot be null");
+        this.err = Objects.requireNonNull(err, "Error stream cannot be null");
+    }
+
+    @Override
+    public void onHandsDealt(UnoGame game, int cardsPerPlayer) {
+        out.println("Dealing initial " + cardsPerPlayer + " cards to each player...");
+        out.println("Initial hands dealt.");
+    }
+
+    @Override
+    public void onInitialCardFlipped(Card card, boolean accepted) {
+        out.println("Flipped: " + card);
+        if (!accepted) {
+            out.println(card.getValue() + " cannot be starting card. Reshuffling.");
+        }
+    }
+
+    @Override
+    public void onGameStart(UnoGame game) {
+        out.println("\n--- Uno Game Start ---");
+    }
+
+    @Override
+    public void onTurnStart(UnoGame game, Player player) {
+        printTurnHeader(player);
+        Color activeWildColor = game.getActiveWildColor();
+        out.println("projectone.Pile Top: " + game.getPile().getTopCard() +
+                (activeWildColor != null ? " (Active Wild projectone.Color: " + activeWildColor + ")" : ""));
+        for (Player p : game.getPlayers()) out.print(p.getName() + ":" + p.getHand().getSize() + " | ");
+        out.println("\n" + player.getName() + "'s projectone.Hand: " + player.getHand());
+    }
+
+    @Override
+    public void onPlayerSkipped(Player player) {
+        printTurnHeader(player);
+        out.println(player.getName() + "'s turn is SKIPPED!");
+    }
+
+    private void printTurnHeader(Player player) {
+        out.println("\n====================");
+        out.println(player.getName() + "'s Turn");
+    }
+
+    @Override
+    public void onCardDrawn(Player player, Card card) {
+        out.println(player.getName() + " has no valid cards. Drawing a card...");
+        out.println(player.getName() + " drew: " + card);
+    }
+
+    @Override
+    public void onCardsDrawn(Player player, int count) {
+        out.println(player.getName() + " drew " + count + " card(s). projectone.Hand size now " + player.getHand().getSize());
+    }
+
+    @Override
+    public void onCardPlayed(Player player, Card card) {
+        out.println(player.getName() + " plays " + card);
+    }
+
+    @Override
+    public void onTurnPassed(Player player) {
+        out.println(player.getName() + " cannot play. Turn passes.");
+    }
+
+    @Override
+    public void onWildColorChosen(Player player, Color color) {
+        out.println(player.getName() + " chose " + color + " as the new wild color.");
+    }
+
+    @Override
+    public void onReshuffle(int cardsInDeck) {
+        out.println("\nprojectone.Deck is empty! Reshuffling discard pile...");
+        out.println("projectone.Deck reshuffled with " + cardsInDeck + " cards.");
+    }
+
+    @Override
+    public void onGameWon(Player winner) {
+        out.println("\n" + winner.getName() + " exclaims 'UNO!' and WINS!");
+    }
+
+    @Override
+    public void onGameOver(UnoGame game) {
+        out.println("\n--- Game Over ---");
+    }
+
+    @Override
+    public void onError(String message) {
+        err.println("CRITICAL ERROR: " + message);
+    }
+}
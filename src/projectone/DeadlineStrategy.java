@@ -0,0 +1,113 @@
+package projectone;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Plays an {@link AsyncPlayerStrategy} in an ordinary blocking game, giving each decision
+ * a time budget. A decision that is late, fails, or names a card that cannot be played
+ * is made by a fallback strategy instead, so one slow bot or idle human cannot stall the
+ * table. A late decision is cancelled; its strategy was handed a copy of the game, so it
+ * can finish reading it while the real game moves on.
+ * The calling thread waits for the decision; {@link AsyncGameDriver} plays the same
+ * strategies without waiting.
+ */
+public class DeadlineStrategy implements PlayerStrategy {
+    private final AsyncPlayerStrategy strategy;
+    private final Duration budget;
+    private final PlayerStrategy fallback;
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    /**
+     * Creates a strategy that falls back to {@link BasicAIStrategy}.
+     * @param strategy The strategy making decisions.
+     * @param budget Time allowed for each decision.
+     */
+    public DeadlineStrategy(AsyncPlayerStrategy strategy, Duration budget) {
+        this(strategy, budget, new BasicAIStrategy());
+    }
+
+    /**
+     * @param strategy The strategy making decisions.
+     * @param budget Time allowed for each decision; must be positive.
+     * @param fallback The strategy deciding when {@code strategy} does not.
+     */
+    public DeadlineStrategy(AsyncPlayerStrategy strategy, Duration budget, PlayerStrategy fallback) {
+        this.strategy = Objects.requireNonNull(strategy, "Strategy cannot be null");
+        this.fallback = Objects.requireNonNull(fallback, "Fallback strategy cannot be null");
+        Objects.requireNonNull(budget, "Budget cannot be null");
+        if (budget.isNegative() || budget.isZero()) throw new IllegalArgumentException("Budget must be positive: " + budget);
+        this.budget = budget;
+    }
+
+    @Override
+    public Card chooseCard(UnoGame gameController, Hand hand, List<Card> playableCards, Card topPileCard, Color activeWildColor) {
+        if (playableCards.isEmpty()) return null;
+        UnoGame copy = gameController.copyPosition();
+        List<Card> options = List.copyOf(playableCards);
+        return await(strategy.chooseCardAsync(copy, currentHand(copy), options, topPileCard, activeWildColor),
+                options::contains,
+                () -> fallback.chooseCard(gameController, hand, playableCards, topPileCard, activeWildColor));
+    }
+
+    @Override
+    public Color chooseWildColor(UnoGame gameController, Hand hand) {
+        UnoGame copy = gameController.copyPosition();
+        return await(strategy.chooseWildColorAsync(copy, currentHand(copy)),
+                DeadlineStrategy::isChoosableColor,
+                () -> fallback.chooseWildColor(gameController, hand));
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        strategy.setSeed(seed);
+        fallback.setSeed(seed);
+    }
+
+    private static Hand currentHand(UnoGame game) {
+        return game.getCurrentPlayer().getHand();
+    }
+
+    static boolean isChoosableColor(Color color) {
+        return color != null && color != Color.WILD;
+    }
+
+    private <T> T await(CompletableFuture<T> decision, Predicate<T> valid, Supplier<T> fallbackChoice) {
+        try {
+            T choice = decision.get(budget.toNanos(), TimeUnit.NANOSECONDS);
+            if (choice != null && valid.test(choice)) return choice;
+        } catch (TimeoutException e) {
+            decision.cancel(false);
+            timeouts.increment();
+        } catch (ExecutionException | CancellationException e) {
+            // A failed decision is replaced like a late one
+        } catch (InterruptedException e) {
+            decision.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for a decision");
+        }
+        fallbacks.increment();
+        return fallbackChoice.get();
+    }
+
+    /** @return Decisions that missed their deadline. */
+    public long getTimeouts() { return timeouts.sum(); }
+
+    /** @return Decisions made by the fallback: late, failed or invalid ones. */
+    public long getFallbacks() { return fallbacks.sum(); }
+
+    @Override
+    public String toString() {
+        return "projectone.DeadlineStrategy [budget=" + budget + ", timeouts=" + getTimeouts() + ", fallbacks=" + getFallbacks() + "]";
+    }
+}
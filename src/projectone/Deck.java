@@ -1,10 +1,13 @@
 package projectone;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents the Uno draw deck, containing all playable cards.
  * Supports draw, shuffle, and replenishment logic.
+ * Cards are stored as {@link CardTable} IDs in an {@code int[]} with the top of the
+ * deck at the end, so shuffling, drawing and refilling work on primitives in place.
  *
  * Author: Andrew Nell
  * Student ID: 110450836
@@ -13,8 +16,14 @@ import java.util.*;
  * This is my own work as defined by the University's Academic Integrity Policy.
  */
 public class Deck {
-    private final List<Card> cards;
-    private final Random random;
+    /** Number of cards in a standard Uno deck. */
+    public static final int STANDARD_SIZE = 108;
+    private static final Color[] STANDARD_COLORS = {Color.RED, Color.YELLOW, Color.GREEN, Color.BLUE};
+    private static final Value[] VALUES = Value.values(); // values() clones the array on every call
+
+    private int[] cardIds;
+    private int count; // cardIds[count - 1] is the top card
+    private RandomGenerator random;
 
     /**
      * Constructs a new shuffled deck using a random time-based seed.
@@ -28,42 +37,54 @@ public class Deck {
      * @param seed Random seed for reproducibility.
      */
     public Deck(long seed) {
-        this.cards = new ArrayList<>(108);
-        this.random = new Random(seed);
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructs a new shuffled deck that draws its shuffles from the given generator.
+     * The generator should not be shared with other threads.
+     * @param random Source of randomness for shuffling.
+     */
+    public Deck(RandomGenerator random) {
+        this.random = Objects.requireNonNull(random, "Random generator cannot be null");
+        this.cardIds = new int[STANDARD_SIZE];
         initializeDeck();
         shuffle();
     }
 
+    /**
+     * Fills the deck with the IDs of the standard 108 cards.
+     */
     private void initializeDeck() {
-        cards.clear();
-        Color[] standardColors = {Color.RED, Color.YELLOW, Color.GREEN, Color.BLUE};
-
-        for (Color color : standardColors) {
-            cards.add(new NumberCard(color, Value.ZERO));
-            for (int i = 1; i <= 9; i++) {
-                Value val = Value.values()[i];
-                cards.add(new NumberCard(color, val));
-                cards.add(new NumberCard(color, val));
+        count = 0;
+        for (Color color : STANDARD_COLORS) {
+            cardIds[count++] = CardTable.idOf(color, Value.ZERO);
+            for (int i = 1; i <= Value.DRAW_TWO.ordinal(); i++) { // ONE..NINE, SKIP, REVERSE, DRAW_TWO
+                int id = CardTable.idOf(color, VALUES[i]);
+                cardIds[count++] = id;
+                cardIds[count++] = id;
             }
-            cards.add(new ActionCard(color, Value.SKIP));
-            cards.add(new ActionCard(color, Value.SKIP));
-            cards.add(new ActionCard(color, Value.REVERSE));
-            cards.add(new ActionCard(color, Value.REVERSE));
-            cards.add(new ActionCard(color, Value.DRAW_TWO));
-            cards.add(new ActionCard(color, Value.DRAW_TWO));
         }
 
+        int wild = CardTable.idOf(Color.WILD, Value.WILD);
+        int wildDrawFour = CardTable.idOf(Color.WILD, Value.WILD_DRAW_FOUR);
         for (int i = 0; i < 4; i++) {
-            cards.add(new WildCard(Color.WILD, Value.WILD));
-            cards.add(new WildCard(Color.WILD, Value.WILD_DRAW_FOUR));
+            cardIds[count++] = wild;
+            cardIds[count++] = wildDrawFour;
         }
     }
 
     /**
-     * Shuffles the deck using the internal random generator.
+     * Shuffles the deck in place (Fisher-Yates) using the internal random generator.
      */
     public void shuffle() {
-        Collections.shuffle(cards, random);
+        int[] ids = cardIds;
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = ids[i];
+            ids[i] = ids[j];
+            ids[j] = tmp;
+        }
     }
 
     /**
@@ -73,44 +94,174 @@ public class Deck {
      */
     public Card drawCard() {
         if (isEmpty()) throw new IllegalStateException("Cannot draw from an empty deck.");
-        return cards.remove(cards.size() - 1);
+        return CardTable.byId(cardIds[--count]);
+    }
+
+    /**
+     * Draws the top card's ID.
+     * @return The drawn card's {@link CardTable} ID.
+     * @throws IllegalStateException if the deck is empty.
+     */
+    int drawCardId() {
+        if (isEmpty()) throw new IllegalStateException("Cannot draw from an empty deck.");
+        return cardIds[--count];
+    }
+
+    /**
+     * Puts a card ID back on top of the deck, e.g. when undoing a draw.
+     * @param id The card's {@link CardTable} ID.
+     */
+    void pushCardId(int id) {
+        ensureCapacity(count + 1);
+        cardIds[count++] = id;
+    }
+
+    /**
+     * Refills the deck with the standard 108 cards and shuffles it with a new seed, leaving
+     * it exactly as {@link #Deck(long)} would build it, so a pooled game can reuse the deck.
+     * @param seed Random seed for the new shuffle.
+     */
+    void reset(long seed) {
+        random = new SplittableRandom(seed);
+        initializeDeck();
+        shuffle();
+    }
+
+    /**
+     * Empties the deck, e.g. when undoing a reshuffle that filled it.
+     */
+    void clear() {
+        count = 0;
     }
 
     /**
      * Draws a batch of cards.
+     * Prefer {@link #drawInto(Hand, int)}, which does not build a list.
      * @param numCards How many to draw.
      * @return List of drawn cards.
      */
     public List<Card> drawCards(int numCards) {
-        if (numCards < 0) throw new IllegalArgumentException("Cannot draw negative number of cards.");
-        if (cards.size() < numCards)
-            throw new IllegalStateException("Not enough cards to draw " + numCards);
+        checkDrawable(numCards);
         List<Card> drawn = new ArrayList<>(numCards);
         for (int i = 0; i < numCards; i++) {
-            drawn.add(drawCard());
+            drawn.add(CardTable.byId(cardIds[--count]));
         }
         return drawn;
     }
 
+    /**
+     * Draws a batch of cards straight into a hand, without allocating.
+     * @param hand The hand receiving the cards.
+     * @param numCards How many to draw.
+     * @throws IllegalStateException if fewer than numCards cards remain.
+     */
+    public void drawInto(Hand hand, int numCards) {
+        Objects.requireNonNull(hand, "Cannot draw into a null hand");
+        checkDrawable(numCards);
+        for (int i = 0; i < numCards; i++) {
+            hand.addCardId(cardIds[--count]);
+        }
+    }
+
+    private void checkDrawable(int numCards) {
+        if (numCards < 0) throw new IllegalArgumentException("Cannot draw negative number of cards.");
+        if (count < numCards)
+            throw new IllegalStateException("Not enough cards to draw " + numCards);
+    }
+
+    /**
+     * Puts a single card on top of the deck.
+     * @param card The card to add.
+     */
+    public void addCard(Card card) {
+        Objects.requireNonNull(card, "Cannot add null card");
+        ensureCapacity(count + 1);
+        cardIds[count++] = card.getId();
+    }
+
     /**
      * Adds cards back to the deck (for reshuffling).
      * @param cardsToAdd Cards to reinsert.
      */
     public void addCards(List<Card> cardsToAdd) {
         Objects.requireNonNull(cardsToAdd, "Cannot add null list");
-        cards.addAll(cardsToAdd);
+        ensureCapacity(count + cardsToAdd.size());
+        for (Card card : cardsToAdd) {
+            cardIds[count++] = card.getId();
+        }
+    }
+
+    /**
+     * Appends card IDs to the deck with a single array copy, e.g. when refilling from the discard pile.
+     * @param ids Source array of card IDs.
+     * @param from Index of the first ID to copy.
+     * @param length Number of IDs to copy.
+     */
+    void addCardIds(int[] ids, int from, int length) {
+        ensureCapacity(count + length);
+        System.arraycopy(ids, from, cardIds, count, length);
+        count += length;
+    }
+
+    /**
+     * Moves every card except the pile's top card into this deck and shuffles it.
+     * When the deck is empty, which is the normal case for a reshuffle, the deck and pile
+     * simply exchange backing arrays, so no card IDs are copied and nothing is allocated.
+     * @param pile The discard pile; left holding only its top card.
+     * @return The number of cards moved into the deck.
+     */
+    public int refillFrom(Pile pile) {
+        Objects.requireNonNull(pile, "Cannot refill from a null pile");
+        int moved = pile.getSize() - 1;
+        if (moved <= 0) {
+            return 0;
+        }
+        if (count == 0) {
+            cardIds = pile.swapStorage(cardIds);
+            count = moved;
+        } else {
+            addCardIds(pile.cardIds(), 0, moved);
+            pile.retainTopOnly();
+        }
+        shuffle();
+        return moved;
+    }
+
+    /**
+     * Copies the deck's card IDs, bottom first, into a snapshot array.
+     * @param target Array to copy into; replaced by a larger one if too small.
+     * @return The array holding the copy.
+     */
+    int[] saveTo(int[] target) {
+        return GameState.copyInto(cardIds, count, target);
+    }
+
+    /**
+     * Replaces the deck's contents with a saved order.
+     * @param ids Card IDs, bottom first.
+     * @param length Number of IDs to load.
+     */
+    void loadFrom(int[] ids, int length) {
+        count = 0;
+        addCardIds(ids, 0, length);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > cardIds.length) {
+            cardIds = Arrays.copyOf(cardIds, Math.max(capacity, cardIds.length * 2));
+        }
     }
 
     public boolean isEmpty() {
-        return cards.isEmpty();
+        return count == 0;
     }
 
     public int cardsRemaining() {
-        return cards.size();
+        return count;
     }
 
     @Override
     public String toString() {
         return "projectone.Deck [" + cardsRemaining() + " cards left]";
     }
-}
\ No newline at end of file
+}
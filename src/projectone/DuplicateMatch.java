@@ -0,0 +1,185 @@
+package projectone;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Compares a candidate strategy against a baseline with duplicate deals (common random
+ * numbers). Every deal is played once per seat: the candidate sits in that seat, the
+ * baseline fills the others, and the deck order and each seat's strategy seed are the
+ * same in every rotation. A strong or weak hand is therefore dealt to both strategies
+ * alike, and the per-deal difference in win rate measures skill rather than luck.
+ * Deals are split across a {@link ForkJoinPool} the same way {@link BatchSimulator}
+ * splits games, and the result is identical on any number of threads.
+ */
+public class DuplicateMatch {
+    /** Deals played sequentially by one leaf task before it stops splitting. */
+    private static final int LEAF_DEALS = 64;
+
+    private final Supplier<PlayerStrategy> candidate;
+    private final Supplier<PlayerStrategy> baseline;
+    private final int players;
+    private final ForkJoinPool pool;
+    private int maxTurns = BatchSimulator.DEFAULT_MAX_TURNS;
+
+    /**
+     * Creates a match that runs on the common fork/join pool.
+     * @param candidate Factory for the strategy under test.
+     * @param baseline Factory for the reference strategy.
+     * @param players Players per table, 2 to 4.
+     */
+    public DuplicateMatch(Supplier<PlayerStrategy> candidate, Supplier<PlayerStrategy> baseline, int players) {
+        this(candidate, baseline, players, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param candidate Factory for the strategy under test.
+     * @param baseline Factory for the reference strategy.
+     * @param players Players per table, 2 to 4.
+     * @param pool The pool to run games on.
+     */
+    public DuplicateMatch(Supplier<PlayerStrategy> candidate, Supplier<PlayerStrategy> baseline, int players, ForkJoinPool pool) {
+        this.candidate = Objects.requireNonNull(candidate, "Candidate cannot be null");
+        this.baseline = Objects.requireNonNull(baseline, "Baseline cannot be null");
+        if (players < 2 || players > 4) throw new IllegalArgumentException("Players must be 2 to 4: " + players);
+        this.players = players;
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * Sets the turn limit after which a game is abandoned without a winner.
+     * @param maxTurns The maximum number of turns per game; must be positive.
+     */
+    public void setMaxTurns(int maxTurns) {
+        if (maxTurns <= 0) throw new IllegalArgumentException("Max turns must be positive: " + maxTurns);
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Plays every rotation of a number of deals and waits for the merged result.
+     * @param deals Number of deals; each is played once per seat.
+     * @param masterSeed Seed from which every deal is derived.
+     * @return The aggregated result.
+     */
+    public DuplicateResult run(long deals, long masterSeed) {
+        if (deals < 0) throw new IllegalArgumentException("Cannot play a negative number of deals.");
+        return pool.invoke(new DealRangeTask(new SeedTree(masterSeed), 0, deals));
+    }
+
+    /**
+     * Plays every rotation of one deal.
+     * @param dealSeeds The deal's node in the seed tree.
+     * @return The winning seat of each rotation (-1 if abandoned), indexed by the candidate's seat.
+     */
+    int[] playDeal(SeedTree dealSeeds) {
+        List<String> names = new ArrayList<>(players);
+        for (int seat = 0; seat < players; seat++) {
+            names.add("Seat " + (seat + 1));
+        }
+        List<Supplier<PlayerStrategy>> lineup = new ArrayList<>(Collections.nCopies(players, baseline));
+        int[] winners = new int[players];
+        for (int seat = 0; seat < players; seat++) {
+            lineup.set(seat, candidate);
+            winners[seat] = BatchSimulator.playSeededGame(lineup, names, dealSeeds, maxTurns).getWinnerIndex();
+            lineup.set(seat, baseline);
+        }
+        return winners;
+    }
+
+    @SuppressWarnings("serial")
+    private final class DealRangeTask extends RecursiveTask<DuplicateResult> {
+        private final SeedTree seeds;
+        private final long from;
+        private final long to;
+
+        DealRangeTask(SeedTree seeds, long from, long to) {
+            this.seeds = seeds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected DuplicateResult compute() {
+            if (to - from <= LEAF_DEALS) {
+                DuplicateResult result = new DuplicateResult(players);
+                for (long i = from; i < to; i++) {
+                    result.recordDeal(playDeal(seeds.child(i)));
+                }
+                return result;
+            }
+            long mid = (from + to) >>> 1;
+            DealRangeTask left = new DealRangeTask(seeds, from, mid);
+            left.fork();
+            DuplicateResult right = new DealRangeTask(seeds, mid, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Command-line entry point:
+     * {@code java projectone.DuplicateMatch [--candidate ismcts] [--baseline basic] [--players N] [--deals D] [--seed S] [--threads T]}
+     * @param args Command-line options.
+     */
+    public static void main(String[] args) {
+        String candidateName = "ismcts";
+        String baselineName = "basic";
+        int players = 2;
+        long deals = 1_000;
+        long seed = System.currentTimeMillis();
+        int threads = Runtime.getRuntime().availableProcessors();
+        Supplier<PlayerStrategy> candidate;
+        Supplier<PlayerStrategy> baseline;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (i + 1 >= args.length) throw new IllegalArgumentException("Missing value for " + option);
+                String value = args[++i];
+                switch (option) {
+                    case "--candidate": candidateName = value; break;
+                    case "--baseline": baselineName = value; break;
+                    case "--players": players = Integer.parseInt(value); break;
+                    case "--deals": deals = Long.parseLong(value); break;
+                    case "--seed": seed = Long.parseLong(value); break;
+                    case "--threads": threads = Integer.parseInt(value); break;
+                    default: throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+            candidate = BatchSimulator.NAMED_STRATEGIES.get(candidateName);
+            baseline = BatchSimulator.NAMED_STRATEGIES.get(baselineName);
+            if (candidate == null || baseline == null) {
+                throw new IllegalArgumentException("Unknown strategy. Known: " + BatchSimulator.NAMED_STRATEGIES.keySet());
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: java projectone.DuplicateMatch [--candidate ismcts] [--baseline basic] [--players N]"
+                    + " [--deals D] [--seed S] [--threads T]");
+            System.exit(1);
+            return;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            DuplicateMatch match = new DuplicateMatch(candidate, baseline, players, pool);
+            System.out.println("Playing " + deals + " duplicate deals of " + candidateName + " against " + baselineName
+                    + " at " + players + " seats on " + threads + " threads, seed " + seed);
+            long start = System.nanoTime();
+            DuplicateResult result = match.run(deals, seed);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.println(result);
+            System.out.printf("%.2f s, %.0f games/s%n", seconds, result.getGames() / seconds);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "projectone.DuplicateMatch [players=" + players + ", maxTurns=" + maxTurns + "]";
+    }
+}
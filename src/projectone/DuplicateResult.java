@@ -0,0 +1,139 @@
+package projectone;
+
+/**
+ * Aggregated outcome of a duplicate comparison between a candidate strategy and a baseline.
+ * Each deal is played once per seat, with the candidate in that seat and the baseline in
+ * all the others. The statistic is the candidate's win rate per seat minus the baseline's,
+ * and it is paired: one difference per deal, so the deal's luck, which every rotation
+ * shares, cancels out of the comparison.
+ * Differences are kept in {@link RunningStats}, so workers fill their own instances and
+ * merge them at the end.
+ */
+public class DuplicateResult {
+    /** Two-sided 95% normal quantile. */
+    public static final double Z_95 = 1.959963984540054;
+
+    private final int players;
+    private long deals;
+    private long candidateWins;
+    private long baselineWins;
+    private long abandonedGames;
+    private final RunningStats dealDifferences = new RunningStats();
+    private final RunningStats gameDifferences = new RunningStats();
+
+    /**
+     * Creates an empty result.
+     * @param players Number of players at the table.
+     */
+    public DuplicateResult(int players) {
+        if (players < 2) throw new IllegalArgumentException("A table needs at least 2 seats: " + players);
+        this.players = players;
+    }
+
+    /**
+     * Records every rotation of one deal.
+     * @param winners The winning seat of the game with the candidate at seat {@code s},
+     *                or -1 if that game was abandoned, for each seat {@code s}.
+     */
+    public void recordDeal(int[] winners) {
+        if (winners.length != players) throw new IllegalArgumentException("Expected " + players + " rotations, got " + winners.length);
+        double dealDifference = 0;
+        for (int seat = 0; seat < players; seat++) {
+            double gameDifference;
+            if (winners[seat] < 0) {
+                abandonedGames++;
+                gameDifference = 0;
+            } else if (winners[seat] == seat) {
+                candidateWins++;
+                gameDifference = 1;
+            } else {
+                baselineWins++;
+                gameDifference = -1.0 / (players - 1);
+            }
+            gameDifferences.add(gameDifference);
+            dealDifference += gameDifference;
+        }
+        deals++;
+        dealDifferences.add(dealDifference / players);
+    }
+
+    /**
+     * Adds another result's counts into this one.
+     * @param other Result for the same table size.
+     * @return This result, for chaining.
+     */
+    public DuplicateResult merge(DuplicateResult other) {
+        if (other.players != players) throw new IllegalArgumentException("Cannot merge results for different table sizes");
+        deals += other.deals;
+        candidateWins += other.candidateWins;
+        baselineWins += other.baselineWins;
+        abandonedGames += other.abandonedGames;
+        dealDifferences.merge(other.dealDifferences);
+        gameDifferences.merge(other.gameDifferences);
+        return this;
+    }
+
+    public int getPlayers() { return players; }
+    public long getDeals() { return deals; }
+    public long getGames() { return deals * players; }
+    public long getCandidateWins() { return candidateWins; }
+    public long getBaselineWins() { return baselineWins; }
+    public long getAbandonedGames() { return abandonedGames; }
+
+    /** @return Fraction of games the candidate won, or 0 if none were played. */
+    public double getCandidateWinRate() {
+        return deals == 0 ? 0.0 : (double) candidateWins / getGames();
+    }
+
+    /** @return Fraction of games each baseline seat won on average, or 0 if none were played. */
+    public double getBaselineWinRate() {
+        return deals == 0 ? 0.0 : (double) baselineWins / (getGames() * (players - 1));
+    }
+
+    /** @return Mean paired difference: candidate win rate minus baseline win rate per seat. */
+    public double getMeanDifference() {
+        return dealDifferences.getMean();
+    }
+
+    /** @return Standard error of {@link #getMeanDifference()} from the per-deal differences. */
+    public double getStandardError() {
+        return dealDifferences.getStandardError();
+    }
+
+    /**
+     * @return Standard error the same number of games would give if every game had its
+     *         own deal, estimated from the per-game differences.
+     */
+    public double getIndependentStandardError() {
+        return gameDifferences.getStandardError();
+    }
+
+    /**
+     * @return How many times fewer games duplicate play needs than independent games
+     *         for the same precision, or NaN before there is enough data.
+     */
+    public double getVarianceReduction() {
+        double paired = getStandardError();
+        double independent = getIndependentStandardError();
+        return paired > 0 ? (independent * independent) / (paired * paired) : Double.NaN;
+    }
+
+    /**
+     * @param z Normal quantile for the confidence level, e.g. {@link #Z_95}.
+     * @return The interval {@code {low, high}} around the mean difference.
+     */
+    public double[] getConfidenceInterval(double z) {
+        double mean = getMeanDifference();
+        double halfWidth = z * getStandardError();
+        return new double[] {mean - halfWidth, mean + halfWidth};
+    }
+
+    @Override
+    public String toString() {
+        double[] interval = getConfidenceInterval(Z_95);
+        return String.format("projectone.DuplicateResult [deals=%d, games=%d, candidate win rate=%.2f%%, baseline win rate=%.2f%%,"
+                        + " difference=%+.4f, 95%% CI=[%+.4f, %+.4f], abandoned=%d, variance reduction=%.2fx]",
+                deals, getGames(), 100 * getCandidateWinRate(), 100 * getBaselineWinRate(),
+                getMeanDifference(), interval[0], interval[1], abandonedGames, getVarianceReduction());
+    }
+}
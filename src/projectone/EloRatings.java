@@ -0,0 +1,88 @@
+package projectone;
+
+import java.util.Arrays;
+
+/**
+ * Elo ratings for a fixed set of entrants, updated one multiplayer game at a time and
+ * safe to update and read from many threads.
+ * A game with {@code k} players counts as {@code k - 1} pairings for each player: the
+ * winner beats everyone else, the others draw among themselves, and every pairing moves
+ * ratings by {@code K / (k - 1)} times the usual Elo step, so a table of any size moves
+ * a player by at most K. A game abandoned without a winner is a draw for everyone.
+ * Updates are zero-sum, so the average rating never changes.
+ */
+public class EloRatings {
+    /** Rating every entrant starts at. */
+    public static final double INITIAL_RATING = 1500.0;
+    /** Default maximum rating change per game. */
+    public static final double DEFAULT_K = 16.0;
+
+    private final double[] ratings;
+    private final double k;
+
+    /**
+     * @param entrants Number of rated entrants.
+     */
+    public EloRatings(int entrants) {
+        this(entrants, DEFAULT_K);
+    }
+
+    /**
+     * @param entrants Number of rated entrants.
+     * @param k Maximum rating change per game.
+     */
+    public EloRatings(int entrants, double k) {
+        if (entrants < 2) throw new IllegalArgumentException("Need at least 2 entrants: " + entrants);
+        if (!(k > 0)) throw new IllegalArgumentException("K must be positive: " + k);
+        this.ratings = new double[entrants];
+        this.k = k;
+        Arrays.fill(ratings, INITIAL_RATING);
+    }
+
+    /**
+     * Probability that a player rated {@code a} beats one rated {@code b}.
+     */
+    static double expectedScore(double a, double b) {
+        return 1.0 / (1.0 + Math.pow(10.0, (b - a) / 400.0));
+    }
+
+    /**
+     * Updates the ratings of everyone at a table from one game's result.
+     * @param entrantsBySeat The entrant index sitting at each seat.
+     * @param winnerSeat The winning seat, or -1 if the game had no winner.
+     */
+    public synchronized void recordGame(int[] entrantsBySeat, int winnerSeat) {
+        int players = entrantsBySeat.length;
+        double step = k / (players - 1);
+        double[] delta = new double[players];
+        for (int i = 0; i < players; i++) {
+            for (int j = i + 1; j < players; j++) {
+                double score = i == winnerSeat ? 1.0 : j == winnerSeat ? 0.0 : 0.5;
+                double change = step * (score - expectedScore(ratings[entrantsBySeat[i]], ratings[entrantsBySeat[j]]));
+                delta[i] += change;
+                delta[j] -= change;
+            }
+        }
+        for (int i = 0; i < players; i++) {
+            ratings[entrantsBySeat[i]] += delta[i];
+        }
+    }
+
+    /**
+     * @param entrant An entrant index.
+     * @return That entrant's current rating.
+     */
+    public synchronized double getRating(int entrant) {
+        return ratings[entrant];
+    }
+
+    /** @return A consistent copy of every rating. */
+    public synchronized double[] snapshot() {
+        return ratings.clone();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "projectone.EloRatings " + Arrays.toString(ratings);
+    }
+}
@@ -0,0 +1,284 @@
+package projectone;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Solves Uno positions exactly when every hand and the deck order are known, which is
+ * practical once few cards remain.
+ * The search is alpha-beta over {@link Move}s, walking a headless copy of the game with
+ * {@link UnoGame#apply(Move)} and {@link UnoGame#undo()}. With two players it is plain
+ * minimax; with more it is the paranoid variant, where every opponent is assumed to play
+ * against the player to move at the root. Values are from that player's side: {@link #WIN}
+ * and {@code -WIN} are proven results, anything in between is a heuristic estimate from a
+ * line cut off by the depth limit or by a reshuffle (whose order is random).
+ * The root moves are searched in parallel on a {@link ForkJoinPool}: the most promising move
+ * first, to set a bound, then the rest at once against that bound. Moves are ordered by the
+ * shared {@link TranspositionTable}'s best move, then action cards, then wild cards last.
+ * Table keys combine the position's Zobrist hash with a hash of the root's deck order and
+ * pile, so a table shared across solves and solvers never answers for another deal.
+ */
+public class EndgameSolver {
+    /** Value of a proven win for the root player. */
+    public static final int WIN = 1_000_000;
+    private static final int DEFAULT_TABLE_ENTRIES = 1 << 20;
+
+    private final int maxDepth;
+    private final ForkJoinPool pool;
+    private final TranspositionTable table;
+
+    /**
+     * Creates a solver on the common fork/join pool with its own transposition table.
+     * @param maxDepth Plies searched before a line is scored heuristically; 1 to 255.
+     */
+    public EndgameSolver(int maxDepth) {
+        this(maxDepth, ForkJoinPool.commonPool(), new TranspositionTable(DEFAULT_TABLE_ENTRIES));
+    }
+
+    /**
+     * @param maxDepth Plies searched before a line is scored heuristically; 1 to 255.
+     * @param pool The pool the root moves are searched on.
+     * @param table Cache of searched positions, which may be shared with other solvers.
+     */
+    public EndgameSolver(int maxDepth, ForkJoinPool pool, TranspositionTable table) {
+        if (maxDepth < 1 || maxDepth > 255) throw new IllegalArgumentException("Max depth must be 1 to 255: " + maxDepth);
+        this.maxDepth = maxDepth;
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+        this.table = Objects.requireNonNull(table, "Transposition table cannot be null");
+    }
+
+    /**
+     * The solver's verdict on a position.
+     */
+    public static final class Result {
+        private final Move bestMove;
+        private final int value;
+
+        Result(Move bestMove, int value) {
+            this.bestMove = bestMove;
+            this.value = value;
+        }
+
+        /** @return The best move for the player to move, with its wild color if it plays a wild card. */
+        public Move getBestMove() { return bestMove; }
+
+        /** @return The position's value for the player to move, between -WIN and WIN. */
+        public int getValue() { return value; }
+
+        /** @return true if the player to move can force a win. */
+        public boolean isProvenWin() { return value >= WIN; }
+
+        /** @return true if the opponents can force the player to move to lose. */
+        public boolean isProvenLoss() { return value <= -WIN; }
+
+        @Override
+        public String toString() {
+            return "projectone.EndgameSolver.Result [move=" + bestMove + ", value=" + value + "]";
+        }
+    }
+
+    /**
+     * Finds the best move for the current player. The game itself is not changed.
+     * @param game A running game whose hands and deck are treated as known.
+     * @return The best move and its value.
+     * @throws IllegalStateException if the game is over.
+     */
+    public Result solve(UnoGame game) {
+        List<Move> moves = new ArrayList<>(game.legalMoves());
+        if (moves.isEmpty()) throw new IllegalStateException("Cannot solve a finished game");
+        GameState root = game.snapshot();
+        int rootSeat = game.getCurrentPlayerIndex();
+        long rootSalt = rootSalt(root, rootSeat);
+        long rootKey = game.getZobristHash() ^ rootSalt;
+        Move[] ordered = moves.toArray(new Move[0]);
+        orderMoves(ordered, ordered.length, TranspositionTable.bestMove(table.probe(rootKey)));
+
+        RootTask first = new RootTask(root, rootSeat, rootSalt, ordered[0], -WIN, WIN);
+        int bestValue = first.invokeOnPool();
+        Move best = ordered[0];
+        if (bestValue < WIN && ordered.length > 1) {
+            List<RootTask> rest = new ArrayList<>(ordered.length - 1);
+            for (int i = 1; i < ordered.length; i++) {
+                rest.add(new RootTask(root, rootSeat, rootSalt, ordered[i], bestValue, WIN));
+            }
+            invokeAll(rest);
+            for (RootTask task : rest) {
+                int value = task.join();
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = task.move;
+                }
+            }
+        }
+        table.store(rootKey, bestValue, maxDepth, TranspositionTable.EXACT, best);
+        return new Result(best, bestValue);
+    }
+
+    private void invokeAll(List<RootTask> tasks) {
+        if (ForkJoinTask.inForkJoinPool()) {
+            ForkJoinTask.invokeAll(tasks);
+        } else {
+            pool.invoke(new RecursiveTask<Void>() {
+                @Override
+                protected Void compute() {
+                    invokeAll(tasks);
+                    return null;
+                }
+            });
+        }
+    }
+
+    /**
+     * Hashes what a position's Zobrist hash leaves out, and whose side the values are from.
+     * The hash covers the hands, the top card and the deck size, but not the deck order or
+     * the cards under the top card. Within one search those follow from the position, since
+     * cards only leave the top of the root's deck and land on the root's pile (a reshuffle
+     * ends the line), but two roots can share a position hash and differ in both.
+     */
+    static long rootSalt(GameState root, int rootSeat) {
+        long hash = SeedTree.mix((rootSeat + 1) * 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < root.deckCount; i++) hash = SeedTree.mix(hash + root.deckIds[i] + 1);
+        hash = SeedTree.mix(hash ^ root.deckCount);
+        for (int i = 0; i < root.pileSize; i++) hash = SeedTree.mix(hash + root.pileIds[i] + 1);
+        return SeedTree.mix(hash ^ root.pileSize);
+    }
+
+    /** Searches one root move on its own copy of the game. */
+    @SuppressWarnings("serial")
+    private final class RootTask extends RecursiveTask<Integer> {
+        private final GameState root;
+        private final int rootSeat;
+        private final long rootSalt;
+        private final Move move;
+        private final int alpha;
+        private final int beta;
+        private UnoGame game;
+        private Move[][] moveBuffers;
+        private int rootReshuffles;
+
+        RootTask(GameState root, int rootSeat, long rootSalt, Move move, int alpha, int beta) {
+            this.root = root;
+            this.rootSeat = rootSeat;
+            this.rootSalt = rootSalt;
+            this.move = move;
+            this.alpha = alpha;
+            this.beta = beta;
+        }
+
+        int invokeOnPool() {
+            return ForkJoinTask.inForkJoinPool() ? invoke() : pool.invoke(this);
+        }
+
+        @Override
+        protected Integer compute() {
+            game = UnoGame.newSearchGame(root.getPlayerCount());
+            game.restore(root);
+            rootReshuffles = game.getReshuffleCount();
+            moveBuffers = new Move[maxDepth][Move.COUNT];
+            game.apply(move);
+            return search(maxDepth - 1, alpha, beta);
+        }
+
+        private int search(int depth, int alpha, int beta) {
+            if (!game.isGameRunning()) {
+                return game.getWinnerIndex() == rootSeat ? WIN : -WIN;
+            }
+            if (depth == 0 || game.getReshuffleCount() != rootReshuffles) {
+                return evaluate();
+            }
+
+            long key = game.getZobristHash() ^ rootSalt;
+            long entry = table.probe(key);
+            Move tableMove = null;
+            if (entry != TranspositionTable.MISS) {
+                tableMove = TranspositionTable.bestMove(entry);
+                if (TranspositionTable.depth(entry) >= depth) {
+                    int value = TranspositionTable.value(entry);
+                    int bound = TranspositionTable.bound(entry);
+                    if (bound == TranspositionTable.EXACT
+                            || (bound == TranspositionTable.LOWER_BOUND && value >= beta)
+                            || (bound == TranspositionTable.UPPER_BOUND && value <= alpha)) {
+                        return value;
+                    }
+                }
+            }
+
+            Move[] moves = moveBuffers[depth];
+            int n = game.legalMoves(moves);
+            orderMoves(moves, n, tableMove);
+            boolean maximizing = game.getCurrentPlayerIndex() == rootSeat;
+            int originalAlpha = alpha;
+            int originalBeta = beta;
+            int best = maximizing ? -WIN - 1 : WIN + 1;
+            Move bestMove = moves[0];
+            for (int i = 0; i < n; i++) {
+                game.apply(moves[i]);
+                int value = search(depth - 1, alpha, beta);
+                game.undo();
+                if (maximizing ? value > best : value < best) {
+                    best = value;
+                    bestMove = moves[i];
+                }
+                if (maximizing) alpha = Math.max(alpha, value);
+                else beta = Math.min(beta, value);
+                if (alpha >= beta) break;
+            }
+
+            int bound = best <= originalAlpha ? TranspositionTable.UPPER_BOUND
+                    : best >= originalBeta ? TranspositionTable.LOWER_BOUND
+                    : TranspositionTable.EXACT;
+            table.store(key, best, depth, bound, bestMove);
+            return best;
+        }
+
+        /**
+         * Scores an unfinished position by hand sizes: the root player's cards against
+         * the fewest held by any opponent. Always strictly between -WIN and WIN.
+         */
+        private int evaluate() {
+            List<Player> players = game.getPlayers();
+            int own = players.get(rootSeat).getHand().getSize();
+            int fewest = Integer.MAX_VALUE;
+            for (int seat = 0; seat < players.size(); seat++) {
+                if (seat != rootSeat) fewest = Math.min(fewest, players.get(seat).getHand().getSize());
+            }
+            return (fewest - own) * 100;
+        }
+    }
+
+    /**
+     * Sorts moves so the likeliest best come first: the table's move, then cards with
+     * effects, then plain cards, then wild cards (worth keeping), then draw and pass.
+     */
+    static void orderMoves(Move[] moves, int n, Move first) {
+        for (int i = 1; i < n; i++) {
+            Move move = moves[i];
+            int score = orderScore(move, first);
+            int j = i - 1;
+            while (j >= 0 && orderScore(moves[j], first) < score) {
+                moves[j + 1] = moves[j];
+                j--;
+            }
+            moves[j + 1] = move;
+        }
+    }
+
+    private static int orderScore(Move move, Move first) {
+        if (move == first) return 5;
+        if (move.getType() != Move.Type.PLAY) return 0;
+        switch (move.getCard().getValue()) {
+            case SKIP: case REVERSE: case DRAW_TWO: return 4;
+            case WILD: case WILD_DRAW_FOUR: return 2;
+            default: return 3;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "projectone.EndgameSolver [maxDepth=" + maxDepth + ", table=" + table + "]";
+    }
+}
@@ -0,0 +1,109 @@
+package projectone;
+
+/**
+ * Receives typed notifications of everything that happens during an {@link UnoGame}.
+ * All methods default to doing nothing, so implementations override only the events
+ * they care about. {@link #NONE} ignores every event, which makes a game fully
+ * headless: no I/O and no message building.
+ */
+public interface GameEventListener {
+    /** A listener that ignores every event. */
+    GameEventListener NONE = new GameEventListener() {};
+
+    /**
+     * Called once the initial hands have been dealt.
+     * @param game The game.
+     * @param cardsPerPlayer Cards dealt to each player.
+     */
+    default void onHandsDealt(UnoGame game, int cardsPerPlayer) {}
+
+    /**
+     * Called for each card flipped to start the pile, including rejected ones.
+     * @param card The flipped card.
+     * @param accepted false if the card cannot start the pile and is returned to the deck.
+     */
+    default void onInitialCardFlipped(Card card, boolean accepted) {}
+
+    /**
+     * Called when play begins, after dealing and flipping the starting card.
+     * @param game The game.
+     */
+    default void onGameStart(UnoGame game) {}
+
+    /**
+     * Called at the start of a player's turn, unless the turn is skipped.
+     * @param game The game, for inspecting the pile and hands.
+     * @param player The player about to act.
+     */
+    default void onTurnStart(UnoGame game, Player player) {}
+
+    /**
+     * Called instead of {@link #onTurnStart} when a player's turn is skipped.
+     * @param player The skipped player.
+     */
+    default void onPlayerSkipped(Player player) {}
+
+    /**
+     * Called when a player with no valid cards draws one.
+     * @param player The drawing player.
+     * @param card The card drawn.
+     */
+    default void onCardDrawn(Player player, Card card) {}
+
+    /**
+     * Called when a player is forced to draw by a Draw Two or Wild Draw Four.
+     * @param player The drawing player.
+     * @param count Cards the player was required to draw.
+     */
+    default void onCardsDrawn(Player player, int count) {}
+
+    /**
+     * Called when a card is played onto the pile, before its effect is applied.
+     * @param player The player.
+     * @param card The card played.
+     */
+    default void onCardPlayed(Player player, Card card) {}
+
+    /**
+     * Called when a player ends a turn without playing.
+     * @param player The player.
+     */
+    default void onTurnPassed(Player player) {}
+
+    /**
+     * Called when the direction of play changes.
+     * @param clockwise The new direction.
+     */
+    default void onDirectionReversed(boolean clockwise) {}
+
+    /**
+     * Called when a color is chosen for a wild card, including a wild starting card.
+     * @param player The choosing player.
+     * @param color The chosen color.
+     */
+    default void onWildColorChosen(Player player, Color color) {}
+
+    /**
+     * Called after the discard pile has been shuffled back into the empty deck.
+     * @param cardsInDeck Cards in the deck after reshuffling.
+     */
+    default void onReshuffle(int cardsInDeck) {}
+
+    /**
+     * Called when a player empties their hand.
+     * @param winner The winning player.
+     */
+    default void onGameWon(Player winner) {}
+
+    /**
+     * Called when the game loop ends, whether or not there is a winner.
+     * @param game The game.
+     */
+    default void onGameOver(UnoGame game) {}
+
+    /**
+     * Called when the game cannot continue because of an unrecoverable error.
+     * @param message Description of the error.
+     */
+    default void onError(String message) {}
+}
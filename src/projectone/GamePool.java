@@ -0,0 +1,98 @@
+package projectone;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Recycles finished headless games, so a busy service does not rebuild a deck, pile,
+ * hands and undo journal for every table. A game acquired from the pool behaves exactly
+ * like a new {@link UnoGame} with the same arguments.
+ * Games are pooled by number of seats, up to a limit per size; beyond it, released
+ * games are left to the garbage collector. The pool is safe to share between threads.
+ * A released game must not be used again by whoever released it.
+ */
+public class GamePool {
+    private static final int MAX_PLAYERS = 4;
+
+    private final List<ConcurrentLinkedQueue<UnoGame>> idle = new ArrayList<>(MAX_PLAYERS + 1); // by table size
+    private final AtomicIntegerArray idleCounts = new AtomicIntegerArray(MAX_PLAYERS + 1);
+    private final int maxIdlePerSize;
+    private final LongAdder created = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+
+    /**
+     * @param maxIdlePerSize Most idle games kept for each table size; must not be negative.
+     */
+    public GamePool(int maxIdlePerSize) {
+        if (maxIdlePerSize < 0) throw new IllegalArgumentException("Max idle games cannot be negative: " + maxIdlePerSize);
+        this.maxIdlePerSize = maxIdlePerSize;
+        for (int size = 0; size <= MAX_PLAYERS; size++) idle.add(new ConcurrentLinkedQueue<>());
+    }
+
+    /**
+     * Takes an idle game for this many players and resets it, or creates one.
+     * @param strategies One strategy per player.
+     * @param names One name per player.
+     * @param deckSeed Seed for the deck shuffle.
+     * @param listener Receiver of game events.
+     * @return A game ready to {@link UnoGame#run() run}.
+     */
+    public UnoGame acquire(List<PlayerStrategy> strategies, List<String> names, long deckSeed, GameEventListener listener) {
+        Objects.requireNonNull(names, "Names cannot be null");
+        int size = names.size();
+        UnoGame game = size >= 2 && size <= MAX_PLAYERS ? idle.get(size).poll() : null;
+        if (game == null) {
+            created.increment();
+            return new UnoGame(strategies, names, deckSeed, listener);
+        }
+        idleCounts.decrementAndGet(size);
+        try {
+            game.reset(strategies, names, deckSeed, listener);
+        } catch (RuntimeException e) {
+            release(game); // the arguments were bad, not the game
+            throw e;
+        }
+        reused.increment();
+        return game;
+    }
+
+    /**
+     * Returns a game to the pool once nobody will touch it again. A game that is still
+     * running is dropped, since another thread may still be playing it.
+     * @param game The finished game.
+     */
+    public void release(UnoGame game) {
+        Objects.requireNonNull(game, "Game cannot be null");
+        int size = game.getNumberOfPlayers();
+        if (game.isGameRunning() || size > MAX_PLAYERS || game.getHumanInteractionScanner() != null) return;
+        if (idleCounts.incrementAndGet(size) > maxIdlePerSize) {
+            idleCounts.decrementAndGet(size);
+            return;
+        }
+        game.detachListener();
+        idle.get(size).add(game); // reset when next acquired
+    }
+
+    /** @return Games built because none was idle. */
+    public long getCreated() { return created.sum(); }
+
+    /** @return Games handed out again after a reset. */
+    public long getReused() { return reused.sum(); }
+
+    /**
+     * @param players Table size.
+     * @return Idle games for that table size.
+     */
+    public int getIdle(int players) {
+        return players >= 2 && players <= MAX_PLAYERS ? idleCounts.get(players) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "projectone.GamePool [created=" + getCreated() + ", reused=" + getReused() + "]";
+    }
+}
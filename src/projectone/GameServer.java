@@ -0,0 +1,235 @@
+package projectone;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hosts many games at once, each on its own virtual thread.
+ * A table's game runs its ordinary blocking loop: AI strategies compute on the table's
+ * thread, and human decisions from a {@link QueuedHumanStrategy} park it until they
+ * arrive, which costs a few hundred bytes of heap rather than a platform thread. Tables
+ * share nothing but the server's counters, so an exception in one table fails only that
+ * table.
+ * {@link #shutdown()} stops new tables and lets open ones finish; {@link #shutdownNow()}
+ * also cancels them by interrupting their threads. A cancelled table stops at its next
+ * turn or at the decision it is waiting for.
+ */
+public class GameServer implements AutoCloseable {
+    /** Lifecycle of one table. */
+    public enum TableState { RUNNING, FINISHED, CANCELLED, FAILED }
+
+    private static final GameEventListener LOGGING = new LoggingGameEventListener(); // stateless, so shared by all tables
+
+    private final ExecutorService executor;
+    private final Map<Long, Table> openTables = new ConcurrentHashMap<>();
+    private final AtomicLong nextTableId = new AtomicLong(1);
+    private final AtomicInteger activeTables = new AtomicInteger();
+    private final AtomicInteger peakActiveTables = new AtomicInteger();
+    private final LongAdder finishedTables = new LongAdder();
+    private volatile boolean shuttingDown;
+
+    public GameServer() {
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("uno-table-", 1).factory());
+    }
+
+    /**
+     * One game hosted by the server.
+     */
+    public final class Table {
+        private final long id;
+        private final UnoGame game;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final AtomicReference<TableState> state = new AtomicReference<>(TableState.RUNNING);
+        private volatile Throwable failure;
+        private volatile Thread thread;
+
+        private Table(long id, UnoGame game) {
+            this.id = id;
+            this.game = game;
+        }
+
+        private void run() {
+            thread = Thread.currentThread();
+            try {
+                if (state.get() != TableState.RUNNING) throw new CancellationException("Table cancelled before it started");
+                game.run();
+                finish(TableState.FINISHED, null);
+            } catch (CancellationException e) {
+                finish(TableState.CANCELLED, null);
+            } catch (Throwable t) {
+                finish(TableState.FAILED, t);
+            }
+        }
+
+        private void finish(TableState outcome, Throwable cause) {
+            failure = cause;
+            state.compareAndSet(TableState.RUNNING, outcome);
+            openTables.remove(id);
+            activeTables.decrementAndGet();
+            if (state.get() == TableState.FINISHED) finishedTables.increment();
+            done.countDown();
+        }
+
+        public long getId() { return id; }
+        public TableState getState() { return state.get(); }
+
+        /** @return The exception that failed the table, or null. */
+        public Throwable getFailure() { return failure; }
+
+        /**
+         * @return The winning seat, or -1 if the game was abandoned or has not finished.
+         */
+        public int getWinnerIndex() {
+            return state.get() == TableState.FINISHED ? game.getWinnerIndex() : -1;
+        }
+
+        /**
+         * Cancels the table by interrupting its thread. Does nothing once the table has ended.
+         */
+        public void cancel() {
+            if (!state.compareAndSet(TableState.RUNNING, TableState.CANCELLED)) return;
+            Thread t = thread;
+            if (t != null) t.interrupt(); // otherwise run() sees the state when it starts
+        }
+
+        /**
+         * Waits for the table to end.
+         * @param timeout Longest wait.
+         * @return true if the table ended, false on timeout.
+         * @throws InterruptedException if the calling thread is interrupted while waiting.
+         */
+        public boolean await(Duration timeout) throws InterruptedException {
+            return done.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public String toString() {
+            return "projectone.GameServer.Table [id=" + id + ", state=" + state.get() + "]";
+        }
+    }
+
+    /**
+     * Opens a table and starts its game, logging its events through SLF4J with a
+     * {@link LoggingGameEventListener}.
+     * @param strategies One strategy per seat; each table needs its own instances.
+     * @param names One player name per seat.
+     * @param deckSeed Seed for the deck shuffle.
+     * @return The running table.
+     * @throws IllegalStateException if the server is shutting down.
+     */
+    public Table openTable(List<PlayerStrategy> strategies, List<String> names, long deckSeed) {
+        return openTable(strategies, names, deckSeed, LOGGING);
+    }
+
+    /**
+     * Opens a table and starts its game, reporting its events to a listener. The listener
+     * is called on the table's thread.
+     * @param strategies One strategy per seat; each table needs its own instances.
+     * @param names One player name per seat.
+     * @param deckSeed Seed for the deck shuffle.
+     * @param listener Receiver of this table's events.
+     * @return The running table.
+     * @throws IllegalStateException if the server is shutting down.
+     */
+    public Table openTable(List<PlayerStrategy> strategies, List<String> names, long deckSeed, GameEventListener listener) {
+        Objects.requireNonNull(listener, "Event listener cannot be null");
+        if (shuttingDown) throw new IllegalStateException("Server is shutting down");
+        UnoGame game = new UnoGame(strategies, names, deckSeed, new CompositeGameEventListener(listener, CANCELLATION_CHECK));
+        Table table = new Table(nextTableId.getAndIncrement(), game);
+        openTables.put(table.id, table);
+        peakActiveTables.accumulateAndGet(activeTables.incrementAndGet(), Math::max);
+        try {
+            executor.execute(table::run);
+        } catch (RejectedExecutionException e) {
+            table.finish(TableState.CANCELLED, null);
+            throw new IllegalStateException("Server is shutting down", e);
+        }
+        return table;
+    }
+
+    /** Stops a cancelled table at the start of its next turn. */
+    private static final GameEventListener CANCELLATION_CHECK = new GameEventListener() {
+        @Override
+        public void onTurnStart(UnoGame game, Player player) {
+            if (Thread.currentThread().isInterrupted()) throw new CancellationException("Table cancelled");
+        }
+    };
+
+    /** @return Tables currently running. */
+    public int getActiveTables() { return activeTables.get(); }
+
+    /** @return Most tables that were running at the same time. */
+    public int getPeakActiveTables() { return peakActiveTables.get(); }
+
+    /** @return Tables whose game ran to the end. */
+    public long getFinishedTables() { return finishedTables.sum(); }
+
+    /** @return A snapshot of the running tables. */
+    public List<Table> getOpenTables() {
+        return new ArrayList<>(openTables.values());
+    }
+
+    /**
+     * Stops accepting tables. Open tables keep running until their games end.
+     */
+    public void shutdown() {
+        shuttingDown = true;
+        executor.shutdown();
+    }
+
+    /**
+     * Stops accepting tables and cancels every open one.
+     */
+    public void shutdownNow() {
+        shuttingDown = true;
+        for (Table table : openTables.values()) table.cancel();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Waits for every table to end after a shutdown.
+     * @param timeout Longest wait.
+     * @return true if all tables ended, false on timeout.
+     * @throws InterruptedException if the calling thread is interrupted while waiting.
+     */
+    public boolean awaitTermination(Duration timeout) throws InterruptedException {
+        return executor.awaitTermination(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Shuts down gracefully, waiting for open tables to finish. If the wait is interrupted,
+     * the remaining tables are cancelled.
+     */
+    @Override
+    public void close() {
+        shutdown();
+        try {
+            while (!awaitTermination(Duration.ofDays(1))) {
+                // keep waiting
+            }
+        } catch (InterruptedException e) {
+            shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "projectone.GameServer [active=" + getActiveTables() + ", peak=" + getPeakActiveTables()
+                + ", finished=" + getFinishedTables() + "]";
+    }
+}
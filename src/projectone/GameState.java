@@ -0,0 +1,158 @@
+package projectone;
+
+import java.util.Arrays;
+
+/**
+ * Compact copy of everything needed to resume an {@link UnoGame}: the deck order, the
+ * discard pile, each hand's per-card-type counts, and the turn state.
+ * The cards are held in a few primitive arrays, so taking or restoring a snapshot is a
+ * handful of {@link System#arraycopy} calls. A state can be reused for repeated
+ * snapshots of games with the same number of players without allocating.
+ * The deck's random generator is not part of the state: restoring does not rewind
+ * future reshuffles.
+ */
+public final class GameState {
+    final int players;
+    int[] deckIds;
+    int deckCount;
+    int[] pileIds;
+    int pileSize;
+    final int[] handCounts; // players * CardTable.SIZE, one block of counts per seat
+    int currentPlayerIndex;
+    boolean clockwise;
+    int activeWildColor; // Color ordinal, or -1 for none
+    boolean skipPending;
+    boolean running;
+    int winnerIndex;
+    int turnCount;
+    int reshuffleCount;
+    int drawnCardId = -1; // Card drawn by a DRAW move that its player may still play, or -1
+
+    /**
+     * Creates an empty state for a table of the given size.
+     * @param players Number of players.
+     */
+    public GameState(int players) {
+        if (players < 2) throw new IllegalArgumentException("A game needs at least 2 players: " + players);
+        this.players = players;
+        this.deckIds = new int[Deck.STANDARD_SIZE];
+        this.pileIds = new int[Deck.STANDARD_SIZE];
+        this.handCounts = new int[players * CardTable.SIZE];
+    }
+
+    /**
+     * @return An independent copy of this state.
+     */
+    public GameState copy() {
+        GameState copy = new GameState(players);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    /**
+     * Overwrites this state with another, reusing this state's arrays where they are large enough.
+     * @param other A state for the same number of players.
+     */
+    public void copyFrom(GameState other) {
+        if (other.players != players) {
+            throw new IllegalArgumentException("Cannot copy a " + other.players + "-player state into a " + players + "-player state");
+        }
+        deckIds = copyInto(other.deckIds, other.deckCount, deckIds);
+        deckCount = other.deckCount;
+        pileIds = copyInto(other.pileIds, other.pileSize, pileIds);
+        pileSize = other.pileSize;
+        System.arraycopy(other.handCounts, 0, handCounts, 0, handCounts.length);
+        currentPlayerIndex = other.currentPlayerIndex;
+        clockwise = other.clockwise;
+        activeWildColor = other.activeWildColor;
+        skipPending = other.skipPending;
+        running = other.running;
+        winnerIndex = other.winnerIndex;
+        turnCount = other.turnCount;
+        reshuffleCount = other.reshuffleCount;
+        drawnCardId = other.drawnCardId;
+    }
+
+    /**
+     * Copies the first {@code length} ints of {@code source} into {@code target}, growing it if needed.
+     * @return The array now holding the copy.
+     */
+    static int[] copyInto(int[] source, int length, int[] target) {
+        if (target.length < length) {
+            target = new int[Math.max(length, target.length * 2)];
+        }
+        System.arraycopy(source, 0, target, 0, length);
+        return target;
+    }
+
+    public int getPlayerCount() { return players; }
+    public int getDeckCount() { return deckCount; }
+    public int getPileSize() { return pileSize; }
+    public int getCurrentPlayerIndex() { return currentPlayerIndex; }
+    public boolean isClockwise() { return clockwise; }
+    public boolean isSkipPending() { return skipPending; }
+    public boolean isRunning() { return running; }
+    public int getWinnerIndex() { return winnerIndex; }
+
+    /** @return The chosen wild color, or null if none is active. */
+    public Color getActiveWildColor() {
+        return activeWildColor < 0 ? null : Color.values()[activeWildColor];
+    }
+
+    /** @return The card on top of the pile, or null if the pile is empty. */
+    public Card getTopCard() {
+        return pileSize == 0 ? null : CardTable.byId(pileIds[pileSize - 1]);
+    }
+
+    /**
+     * @param seat The player's seat.
+     * @return The number of cards that player holds.
+     */
+    public int getHandSize(int seat) {
+        int size = 0;
+        for (int i = seat * CardTable.SIZE, end = i + CardTable.SIZE; i < end; i++) {
+            size += handCounts[i];
+        }
+        return size;
+    }
+
+    /**
+     * @param seat The player's seat.
+     * @param cardId The card type.
+     * @return How many cards of that type the player holds.
+     */
+    public int getHandCount(int seat, int cardId) {
+        return handCounts[seat * CardTable.SIZE + cardId];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof GameState)) return false;
+        GameState s = (GameState) o;
+        return players == s.players && deckCount == s.deckCount && pileSize == s.pileSize
+                && currentPlayerIndex == s.currentPlayerIndex && clockwise == s.clockwise
+                && activeWildColor == s.activeWildColor && skipPending == s.skipPending
+                && running == s.running && winnerIndex == s.winnerIndex
+                && turnCount == s.turnCount && reshuffleCount == s.reshuffleCount
+                && drawnCardId == s.drawnCardId
+                && Arrays.equals(deckIds, 0, deckCount, s.deckIds, 0, s.deckCount)
+                && Arrays.equals(pileIds, 0, pileSize, s.pileIds, 0, s.pileSize)
+                && Arrays.equals(handCounts, s.handCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(handCounts);
+        result = 31 * result + deckCount;
+        result = 31 * result + pileSize;
+        result = 31 * result + currentPlayerIndex;
+        return 31 * result + turnCount;
+    }
+
+    @Override
+    public String toString() {
+        return "projectone.GameState [players=" + players + ", deck=" + deckCount + ", pile=" + pileSize
+                + ", top=" + getTopCard() + ", current=" + currentPlayerIndex + "]";
+    }
+}
@@ -0,0 +1,178 @@
+package projectone;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Listener that aggregates statistics over many games at one table size, from game events.
+ * Per seat (in a batch, per strategy) it tracks the win rate, the cards drawn per game and
+ * the distribution of time spent deciding each turn; per game it tracks the length in
+ * turns and the number of reshuffles. Means and variances are kept online with
+ * {@link RunningStats} and distributions in fixed-memory {@link Histogram}s, so memory
+ * does not grow with the number of games.
+ * One instance can follow any number of games in sequence, but only one at a time and
+ * only from one thread. Workers each keep their own and {@link #merge} them at the end.
+ */
+public class GameStatistics implements GameEventListener {
+    private final int players;
+    private final RunningStats[] wins;
+    private final RunningStats[] cardsDrawn;
+    private final RunningStats[] turnNanos;
+    private final Histogram[] turnNanosHistogram;
+    private final RunningStats turns = new RunningStats();
+    private final Histogram turnsHistogram = new Histogram();
+    private final RunningStats reshuffles = new RunningStats();
+    private long abandonedGames;
+
+    // State of the game in progress
+    private List<Player> seats;
+    private final long[] drawnThisGame;
+    private int turnSeat = -1;
+    private long turnStart;
+
+    /**
+     * Creates empty statistics.
+     * @param players Number of players at the table.
+     */
+    public GameStatistics(int players) {
+        if (players < 2) throw new IllegalArgumentException("A table needs at least 2 seats: " + players);
+        this.players = players;
+        this.wins = newStats(players);
+        this.cardsDrawn = newStats(players);
+        this.turnNanos = newStats(players);
+        this.turnNanosHistogram = new Histogram[players];
+        for (int i = 0; i < players; i++) turnNanosHistogram[i] = new Histogram();
+        this.drawnThisGame = new long[players];
+    }
+
+    private static RunningStats[] newStats(int n) {
+        RunningStats[] stats = new RunningStats[n];
+        for (int i = 0; i < n; i++) stats[i] = new RunningStats();
+        return stats;
+    }
+
+    @Override
+    public void onHandsDealt(UnoGame game, int cardsPerPlayer) {
+        if (game.getNumberOfPlayers() != players) {
+            throw new IllegalArgumentException("Statistics are for " + players + " players, game has " + game.getNumberOfPlayers());
+        }
+        seats = game.getPlayers();
+        Arrays.fill(drawnThisGame, 0);
+        turnSeat = -1;
+    }
+
+    @Override
+    public void onTurnStart(UnoGame game, Player player) {
+        turnSeat = game.getCurrentPlayerIndex();
+        turnStart = System.nanoTime();
+    }
+
+    @Override
+    public void onCardPlayed(Player player, Card card) {
+        endTurn();
+    }
+
+    @Override
+    public void onTurnPassed(Player player) {
+        endTurn();
+    }
+
+    private void endTurn() {
+        if (turnSeat < 0) return;
+        long elapsed = Math.max(0, System.nanoTime() - turnStart);
+        turnNanos[turnSeat].add(elapsed);
+        turnNanosHistogram[turnSeat].record(elapsed);
+        turnSeat = -1;
+    }
+
+    @Override
+    public void onCardDrawn(Player player, Card card) {
+        drawnThisGame[seatOf(player)]++;
+    }
+
+    @Override
+    public void onCardsDrawn(Player player, int count) {
+        drawnThisGame[seatOf(player)] += count;
+    }
+
+    private int seatOf(Player player) {
+        for (int seat = 0; seat < players; seat++) {
+            if (seats.get(seat) == player) return seat;
+        }
+        throw new IllegalStateException("Event for a player outside the current game: " + player);
+    }
+
+    @Override
+    public void onGameOver(UnoGame game) {
+        int winner = game.getWinnerIndex();
+        if (winner < 0) abandonedGames++;
+        for (int seat = 0; seat < players; seat++) {
+            wins[seat].add(seat == winner ? 1 : 0);
+            cardsDrawn[seat].add(drawnThisGame[seat]);
+        }
+        turns.add(game.getTurnCount());
+        turnsHistogram.record(game.getTurnCount());
+        reshuffles.add(game.getReshuffleCount());
+        seats = null;
+    }
+
+    /**
+     * Adds another instance's statistics into this one.
+     * @param other Statistics for the same table size; unchanged.
+     * @return This instance, for chaining.
+     */
+    public GameStatistics merge(GameStatistics other) {
+        if (other.players != players) throw new IllegalArgumentException("Cannot merge statistics for different table sizes");
+        for (int seat = 0; seat < players; seat++) {
+            wins[seat].merge(other.wins[seat]);
+            cardsDrawn[seat].merge(other.cardsDrawn[seat]);
+            turnNanos[seat].merge(other.turnNanos[seat]);
+            turnNanosHistogram[seat].merge(other.turnNanosHistogram[seat]);
+        }
+        turns.merge(other.turns);
+        turnsHistogram.merge(other.turnsHistogram);
+        reshuffles.merge(other.reshuffles);
+        abandonedGames += other.abandonedGames;
+        return this;
+    }
+
+    public int getPlayers() { return players; }
+    public long getGames() { return turns.getCount(); }
+    public long getAbandonedGames() { return abandonedGames; }
+
+    /** @return Wins of a seat as 0/1 per game; the mean is the win rate. */
+    public RunningStats getWins(int seat) { return wins[seat]; }
+
+    /** @return Cards a seat drew per game, whether by choice or by penalty. */
+    public RunningStats getCardsDrawn(int seat) { return cardsDrawn[seat]; }
+
+    /** @return Nanoseconds each of a seat's turns took, from the start of the turn to its play or pass. */
+    public RunningStats getTurnNanos(int seat) { return turnNanos[seat]; }
+
+    /** @return Distribution of {@link #getTurnNanos(int)}. */
+    public Histogram getTurnNanosHistogram(int seat) { return turnNanosHistogram[seat]; }
+
+    /** @return Turns per game, skipped turns included. */
+    public RunningStats getTurns() { return turns; }
+
+    /** @return Distribution of {@link #getTurns()}. */
+    public Histogram getTurnsHistogram() { return turnsHistogram; }
+
+    /** @return Reshuffles per game. */
+    public RunningStats getReshuffles() { return reshuffles; }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(String.format(
+                "projectone.GameStatistics [games=%d, abandoned=%d, turns mean=%.2f sd=%.2f p50=%d p99=%d, reshuffles mean=%.3f",
+                getGames(), abandonedGames, turns.getMean(), turns.getStandardDeviation(),
+                turnsHistogram.getValueAtQuantile(0.5), turnsHistogram.getValueAtQuantile(0.99), reshuffles.getMean()));
+        for (int seat = 0; seat < players; seat++) {
+            sb.append(String.format("%n  seat %d: win rate=%.2f%% (+/- %.2f%%), cards drawn=%.2f, turn time p50=%dns p99=%dns",
+                    seat + 1, 100 * wins[seat].getMean(), 100 * DuplicateResult.Z_95 * wins[seat].getStandardError(),
+                    cardsDrawn[seat].getMean(), turnNanosHistogram[seat].getValueAtQuantile(0.5),
+                    turnNanosHistogram[seat].getValueAtQuantile(0.99)));
+        }
+        return sb.append(']').toString();
+    }
+}
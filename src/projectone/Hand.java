@@ -1,104 +1,233 @@
 package projectone; /**
  * File: projectone.Hand.java
- * Description:  Represents a player's hand of Uno cards. Uses an ArrayList and explicitly sorts cards after each addition to maintain sorted order as per the requirement.
+ * Description:  Represents a player's hand of Uno cards. Stores a count per card type so the hand is always in sorted order without explicit sorting.
  * Author: Andrew Nell 
  * Student ID: 110450836
  * Email ID: NELAY007
  * AI Tool Used: Copilot for boilerplate code and some comments
  * This is my own work as defined by he University's Academic Integrity Policy.
  **/
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
+/**
+ * A player's hand, stored as a counted multiset of card types.
+ * Each of the 54 card IDs from {@link CardTable} has a count, and a 64-bit presence
+ * mask records which card types are held. Adding, removing and looking up a card
+ * are O(1), iteration in sorted order falls out of walking the IDs in order, and the
+ * playable cards are found by ANDing the presence mask with the playability mask
+ * of the current top card.
+ */
 public class Hand {
-    private final List<Card> cards;
+    private final int[] counts;
+    private long presentMask; // bit id is set iff counts[id] > 0
+    private int size;
+    private long zobristHash; // XOR of Zobrist.handCard(id, copy) over every card held
+    private final List<Card> cardsView;
 
     public Hand() {
-        cards = new ArrayList<>();
+        counts = new int[CardTable.SIZE];
+        cardsView = new CardsView();
     }
 
     /**
-     * Adds a single card to the hand and re-sorts the hand.
+     * Adds a single card to the hand. Sorted order is implicit in the card IDs.
      * @param card The card to add.
      */
     public void addCard(Card card) {
         if (card == null) {
             throw new IllegalArgumentException("Cannot add null card to hand");
         }
-        cards.add(card);
-        sortHand(); // Maintain sorted order
+        addCardId(card.getId());
     }
 
     /**
-     * Adds multiple cards to the hand and re-sorts the hand.
+     * Adds multiple cards to the hand.
      * @param cardsToAdd The list of cards to add.
      */
     public void addCards(List<Card> cardsToAdd) {
         if (cardsToAdd == null || cardsToAdd.contains(null)) {
              throw new IllegalArgumentException("Cannot add null list or list with null cards");
         }
-        this.cards.addAll(cardsToAdd);
-        sortHand(); // Maintain sorted order
+        for (Card card : cardsToAdd) {
+            addCardId(card.getId());
+        }
+    }
+
+    /**
+     * Adds one card by its {@link CardTable} ID.
+     * @param id The card ID.
+     */
+    void addCardId(int id) {
+        zobristHash ^= Zobrist.handCard(id, counts[id]);
+        counts[id]++;
+        presentMask |= 1L << id;
+        size++;
+    }
+
+    /**
+     * Removes one card by its {@link CardTable} ID.
+     * @param id The card ID.
+     * @return true if a card of that type was held and removed, false otherwise.
+     */
+    boolean removeCardId(int id) {
+        if (counts[id] == 0) {
+            return false;
+        }
+        if (--counts[id] == 0) {
+            presentMask &= ~(1L << id);
+        }
+        zobristHash ^= Zobrist.handCard(id, counts[id]);
+        size--;
+        return true;
+    }
+
+    /**
+     * Copies the per-card-type counts into a snapshot array.
+     * @param target Array receiving {@link CardTable#SIZE} counts.
+     * @param offset Index of the first count in the target.
+     */
+    void saveCounts(int[] target, int offset) {
+        System.arraycopy(counts, 0, target, offset, CardTable.SIZE);
     }
 
     /**
-     * Attempts to remove a specific card instance from the hand.
-     * Relies on projectone.Card.equals().
-     * @param card The card instance to remove.
+     * Empties the hand, so a pooled game can reuse it.
+     */
+    void clear() {
+        Arrays.fill(counts, 0);
+        presentMask = 0L;
+        size = 0;
+        zobristHash = 0L;
+    }
+
+    /**
+     * Replaces the hand's contents with saved per-card-type counts.
+     * @param source Array holding {@link CardTable#SIZE} counts.
+     * @param offset Index of the first count in the source.
+     */
+    void loadCounts(int[] source, int offset) {
+        System.arraycopy(source, offset, counts, 0, CardTable.SIZE);
+        presentMask = 0L;
+        size = 0;
+        zobristHash = 0L;
+        for (int id = 0; id < CardTable.SIZE; id++) {
+            if (counts[id] > 0) {
+                presentMask |= 1L << id;
+                size += counts[id];
+                for (int copy = 0; copy < counts[id]; copy++) {
+                    zobristHash ^= Zobrist.handCard(id, copy);
+                }
+            }
+        }
+    }
+
+    /**
+     * Attempts to remove one card equal to the given card from the hand.
+     * Relies on projectone.Card.equals(), i.e. any card of the same color and value.
+     * @param card The card to remove.
      * @return true if the card was found and removed, false otherwise.
      */
     public boolean removeCard(Card card) {
-        return cards.remove(card); // Sort order is maintained by removal
+        return card != null && removeCardId(card.getId());
     }
 
     /**
      * Finds and removes the specified card, returning it.
-     * Useful for playing a card. Maintains sorted order.
+     * Useful for playing a card.
      * @param cardToPlay The card to find and remove.
      * @return The card that was played.
      * @throws IllegalArgumentException if the card is not in the hand.
      */
      public Card playCard(Card cardToPlay) {
-         boolean removed = cards.remove(cardToPlay);
-         if (!removed) {
+         if (!removeCard(cardToPlay)) {
              throw new IllegalArgumentException("projectone.Card " + cardToPlay + " not found in hand.");
          }
-         // Sort order is maintained by removal, no need to re-sort
          return cardToPlay;
      }
 
      /**
-      * Finds and removes a card at a specific index.
+      * Finds and removes a card at a specific index of the sorted hand.
       * Used if selection is by index rather than card object.
       * @param index The index of the card to remove.
       * @return The card that was removed.
       * @throws IndexOutOfBoundsException if the index is invalid.
       */
      public Card playCard(int index) {
-         return cards.remove(index); // Sort order maintained
+         int id = idAt(index);
+         removeCardId(id);
+         return CardTable.byId(id);
      }
 
+    /**
+     * Returns the ID of the card at a position in sorted order.
+     * Walks at most the 54 card types, skipping absent ones via the presence mask.
+     */
+    private int idAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for hand of size " + size);
+        }
+        for (long mask = presentMask; ; mask &= mask - 1) {
+            int id = Long.numberOfTrailingZeros(mask);
+            if (index < counts[id]) {
+                return id;
+            }
+            index -= counts[id];
+        }
+    }
+
+    /**
+     * Checks whether the hand holds a card equal to the given card.
+     * @param card The card to look for.
+     * @return true if at least one card of that color and value is held.
+     */
+    public boolean contains(Card card) {
+        return card != null && counts[card.getId()] > 0;
+    }
 
     /**
-     * Sorts the hand according to the projectone.Card's natural order (Comparable).
-     * Called automatically after cards are added.
+     * Returns how many cards of the given card's color and value are held.
+     * @param card The card type to count.
+     * @return The number of copies in the hand.
+     */
+    public int count(Card card) {
+        return counts[card.getId()];
+    }
+
+    /**
+     * Returns the set of card types held, as a bitmask over {@link CardTable} IDs.
+     * @return The presence mask.
+     */
+    public long getCardMask() {
+        return presentMask;
+    }
+
+    /**
+     * Returns the card types in this hand that can be played on the current top card,
+     * as a bitmask over {@link CardTable} IDs.
+     * @param topPileCard The card currently on top of the pile.
+     * @param chosenWildColor The active chosen wild color, if applicable.
+     * @return The playable card types held.
      */
-    private void sortHand() {
-        Collections.sort(cards);
+    public long getPlayableMask(Card topPileCard, Color chosenWildColor) {
+        return presentMask & CardTable.playableMask(topPileCard, chosenWildColor);
     }
 
     /**
      * Finds all cards in the hand that can be legally played on the current pile top card.
+     * Duplicates are listed once per copy held, in sorted order.
      * @param topPileCard The card currently on top of the pile.
      * @param chosenWildColor The active chosen wild color, if applicable.
      * @return A List of playable cards (may be empty).
      */
     public List<Card> findValidCards(Card topPileCard, Color chosenWildColor) {
         List<Card> validPlays = new ArrayList<>();
-        for (Card card : cards) {
-            if (card.canPlayOn(topPileCard, chosenWildColor)) {
+        for (long mask = getPlayableMask(topPileCard, chosenWildColor); mask != 0; mask &= mask - 1) {
+            int id = Long.numberOfTrailingZeros(mask);
+            Card card = CardTable.byId(id);
+            for (int i = 0; i < counts[id]; i++) {
                 validPlays.add(card);
             }
         }
@@ -106,31 +235,68 @@ public class Hand {
     }
 
     /**
-     * Returns an unmodifiable view of the cards in the hand.
-     * Prevents external modification of the hand's internal list.
+     * Returns an unmodifiable, sorted view of the cards in the hand.
+     * The view reflects later changes to the hand.
      * @return An unmodifiable list of cards.
      */
     public List<Card> getCards() {
-        return Collections.unmodifiableList(cards);
+        return cardsView;
+    }
+
+    /**
+     * Returns the Zobrist hash of the cards held, kept up to date on every add and remove.
+     * Hands holding the same cards have the same hash, whatever order the cards arrived in.
+     * @return The hash; 0 for an empty hand.
+     */
+    public long getZobristHash() {
+        return zobristHash;
     }
 
     public boolean isEmpty() {
-        return cards.isEmpty();
+        return size == 0;
     }
 
     public int getSize() {
-        return cards.size();
+        return size;
     }
 
     @Override
     public String toString() {
-        if (cards.isEmpty()) {
+        if (size == 0) {
             return "projectone.Hand: []";
         }
-        // Joining card strings with ", " - leverages sorted order
-        return "projectone.Hand: [" + cards.stream()
-                                .map(Card::toString)
-                                .collect(Collectors.joining(", ")) + "]";
+        StringBuilder sb = new StringBuilder("projectone.Hand: [");
+        for (long mask = presentMask; mask != 0; mask &= mask - 1) {
+            int id = Long.numberOfTrailingZeros(mask);
+            for (int i = 0; i < counts[id]; i++) {
+                if (sb.length() > "projectone.Hand: [".length()) {
+                    sb.append(", ");
+                }
+                sb.append(CardTable.byId(id));
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Read-only list view over the counts; mutators inherited from AbstractList throw
+     * UnsupportedOperationException.
+     */
+    private final class CardsView extends AbstractList<Card> {
+        @Override
+        public Card get(int index) {
+            return CardTable.byId(idAt(index));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Card && Hand.this.contains((Card) o);
+        }
     }
 
      // equals() and hashCode() are less critical for projectone.Hand, focus on projectone.Card's.
@@ -0,0 +1,87 @@
+package projectone;
+
+/**
+ * Distribution of non-negative {@code long} values (turn counts, nanoseconds) in fixed
+ * memory. Values below 16 get a bucket each; above that, every power of two is split
+ * into 16 equal buckets, so any recorded value is known to within about 6% whatever its
+ * magnitude, and the whole range of {@code long} fits in under a thousand counters.
+ * Merging adds the counters. Not thread-safe.
+ */
+public class Histogram {
+    private static final int SUB_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long total;
+    private long max;
+
+    /**
+     * Adds one value.
+     * @param value The value; must not be negative.
+     */
+    public void record(long value) {
+        if (value < 0) throw new IllegalArgumentException("Cannot record a negative value: " + value);
+        counts[bucketOf(value)]++;
+        total++;
+        if (value > max) max = value;
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /** @return The largest value that falls in a bucket. */
+    static long bucketUpperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BITS);
+        return lower + (1L << (exponent - SUB_BITS)) - 1;
+    }
+
+    /**
+     * Adds another histogram's counts into this one.
+     * @param other The other histogram; unchanged.
+     * @return This histogram, for chaining.
+     */
+    public Histogram merge(Histogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    public long getCount() { return total; }
+
+    /** @return The largest value recorded, or 0 if none. */
+    public long getMax() { return max; }
+
+    /**
+     * Returns a value at or above the given fraction of recorded values, accurate to
+     * the width of its bucket.
+     * @param quantile Between 0 and 1, e.g. 0.99 for the 99th percentile.
+     * @return The upper bound of the bucket holding that rank, or 0 if nothing was recorded.
+     */
+    public long getValueAtQuantile(double quantile) {
+        if (!(quantile >= 0 && quantile <= 1)) throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+        if (total == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(bucketUpperBound(i), max);
+        }
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("projectone.Histogram [n=%d, p50=%d, p90=%d, p99=%d, max=%d]",
+                total, getValueAtQuantile(0.5), getValueAtQuantile(0.9), getValueAtQuantile(0.99), max);
+    }
+}
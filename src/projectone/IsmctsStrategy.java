@@ -0,0 +1,402 @@
+package projectone;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A strong AI strategy based on Information-Set Monte Carlo Tree Search (single observer).
+ * Each iteration deals a fresh determinization: the cards this player cannot see (the
+ * deck and the opponents' hands) are shuffled and redealt, keeping every hand size, so
+ * the sample is consistent with everything the player knows. The iteration then walks
+ * one shared tree of {@link Move}s on a headless copy of the game, expands one move,
+ * and finishes with a random playout.
+ * The search runs on several threads at once over the same tree (tree parallelism).
+ * Node statistics are updated lock-free, and a thread descending through a node counts
+ * its visit immediately as a loss (virtual loss) so concurrent threads spread out.
+ * The budget per move is a number of iterations, a wall-clock time, or both.
+ */
+public class IsmctsStrategy implements PlayerStrategy {
+    /** Iterations per move used by the no-argument constructor. */
+    public static final int DEFAULT_ITERATIONS = 1_000;
+    /** Moves after which a playout stops and the player with the fewest cards is scored as the winner. */
+    private static final int PLAYOUT_LIMIT = 400;
+    private static final double EXPLORATION = 0.7;
+
+    private final int iterations;
+    private final long timeBudgetNanos;
+    private final int threads;
+    private final ForkJoinPool pool;
+    private final BasicAIStrategy fallback = new BasicAIStrategy();
+
+    private SplittableRandom random = new SplittableRandom();
+    private SearchContext[] contexts = new SearchContext[0];
+    private Color chosenWildColor;
+
+    /**
+     * Creates a single-threaded strategy that searches {@value #DEFAULT_ITERATIONS} iterations per move.
+     */
+    public IsmctsStrategy() {
+        this(DEFAULT_ITERATIONS, 0, 1);
+    }
+
+    /**
+     * Creates a strategy that searches on the common fork/join pool.
+     * @param iterations Iterations per move across all threads, or 0 for no limit.
+     * @param timeBudgetMillis Wall-clock time per move in milliseconds, or 0 for no limit.
+     * @param threads Number of threads searching the tree concurrently.
+     */
+    public IsmctsStrategy(int iterations, long timeBudgetMillis, int threads) {
+        this(iterations, timeBudgetMillis, threads, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param iterations Iterations per move across all threads, or 0 for no limit.
+     * @param timeBudgetMillis Wall-clock time per move in milliseconds, or 0 for no limit.
+     * @param threads Number of threads searching the tree concurrently.
+     * @param pool The pool the search threads run on.
+     * @throws IllegalArgumentException if there is neither an iteration nor a time budget.
+     */
+    public IsmctsStrategy(int iterations, long timeBudgetMillis, int threads, ForkJoinPool pool) {
+        if (iterations < 0 || timeBudgetMillis < 0) {
+            throw new IllegalArgumentException("Budgets cannot be negative: " + iterations + " iterations, " + timeBudgetMillis + " ms");
+        }
+        if (iterations == 0 && timeBudgetMillis == 0) {
+            throw new IllegalArgumentException("Need an iteration budget, a time budget, or both");
+        }
+        if (threads < 1) throw new IllegalArgumentException("Threads must be positive: " + threads);
+        this.iterations = iterations;
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+        this.threads = threads;
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public Card chooseCard(UnoGame gameController, Hand hand, List<Card> playableCards, Card topPileCard, Color activeWildColor) {
+        chosenWildColor = null;
+        if (playableCards.isEmpty()) return null;
+        if (playableCards.size() == 1 && playableCards.get(0).getColor() != Color.WILD) {
+            return playableCards.get(0);
+        }
+        Move move = search(gameController);
+        chosenWildColor = move.getWildColor();
+        return move.getCard();
+    }
+
+    /**
+     * Returns the color picked by the search for the wild card just chosen. Wild cards
+     * played without a search (a drawn card, or the opening card) use the most common
+     * color in hand, like {@link BasicAIStrategy}.
+     */
+    @Override
+    public Color chooseWildColor(UnoGame gameController, Hand hand) {
+        Color color = chosenWildColor;
+        chosenWildColor = null;
+        return color != null ? color : fallback.chooseWildColor(gameController, hand);
+    }
+
+    /**
+     * Searches the current player's decision in a game.
+     * @param game The game, at the start of the current player's turn.
+     * @return The move with the most visits.
+     */
+    Move search(UnoGame game) {
+        GameState rootState = game.snapshot();
+        Node root = new Node(-1);
+        ensureContexts(rootState.getPlayerCount());
+
+        Search search = new Search(rootState, root, game.getCurrentPlayerIndex());
+        List<Worker> workers = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            contexts[i].random = random.split();
+            workers.add(new Worker(search, contexts[i]));
+        }
+        if (threads == 1) {
+            workers.get(0).invoke(); // Runs on the calling thread
+        } else if (ForkJoinTask.inForkJoinPool()) {
+            ForkJoinTask.invokeAll(workers);
+        } else {
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(workers);
+                }
+            });
+        }
+        Move best = root.mostVisitedMove();
+        return best != null ? best : game.legalMoves().get(0); // Budget ran out before the first iteration
+    }
+
+    private void ensureContexts(int players) {
+        if (contexts.length == threads && contexts[0].state.getPlayerCount() == players) return;
+        contexts = new SearchContext[threads];
+        for (int i = 0; i < threads; i++) {
+            contexts[i] = new SearchContext(players);
+        }
+    }
+
+    /**
+     * Overwrites {@code target} with a sample of the hidden information in {@code root}
+     * as seen from {@code viewer}: the deck and the other players' hands are pooled,
+     * shuffled and dealt back out in the same sizes. The viewer's hand and the pile are kept.
+     * @param root The true game state.
+     * @param viewer Seat of the player whose knowledge is kept.
+     * @param random Source of the shuffle.
+     * @param target Receives the determinized state.
+     * @param unseen Scratch space for at least {@link Deck#STANDARD_SIZE} card IDs.
+     */
+    static void determinize(GameState root, int viewer, SplittableRandom random, GameState target, int[] unseen) {
+        target.copyFrom(root);
+        int count = 0;
+        for (int i = 0; i < root.deckCount; i++) {
+            unseen[count++] = root.deckIds[i];
+        }
+        int[] counts = target.handCounts;
+        for (int seat = 0; seat < root.players; seat++) {
+            if (seat == viewer) continue;
+            for (int i = seat * CardTable.SIZE, end = i + CardTable.SIZE; i < end; i++) {
+                for (int c = counts[i]; c > 0; c--) {
+                    unseen[count++] = i - seat * CardTable.SIZE;
+                }
+                counts[i] = 0;
+            }
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = unseen[i];
+            unseen[i] = unseen[j];
+            unseen[j] = tmp;
+        }
+        int next = 0;
+        for (int seat = 0; seat < root.players; seat++) {
+            if (seat == viewer) continue;
+            for (int n = root.getHandSize(seat); n > 0; n--) {
+                counts[seat * CardTable.SIZE + unseen[next++]]++;
+            }
+        }
+        System.arraycopy(unseen, next, target.deckIds, 0, count - next);
+        target.deckCount = count - next;
+    }
+
+    /** Shared state of one move's search. */
+    private final class Search {
+        final GameState rootState;
+        final Node root;
+        final int viewer;
+        final AtomicInteger remaining;
+        final long deadline;
+
+        Search(GameState rootState, Node root, int viewer) {
+            this.rootState = rootState;
+            this.root = root;
+            this.viewer = viewer;
+            this.remaining = new AtomicInteger(iterations > 0 ? iterations : Integer.MAX_VALUE);
+            this.deadline = timeBudgetNanos > 0 ? System.nanoTime() + timeBudgetNanos : Long.MAX_VALUE;
+        }
+
+        boolean nextIteration() {
+            return remaining.getAndDecrement() > 0 && System.nanoTime() < deadline;
+        }
+    }
+
+    /** Per-thread scratch space, reused across moves. */
+    private static final class SearchContext {
+        final UnoGame game;
+        final GameState state;
+        final int[] unseen = new int[Deck.STANDARD_SIZE];
+        final Move[] moves = new Move[Move.COUNT];
+        final Move[] untried = new Move[Move.COUNT];
+        Node[] path = new Node[64];
+        SplittableRandom random;
+
+        SearchContext(int players) {
+            this.game = UnoGame.newSearchGame(players);
+            this.state = new GameState(players);
+        }
+    }
+
+    /** One search thread: runs iterations until the shared budget is spent. */
+    @SuppressWarnings("serial")
+    private static final class Worker extends RecursiveAction {
+        private final Search search;
+        private final SearchContext context;
+
+        Worker(Search search, SearchContext context) {
+            this.search = search;
+            this.context = context;
+        }
+
+        @Override
+        protected void compute() {
+            while (search.nextIteration()) {
+                iterate();
+            }
+        }
+
+        private void iterate() {
+            SearchContext c = context;
+            UnoGame game = c.game;
+            determinize(search.rootState, search.viewer, c.random, c.state, c.unseen);
+            game.restore(c.state);
+
+            // Selection and expansion
+            Node node = search.root;
+            int depth = 0;
+            while (game.isGameRunning()) {
+                int n = game.legalMoves(c.moves);
+                int untried = 0;
+                for (int i = 0; i < n; i++) {
+                    Node child = node.child(c.moves[i].getIndex());
+                    if (child == null) {
+                        c.untried[untried++] = c.moves[i];
+                    } else {
+                        child.addAvailability();
+                    }
+                }
+                int seat = game.getCurrentPlayerIndex();
+                Move move;
+                Node child;
+                if (untried > 0) {
+                    move = c.untried[c.random.nextInt(untried)];
+                    child = node.expand(move.getIndex(), seat);
+                } else {
+                    move = selectUcb(node, c.moves, n);
+                    child = node.child(move.getIndex());
+                }
+                child.addVirtualLoss();
+                game.apply(move);
+                push(c, depth++, child);
+                node = child;
+                if (untried > 0) break;
+            }
+
+            // Playout
+            for (int steps = 0; steps < PLAYOUT_LIMIT && game.isGameRunning(); steps++) {
+                int n = game.legalMoves(c.moves);
+                game.apply(c.moves[c.random.nextInt(n)]);
+            }
+
+            // Backpropagation; the visit was already counted by the virtual loss
+            int winner = game.getWinnerIndex() >= 0 ? game.getWinnerIndex() : fewestCards(game);
+            for (int i = 0; i < depth; i++) {
+                if (c.path[i].seat == winner) c.path[i].addWin();
+            }
+        }
+
+        private static Move selectUcb(Node node, Move[] moves, int n) {
+            Move best = moves[0];
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < n; i++) {
+                Node child = node.child(moves[i].getIndex());
+                int visits = Math.max(1, child.visits);
+                double score = (double) child.wins / visits
+                        + EXPLORATION * Math.sqrt(Math.log(Math.max(1, child.availability)) / visits);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = moves[i];
+                }
+            }
+            return best;
+        }
+
+        private static void push(SearchContext c, int depth, Node node) {
+            if (depth == c.path.length) {
+                c.path = Arrays.copyOf(c.path, depth * 2);
+            }
+            c.path[depth] = node;
+        }
+
+        private static int fewestCards(UnoGame game) {
+            List<Player> players = game.getPlayers();
+            int best = 0;
+            for (int seat = 1; seat < players.size(); seat++) {
+                if (players.get(seat).getHand().getSize() < players.get(best).getHand().getSize()) best = seat;
+            }
+            return best;
+        }
+    }
+
+    /**
+     * A node of the shared search tree, reached by one move from its parent.
+     * Counters are updated with atomic adds through {@link VarHandle}s, and children are
+     * published with compare-and-set, so threads never lock the tree.
+     */
+    private static final class Node {
+        private static final VarHandle VISITS;
+        private static final VarHandle WINS;
+        private static final VarHandle AVAILABILITY;
+
+        static {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                VISITS = lookup.findVarHandle(Node.class, "visits", int.class);
+                WINS = lookup.findVarHandle(Node.class, "wins", int.class);
+                AVAILABILITY = lookup.findVarHandle(Node.class, "availability", int.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        final int seat; // The player who made the move leading here
+        private final AtomicReferenceArray<Node> children = new AtomicReferenceArray<>(Move.COUNT);
+        volatile int visits;
+        volatile int wins;
+        volatile int availability;
+
+        Node(int seat) {
+            this.seat = seat;
+        }
+
+        Node child(int moveIndex) {
+            return children.get(moveIndex);
+        }
+
+        /** Adds a child, or returns the one another thread added first. */
+        Node expand(int moveIndex, int childSeat) {
+            Node created = new Node(childSeat);
+            created.availability = 1;
+            Node existing = children.compareAndExchange(moveIndex, null, created);
+            if (existing == null) return created;
+            existing.addAvailability();
+            return existing;
+        }
+
+        /** Counts a visit before its result is known, so it reads as a loss until {@link #addWin()}. */
+        void addVirtualLoss() { VISITS.getAndAdd(this, 1); }
+        void addWin() { WINS.getAndAdd(this, 1); }
+        void addAvailability() { AVAILABILITY.getAndAdd(this, 1); }
+
+        Move mostVisitedMove() {
+            Move best = null;
+            int bestVisits = -1;
+            for (int i = 0; i < Move.COUNT; i++) {
+                Node child = children.get(i);
+                if (child != null && child.visits > bestVisits) {
+                    bestVisits = child.visits;
+                    best = Move.byIndex(i);
+                }
+            }
+            return best;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "projectone.IsmctsStrategy [iterations=" + iterations + ", timeBudgetMs=" + timeBudgetNanos / 1_000_000L
+                + ", threads=" + threads + "]";
+    }
+}
@@ -0,0 +1,460 @@
+package projectone;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
+
+/**
+ * Queues players and bots and seats them at tables of a fixed size, matched by rating.
+ * A join looks for a table at once: among its closest neighbours by rating, the tightest
+ * group that includes it is seated if its rating spread is within the window. The window
+ * widens the longer a group's longest-waiting member has queued, so outliers are seated
+ * by {@link #rematch()}, which the service calls periodically.
+ * Seated tables run on a shared executor, and their games come from a {@link GamePool},
+ * so a busy lobby recycles decks, piles and hands instead of allocating them per table.
+ * Deck and strategy seeds come from a {@link SeedTree} node per table, so a table's game
+ * depends only on the lobby seed and the order in which tables were formed.
+ * The lobby records how long every entrant queued, and counts joins and tables.
+ */
+public class Lobby {
+    private static final int MAX_PLAYERS = 4;
+    private static final GameEventListener LOGGING = new LoggingGameEventListener();
+
+    /**
+     * What happened to one entrant's table.
+     */
+    public static final class Outcome {
+        private final int seat;
+        private final int winnerIndex;
+        private final String winnerName;
+        private final int turns;
+        private final long queueWaitNanos;
+
+        Outcome(int seat, int winnerIndex, String winnerName, int turns, long queueWaitNanos) {
+            this.seat = seat;
+            this.winnerIndex = winnerIndex;
+            this.winnerName = winnerName;
+            this.turns = turns;
+            this.queueWaitNanos = queueWaitNanos;
+        }
+
+        /** @return The entrant's seat at the table. */
+        public int getSeat() { return seat; }
+
+        /** @return The winning seat, or -1 if the game was abandoned. */
+        public int getWinnerIndex() { return winnerIndex; }
+
+        /** @return The winner's name, or null if the game was abandoned. */
+        public String getWinnerName() { return winnerName; }
+
+        /** @return true if this entrant won. */
+        public boolean isWinner() { return winnerIndex == seat; }
+
+        /** @return Turns the game lasted. */
+        public int getTurns() { return turns; }
+
+        /** @return How long the entrant queued before being seated. */
+        public Duration getQueueWait() { return Duration.ofNanos(queueWaitNanos); }
+
+        @Override
+        public String toString() {
+            return "projectone.Lobby.Outcome [seat=" + seat + ", winner=" + winnerIndex + ", turns=" + turns + "]";
+        }
+    }
+
+    /** An entrant in the queue. */
+    private static final class Entrant {
+        final long id;
+        final String name;
+        final double rating;
+        final PlayerStrategy strategy;
+        final long joinedNanos;
+        final CompletableFuture<Outcome> outcome = new CompletableFuture<>();
+        long waitNanos;
+
+        Entrant(long id, String name, double rating, PlayerStrategy strategy, long joinedNanos) {
+            this.id = id;
+            this.name = name;
+            this.rating = rating;
+            this.strategy = strategy;
+            this.joinedNanos = joinedNanos;
+        }
+    }
+
+    /** A group of entrants seated together, in seat order. */
+    private record Table(long number, List<Entrant> seats) {}
+
+    private static final Comparator<Entrant> BY_RATING = Comparator.<Entrant>comparingDouble(e -> e.rating).thenComparingLong(e -> e.id);
+
+    private final Executor executor;
+    private final int tableSize;
+    private final SeedTree seeds;
+    private final GamePool pool;
+    private final ReentrantLock lock = new ReentrantLock();
+    // Guarded by lock
+    private final TreeSet<Entrant> queue = new TreeSet<>(BY_RATING);
+    private final Histogram queueWaitMicros = new Histogram();
+    private long nextEntrantId;
+    private long nextTableNumber;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder joins = new LongAdder();
+    private final LongAdder tablesStarted = new LongAdder();
+    private final LongAdder tablesFinished = new LongAdder();
+    private final LongAdder tablesFailed = new LongAdder();
+    private volatile double ratingWindow = 200;
+    private volatile double windowGrowthPerSecond = 100;
+    private volatile int maxTurns = BatchSimulator.DEFAULT_MAX_TURNS;
+    private volatile LongFunction<GameEventListener> listeners = table -> LOGGING;
+
+    /**
+     * Creates a lobby with its own pool of up to 1,024 idle games.
+     * @param executor Runs the seated tables' games.
+     * @param tableSize Players per table, 2 to 4.
+     * @param seed Seed from which every table's deck and strategy seeds are derived.
+     */
+    public Lobby(Executor executor, int tableSize, long seed) {
+        this(executor, tableSize, seed, new GamePool(1024));
+    }
+
+    /**
+     * @param executor Runs the seated tables' games.
+     * @param tableSize Players per table, 2 to 4.
+     * @param seed Seed from which every table's deck and strategy seeds are derived.
+     * @param pool Where finished games are recycled.
+     */
+    public Lobby(Executor executor, int tableSize, long seed, GamePool pool) {
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+        if (tableSize < 2 || tableSize > MAX_PLAYERS) throw new IllegalArgumentException("Table size must be 2 to 4: " + tableSize);
+        this.tableSize = tableSize;
+        this.seeds = new SeedTree(seed);
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * Sets how far apart the ratings at a table may be.
+     * @param window Largest rating spread for a table formed at once; must not be negative.
+     * @param growthPerSecond How much the allowed spread grows per second that the group's
+     *        longest-waiting member has queued; must not be negative.
+     */
+    public void setRatingWindow(double window, double growthPerSecond) {
+        if (!(window >= 0) || !(growthPerSecond >= 0)) {
+            throw new IllegalArgumentException("Rating window and growth cannot be negative: " + window + ", " + growthPerSecond);
+        }
+        this.ratingWindow = window;
+        this.windowGrowthPerSecond = growthPerSecond;
+    }
+
+    /**
+     * Sets the turn limit after which later tables' games are abandoned without a winner.
+     * @param maxTurns The maximum number of turns per game; must be positive.
+     */
+    public void setMaxTurns(int maxTurns) {
+        if (maxTurns <= 0) throw new IllegalArgumentException("Max turns must be positive: " + maxTurns);
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Sets where later tables report their events, e.g. a {@link LoggingGameEventListener}
+     * or a {@link SpectatorHub} per table. By default tables log through a shared
+     * {@link LoggingGameEventListener}.
+     * @param listeners Called on the table's thread with the table number (0, 1, ... in the
+     *        order tables were formed) and returns that table's listener.
+     */
+    public void setListenerFactory(LongFunction<GameEventListener> listeners) {
+        this.listeners = Objects.requireNonNull(listeners, "Listener factory cannot be null");
+    }
+
+    /**
+     * Queues a player or bot, seating it at once if a close enough table can be formed.
+     * Cancelling the returned future takes the entrant out of the queue if it has not been
+     * seated yet; a seated entrant's game is played regardless.
+     * @param name The entrant's name.
+     * @param rating The entrant's rating, e.g. from {@link EloRatings}.
+     * @param strategy The entrant's strategy, used for this one table.
+     * @return A future for the entrant's table outcome.
+     */
+    public CompletableFuture<Outcome> join(String name, double rating, PlayerStrategy strategy) {
+        Objects.requireNonNull(name, "Name cannot be null");
+        Objects.requireNonNull(strategy, "Strategy cannot be null");
+        if (!Double.isFinite(rating)) throw new IllegalArgumentException("Rating must be finite: " + rating);
+        joins.increment();
+        Entrant entrant;
+        Table table = null;
+        lock.lock();
+        try {
+            long now = System.nanoTime(); // under the lock, so no queued entrant joined after it
+            entrant = new Entrant(nextEntrantId++, name, rating, strategy, now);
+            queue.add(entrant);
+            queued.incrementAndGet();
+            List<Entrant> group = groupAround(entrant, now);
+            if (group != null) table = seat(group, now);
+        } finally {
+            lock.unlock();
+        }
+        if (table != null) {
+            start(table);
+        } else {
+            entrant.outcome.whenComplete((outcome, error) -> {
+                if (error instanceof CancellationException) leave(entrant);
+            });
+        }
+        return entrant.outcome;
+    }
+
+    private void leave(Entrant entrant) {
+        lock.lock();
+        try {
+            if (queue.remove(entrant)) queued.decrementAndGet();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Finds the tightest group of neighbours by rating that includes the entrant, if it
+     * is close enough to seat. Only the entrant's {@code tableSize - 1} neighbours on each
+     * side can share a group with it, so this looks at no more than those.
+     */
+    private List<Entrant> groupAround(Entrant entrant, long now) {
+        List<Entrant> around = new ArrayList<>(2 * tableSize - 1);
+        Iterator<Entrant> below = queue.headSet(entrant, false).descendingIterator();
+        for (int i = 1; i < tableSize && below.hasNext(); i++) around.add(below.next());
+        Collections.reverse(around);
+        int self = around.size();
+        around.add(entrant);
+        Iterator<Entrant> above = queue.tailSet(entrant, false).iterator();
+        for (int i = 1; i < tableSize && above.hasNext(); i++) around.add(above.next());
+        if (around.size() < tableSize) return null;
+
+        int best = -1;
+        double bestSpread = Double.POSITIVE_INFINITY;
+        for (int from = Math.max(0, self - tableSize + 1); from <= self && from + tableSize <= around.size(); from++) {
+            double spread = spread(around, from);
+            if (spread < bestSpread) {
+                best = from;
+                bestSpread = spread;
+            }
+        }
+        List<Entrant> group = around.subList(best, best + tableSize);
+        return bestSpread <= allowedSpread(group, now) ? group : null;
+    }
+
+    private double spread(List<Entrant> sorted, int from) {
+        return sorted.get(from + tableSize - 1).rating - sorted.get(from).rating;
+    }
+
+    private double allowedSpread(List<Entrant> group, long now) {
+        long oldest = now;
+        for (Entrant entrant : group) oldest = Math.min(oldest, entrant.joinedNanos);
+        return ratingWindow + windowGrowthPerSecond * (now - oldest) / 1e9;
+    }
+
+    /** Takes a group out of the queue and numbers its table. Called with the lock held. */
+    private Table seat(List<Entrant> group, long now) {
+        List<Entrant> seats = new ArrayList<>(group);
+        for (Entrant entrant : seats) {
+            queue.remove(entrant);
+            entrant.waitNanos = now - entrant.joinedNanos;
+            queueWaitMicros.record(entrant.waitNanos / 1_000);
+        }
+        queued.addAndGet(-seats.size());
+        return new Table(nextTableNumber++, seats);
+    }
+
+    /**
+     * Seats every group in the queue whose spread is now within its widened window,
+     * walking the queue in rating order. Call it periodically.
+     * @return The number of tables started.
+     */
+    public int rematch() {
+        List<Table> tables = new ArrayList<>();
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            List<Entrant> sorted = new ArrayList<>(queue);
+            int from = 0;
+            while (from + tableSize <= sorted.size()) {
+                List<Entrant> group = sorted.subList(from, from + tableSize);
+                if (spread(sorted, from) <= allowedSpread(group, now)) {
+                    tables.add(seat(group, now));
+                    from += tableSize;
+                } else {
+                    from++;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (Table table : tables) start(table);
+        return tables.size();
+    }
+
+    private void start(Table table) {
+        tablesStarted.increment();
+        try {
+            executor.execute(() -> play(table));
+        } catch (RejectedExecutionException e) {
+            IllegalStateException failure = new IllegalStateException("Lobby executor rejected table " + table.number(), e);
+            tablesFailed.increment();
+            for (Entrant entrant : table.seats()) entrant.outcome.completeExceptionally(failure);
+        }
+    }
+
+    private void play(Table table) {
+        SeedTree tableSeeds = seeds.child(table.number());
+        List<Entrant> seats = table.seats();
+        List<PlayerStrategy> strategies = new ArrayList<>(seats.size());
+        List<String> names = new ArrayList<>(seats.size());
+        int winner;
+        int turns;
+        try {
+            for (int seat = 0; seat < seats.size(); seat++) {
+                Entrant entrant = seats.get(seat);
+                entrant.strategy.setSeed(tableSeeds.childSeed(SeedTree.STRATEGY + seat));
+                strategies.add(entrant.strategy);
+                names.add(entrant.name);
+            }
+            GameEventListener listener = listeners.apply(table.number());
+            UnoGame game = pool.acquire(strategies, names, tableSeeds.childSeed(SeedTree.DECK), listener);
+            game.setMaxTurns(maxTurns);
+            game.run();
+            winner = game.getWinnerIndex();
+            turns = game.getTurnCount();
+            pool.release(game); // nothing below touches the game
+        } catch (RuntimeException e) {
+            tablesFailed.increment();
+            for (Entrant entrant : seats) entrant.outcome.completeExceptionally(e);
+            return;
+        }
+        tablesFinished.increment();
+        String winnerName = winner < 0 ? null : names.get(winner);
+        for (int seat = 0; seat < seats.size(); seat++) {
+            Entrant entrant = seats.get(seat);
+            entrant.outcome.complete(new Outcome(seat, winner, winnerName, turns, entrant.waitNanos));
+        }
+    }
+
+    /** @return Entrants waiting for a table. */
+    public int getQueued() { return queued.get(); }
+
+    /** @return Entrants that have joined since the lobby opened. */
+    public long getJoins() { return joins.sum(); }
+
+    /** @return Tables seated and handed to the executor. */
+    public long getTablesStarted() { return tablesStarted.sum(); }
+
+    /** @return Tables whose game has been played. */
+    public long getTablesFinished() { return tablesFinished.sum(); }
+
+    /** @return Tables that were rejected by the executor or whose game threw; their entrants' futures fail. */
+    public long getTablesFailed() { return tablesFailed.sum(); }
+
+    /** @return A copy of the distribution of queue waits, in microseconds, of every seated entrant. */
+    public Histogram getQueueWaitMicros() {
+        lock.lock();
+        try {
+            return new Histogram().merge(queueWaitMicros);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** @return The pool the lobby's games come from. */
+    public GamePool getPool() { return pool; }
+
+    @Override
+    public String toString() {
+        return "projectone.Lobby [queued=" + getQueued() + ", joins=" + getJoins() + ", tables=" + getTablesStarted() + "]";
+    }
+
+    /**
+     * Command-line entry point for a synthetic load test:
+     * {@code java projectone.Lobby [--joins N] [--table 4] [--producers P] [--threads T] [--seed S]}
+     * P threads join BasicAIStrategy bots with normally distributed ratings as fast as they
+     * can, while T threads play the tables; the lobby rematches every 10 ms.
+     * @param args Command-line options.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int joinsWanted = 200_000;
+        int table = 4;
+        int producers = 4;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.currentTimeMillis();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (i + 1 >= args.length) throw new IllegalArgumentException("Missing value for " + option);
+                String value = args[++i];
+                switch (option) {
+                    case "--joins": joinsWanted = Integer.parseInt(value); break;
+                    case "--table": table = Integer.parseInt(value); break;
+                    case "--producers": producers = Integer.parseInt(value); break;
+                    case "--threads": threads = Integer.parseInt(value); break;
+                    case "--seed": seed = Long.parseLong(value); break;
+                    default: throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: java projectone.Lobby [--joins N] [--table 4] [--producers P] [--threads T] [--seed S]");
+            System.exit(1);
+            return;
+        }
+
+        ExecutorService games = Executors.newFixedThreadPool(threads);
+        ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor();
+        try {
+            Lobby lobby = new Lobby(games, table, seed);
+            ticker.scheduleAtFixedRate(lobby::rematch, 10, 10, TimeUnit.MILLISECONDS);
+            int perProducer = joinsWanted / producers;
+            Thread[] joiners = new Thread[producers];
+            long start = System.nanoTime();
+            for (int p = 0; p < producers; p++) {
+                SplittableRandom random = new SplittableRandom(seed + p);
+                int producer = p;
+                joiners[p] = new Thread(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        lobby.join("Bot " + producer + "-" + i, 1500 + 200 * random.nextGaussian(), new BasicAIStrategy());
+                    }
+                });
+                joiners[p].start();
+            }
+            for (Thread joiner : joiners) joiner.join();
+            double joinSeconds = (System.nanoTime() - start) / 1e9;
+            while (lobby.getQueued() >= table || lobby.getTablesFinished() + lobby.getTablesFailed() < lobby.getTablesStarted()) {
+                Thread.sleep(10);
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            Histogram waits = lobby.getQueueWaitMicros();
+            System.out.printf("%d joins in %.2f s (%.0f joins/s), %d tables in %.2f s (%.0f tables/s)%n",
+                    lobby.getJoins(), joinSeconds, lobby.getJoins() / joinSeconds,
+                    lobby.getTablesFinished(), seconds, lobby.getTablesFinished() / seconds);
+            System.out.printf("Queue wait: p50 %d us, p99 %d us, max %d us; %d left waiting, %d tables failed%n",
+                    waits.getValueAtQuantile(0.5), waits.getValueAtQuantile(0.99), waits.getMax(), lobby.getQueued(),
+                    lobby.getTablesFailed());
+            System.out.println(lobby.getPool());
+        } finally {
+            ticker.shutdownNow();
+            games.shutdown();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package projectone;
+
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reports game events through SLF4J, for servers and long simulations where the console
+ * narration of {@link ConsoleGameEventListener} is too much.
+ * Events go to four loggers, so each category can be configured on its own:
+ * <ul>
+ *   <li>{@code projectone.setup}: dealing, the starting card, game start and end, errors.</li>
+ *   <li>{@code projectone.turn}: each turn's draw, play, pass or skip.</li>
+ *   <li>{@code projectone.effect}: penalty draws, reversals and wild colors.</li>
+ *   <li>{@code projectone.reshuffle}: the discard pile going back into the deck.</li>
+ * </ul>
+ * Messages are parameterized, so at a disabled level a call builds no string; calls with
+ * more than two arguments, which would allocate an argument array, are guarded. Routine
+ * events are DEBUG (hands in full at TRACE), game results INFO, abandoned games WARN and
+ * errors ERROR; a production table logging at WARN pays only for the level checks.
+ */
+public class LoggingGameEventListener implements GameEventListener {
+    private final Logger setup;
+    private final Logger turn;
+    private final Logger effect;
+    private final Logger reshuffle;
+
+    public LoggingGameEventListener() {
+        this(LoggerFactory.getLogger("projectone.setup"), LoggerFactory.getLogger("projectone.turn"),
+                LoggerFactory.getLogger("projectone.effect"), LoggerFactory.getLogger("projectone.reshuffle"));
+    }
+
+    /**
+     * @param setup Logger for setup, results and errors.
+     * @param turn Logger for turns.
+     * @param effect Logger for card effects.
+     * @param reshuffle Logger for reshuffles.
+     */
+    LoggingGameEventListener(Logger setup, Logger turn, Logger effect, Logger reshuffle) {
+        this.setup = Objects.requireNonNull(setup, "Setup logger cannot be null");
+        this.turn = Objects.requireNonNull(turn, "Turn logger cannot be null");
+        this.effect = Objects.requireNonNull(effect, "Effect logger cannot be null");
+        this.reshuffle = Objects.requireNonNull(reshuffle, "Reshuffle logger cannot be null");
+    }
+
+    @Override
+    public void onHandsDealt(UnoGame game, int cardsPerPlayer) {
+        setup.debug("Dealt {} cards to each of {} players", cardsPerPlayer, game.getNumberOfPlayers());
+    }
+
+    @Override
+    public void onInitialCardFlipped(Card card, boolean accepted) {
+        if (accepted) {
+            setup.debug("Starting card {}", card);
+        } else {
+            setup.debug("Flipped {}, which cannot start the pile; reshuffling", card);
+        }
+    }
+
+    @Override
+    public void onGameStart(UnoGame game) {
+        setup.debug("Game started with {}", game.getPlayers());
+    }
+
+    @Override
+    public void onTurnStart(UnoGame game, Player player) {
+        if (turn.isTraceEnabled()) {
+            turn.trace("{} to play on {} (wild color {}), hand {}",
+                    player.getName(), game.getPile().getTopCard(), game.getActiveWildColor(), player.getHand());
+        } else if (turn.isDebugEnabled()) {
+            turn.debug("{} to play on {} with {} cards", player.getName(), game.getPile().getTopCard(), player.getHand().getSize());
+        }
+    }
+
+    @Override
+    public void onPlayerSkipped(Player player) {
+        turn.debug("{} is skipped", player.getName());
+    }
+
+    @Override
+    public void onCardDrawn(Player player, Card card) {
+        turn.debug("{} has no valid cards and draws {}", player.getName(), card);
+    }
+
+    @Override
+    public void onCardPlayed(Player player, Card card) {
+        turn.debug("{} plays {}", player.getName(), card);
+    }
+
+    @Override
+    public void onTurnPassed(Player player) {
+        turn.debug("{} passes", player.getName());
+    }
+
+    @Override
+    public void onCardsDrawn(Player player, int count) {
+        if (effect.isDebugEnabled()) {
+            effect.debug("{} draws {} card(s), hand size now {}", player.getName(), count, player.getHand().getSize());
+        }
+    }
+
+    @Override
+    public void onDirectionReversed(boolean clockwise) {
+        effect.debug("Direction is now {}", clockwise ? "clockwise" : "counter-clockwise");
+    }
+
+    @Override
+    public void onWildColorChosen(Player player, Color color) {
+        effect.debug("{} chooses {}", player.getName(), color);
+    }
+
+    @Override
+    public void onReshuffle(int cardsInDeck) {
+        reshuffle.info("Discard pile reshuffled into the deck: {} cards", cardsInDeck);
+    }
+
+    @Override
+    public void onGameWon(Player winner) {
+        setup.info("{} wins", winner.getName());
+    }
+
+    @Override
+    public void onGameOver(UnoGame game) {
+        if (game.getWinnerIndex() < 0) {
+            setup.warn("Game abandoned without a winner after {} turns", game.getTurnCount());
+        } else if (setup.isDebugEnabled()) {
+            setup.debug("Game over after {} turns and {} reshuffles", game.getTurnCount(), game.getReshuffleCount());
+        }
+    }
+
+    @Override
+    public void onError(String message) {
+        setup.error("Game cannot continue: {}", message);
+    }
+}
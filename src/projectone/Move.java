@@ -0,0 +1,115 @@
+package projectone;
+
+/**
+ * One decision a player can make on their turn: play a card (with a color when the
+ * card is wild), draw a card, or pass after drawing.
+ * Moves are immutable and shared: every possible move exists exactly once, so
+ * generating and applying moves never allocates. Each move also has a dense
+ * {@link #getIndex() index} in the range 0..{@link #COUNT}-1 for use in per-move arrays.
+ */
+public final class Move {
+    /** The kind of move. */
+    public enum Type { PLAY, DRAW, PASS }
+
+    private static final Color[] WILD_COLORS = {Color.RED, Color.YELLOW, Color.GREEN, Color.BLUE};
+    private static final int WILD_CARD_TYPES = 2; // WILD and WILD_DRAW_FOUR have IDs 0 and 1
+    private static final int WILD_MOVES = WILD_CARD_TYPES * WILD_COLORS.length;
+
+    /** Number of distinct moves, and the size of any per-move array. */
+    public static final int COUNT = WILD_MOVES + (CardTable.SIZE - WILD_CARD_TYPES) + 2;
+
+    private static final Move[] MOVES = new Move[COUNT];
+
+    /** Draw one card because nothing in hand can be played. */
+    public static final Move DRAW;
+    /** End the turn without playing, after drawing an unplayable card. */
+    public static final Move PASS;
+
+    static {
+        for (int id = 0; id < CardTable.SIZE; id++) {
+            Card card = CardTable.byId(id);
+            if (card.getColor() == Color.WILD) {
+                for (Color color : WILD_COLORS) {
+                    int index = playIndex(id, color);
+                    MOVES[index] = new Move(Type.PLAY, card, color, index);
+                }
+            } else {
+                int index = playIndex(id, null);
+                MOVES[index] = new Move(Type.PLAY, card, null, index);
+            }
+        }
+        DRAW = new Move(Type.DRAW, null, null, COUNT - 2);
+        PASS = new Move(Type.PASS, null, null, COUNT - 1);
+        MOVES[DRAW.index] = DRAW;
+        MOVES[PASS.index] = PASS;
+    }
+
+    private final Type type;
+    private final Card card;
+    private final Color wildColor;
+    private final int index;
+
+    private Move(Type type, Card card, Color wildColor, int index) {
+        this.type = type;
+        this.card = card;
+        this.wildColor = wildColor;
+        this.index = index;
+    }
+
+    private static int playIndex(int cardId, Color wildColor) {
+        return cardId < WILD_CARD_TYPES
+                ? cardId * WILD_COLORS.length + wildColor.ordinal()
+                : WILD_MOVES + cardId - WILD_CARD_TYPES;
+    }
+
+    /**
+     * Returns the move that plays a card.
+     * @param card The card to play.
+     * @param wildColor The color to choose if the card is wild; ignored otherwise.
+     * @return The shared move instance.
+     * @throws IllegalArgumentException if a wild card is given no color or the WILD color.
+     */
+    public static Move play(Card card, Color wildColor) {
+        return play(card.getId(), wildColor);
+    }
+
+    /**
+     * Returns the move that plays a card given by {@link CardTable} ID.
+     * @param cardId The card to play.
+     * @param wildColor The color to choose if the card is wild; ignored otherwise.
+     * @return The shared move instance.
+     * @throws IllegalArgumentException if a wild card is given no color or the WILD color.
+     */
+    public static Move play(int cardId, Color wildColor) {
+        if (cardId < WILD_CARD_TYPES && (wildColor == null || wildColor == Color.WILD)) {
+            throw new IllegalArgumentException("Playing a wild card requires a chosen color, not " + wildColor);
+        }
+        return MOVES[playIndex(cardId, wildColor)];
+    }
+
+    /**
+     * Returns the move with a given index.
+     * @param index The move index (0..COUNT-1).
+     * @return The shared move instance.
+     */
+    public static Move byIndex(int index) {
+        return MOVES[index];
+    }
+
+    public Type getType() { return type; }
+
+    /** @return The card played, or null for DRAW and PASS. */
+    public Card getCard() { return card; }
+
+    /** @return The color chosen for a wild card, or null. */
+    public Color getWildColor() { return wildColor; }
+
+    /** @return The dense move index. */
+    public int getIndex() { return index; }
+
+    @Override
+    public String toString() {
+        if (type != Type.PLAY) return type.toString();
+        return wildColor == null ? "PLAY " + card : "PLAY " + card + " as " + wildColor;
+    }
+}
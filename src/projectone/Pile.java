@@ -7,21 +7,22 @@ package projectone; /**
  * AI Tool Used: 
  * This is my own work as defined by the University's Academic Integrity Policy.
  **/
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Deque;
+import java.util.Arrays;
 import java.util.List;
 /**
  * Represents a pile of cards, specifically the discard pile in an Uno game.
  * This class allows adding cards to the pile, peeking at the top card,
  * and reshuffling cards for the deck.
+ * Cards are stored as {@link CardTable} IDs in an {@code int[]} with the top at the end,
+ * so the buried cards can be handed to the {@link Deck} by swapping arrays instead of copying.
  */
 public class Pile {
-    // Use Deque for efficient addFirst (push) and peekFirst (peek)
-    private final Deque<Card> cards;
+    private int[] cardIds;
+    private int size; // cardIds[size - 1] is the top card
 
     public Pile() {
-        cards = new ArrayDeque<>();
+        cardIds = new int[Deck.STANDARD_SIZE];
     }
 
     /**
@@ -32,7 +33,10 @@ public class Pile {
         if (card == null) {
             throw new IllegalArgumentException("Cannot add null card to pile");
         }
-        cards.addFirst(card); // Add to the "top"
+        if (size == cardIds.length) {
+            cardIds = Arrays.copyOf(cardIds, size * 2);
+        }
+        cardIds[size++] = card.getId();
     }
 
     /**
@@ -40,27 +44,127 @@ public class Pile {
      * @return The top card, or null if the pile is empty.
      */
     public Card getTopCard() {
-        return cards.peekFirst(); // Peek at the "top"
+        return size == 0 ? null : CardTable.byId(cardIds[size - 1]);
+    }
+
+    /**
+     * Returns the Zobrist key of the pile as far as play is concerned, i.e. of its top card.
+     * @return The hash; 0 for an empty pile.
+     */
+    public long getZobristHash() {
+        return size == 0 ? 0L : Zobrist.topCard(cardIds[size - 1]);
+    }
+
+    /**
+     * @return The number of cards in the pile, including the top card.
+     */
+    public int getSize() {
+        return size;
     }
 
     /**
      * Takes all cards except the top card from the pile, leaving the pile
      * with only the current top card. Used for reshuffling into the deck.
+     * {@link Deck#refillFrom(Pile)} does the same without building a list.
      *
-     * @return A list of cards that were below the top card. Returns an empty list
-     *         if the pile had 0 or 1 cards.
+     * @return A list of cards that were below the top card, nearest the top first.
+     *         Returns an empty list if the pile had 0 or 1 cards.
      */
     public List<Card> takeCardsForNewDeck() {
-        if (cards.size() <= 1) {
+        if (size <= 1) {
             return new ArrayList<>(); // Nothing to reshuffle
         }
+        List<Card> cardsToReshuffle = new ArrayList<>(size - 1);
+        for (int i = size - 2; i >= 0; i--) {
+            cardsToReshuffle.add(CardTable.byId(cardIds[i]));
+        }
+        retainTopOnly();
+        return cardsToReshuffle;
+    }
 
-        Card topCard = cards.removeFirst(); // Temporarily remove top
-        List<Card> cardsToReshuffle = new ArrayList<>(cards); // Copy the rest
-        cards.clear(); // Clear the deque
-        cards.addFirst(topCard); // Put the original top card back
+    /**
+     * Gives away the backing array and continues with the replacement, keeping only the top card.
+     * The returned array holds the buried cards at indices {@code 0 .. getSize() - 2} as they were
+     * before the call.
+     * @param replacement An array to use as the pile's storage from now on; its contents are overwritten.
+     * @return The previous backing array.
+     */
+    int[] swapStorage(int[] replacement) {
+        int[] previous = cardIds;
+        int top = previous[size - 1];
+        cardIds = replacement.length > 0 ? replacement : new int[Deck.STANDARD_SIZE];
+        cardIds[0] = top;
+        size = 1;
+        return previous;
+    }
 
-        return cardsToReshuffle;
+    /**
+     * Exposes the backing array for a bulk copy; only indices below {@link #getSize()} are valid.
+     */
+    int[] cardIds() {
+        return cardIds;
+    }
+
+    /**
+     * Copies the pile's card IDs, bottom first, into a snapshot array.
+     * @param target Array to copy into; replaced by a larger one if too small.
+     * @return The array holding the copy.
+     */
+    int[] saveTo(int[] target) {
+        return GameState.copyInto(cardIds, size, target);
+    }
+
+    /**
+     * Replaces the pile's contents with a saved order.
+     * @param ids Card IDs, bottom first.
+     * @param length Number of IDs to load.
+     */
+    void loadFrom(int[] ids, int length) {
+        cardIds = GameState.copyInto(ids, length, cardIds);
+        size = length;
+    }
+
+    /**
+     * Removes the top card, e.g. when undoing a play.
+     * @return The removed card's {@link CardTable} ID.
+     * @throws IllegalStateException if the pile is empty.
+     */
+    int popCardId() {
+        if (size == 0) throw new IllegalStateException("Cannot take a card from an empty pile");
+        return cardIds[--size];
+    }
+
+    /**
+     * Puts cards back underneath the top card, undoing {@link #retainTopOnly()} or a refill.
+     * @param ids Source array of card IDs, bottom first.
+     * @param from Index of the first ID to copy.
+     * @param length Number of IDs to copy.
+     */
+    void restoreBuried(int[] ids, int from, int length) {
+        int top = cardIds[size - 1];
+        if (length + 1 > cardIds.length) {
+            cardIds = new int[Math.max(length + 1, cardIds.length * 2)];
+        }
+        System.arraycopy(ids, from, cardIds, 0, length);
+        cardIds[length] = top;
+        size = length + 1;
+    }
+
+    /**
+     * Empties the pile, so a pooled game can reuse it.
+     */
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * Drops every card except the top one.
+     */
+    void retainTopOnly() {
+        if (size > 1) {
+            cardIds[0] = cardIds[size - 1];
+            size = 1;
+        }
     }
 
      /**
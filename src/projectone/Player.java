@@ -14,9 +14,9 @@ import java.util.Objects;
  * This is my own work as defined by the University's Academic Integrity Policy.
  */
 public class Player {
-    private final String name;
+    private String name;
     private final Hand hand;
-    private final PlayerStrategy strategy;
+    private PlayerStrategy strategy;
 
     /**
      * Constructs a new projectone.Player with a name and strategy.
@@ -24,14 +24,31 @@ public class Player {
      * @param strategy The strategy used by the player. Must not be null.
      */
     public Player(String name, PlayerStrategy strategy) {
+        checkArguments(name, strategy);
+        this.name = name;
+        this.hand = new Hand();
+        this.strategy = strategy;
+    }
+
+    /**
+     * Seats someone new in this player's place with an empty hand, so a pooled game can
+     * reuse the player and its hand.
+     * @param name The new player's name. Must not be null or blank.
+     * @param strategy The new player's strategy. Must not be null.
+     */
+    void reset(String name, PlayerStrategy strategy) {
+        checkArguments(name, strategy);
+        this.name = name;
+        this.strategy = strategy;
+        hand.clear();
+    }
+
+    private static void checkArguments(String name, PlayerStrategy strategy) {
         Objects.requireNonNull(name, "projectone.Player name cannot be null");
         Objects.requireNonNull(strategy, "projectone.Player strategy cannot be null");
         if (name.trim().isEmpty()) {
             throw new IllegalArgumentException("projectone.Player name cannot be blank");
         }
-        this.name = name;
-        this.hand = new Hand();
-        this.strategy = strategy;
     }
 
     public String getName() {
@@ -42,6 +59,11 @@ public class Player {
         return hand;
     }
 
+    /** @return The strategy making this player's decisions. */
+    PlayerStrategy getStrategy() {
+        return strategy;
+    }
+
     /**
      * Uses the strategy to choose a card to play from the list of valid options.
      * @param gameController Game context to assist strategy decisions.
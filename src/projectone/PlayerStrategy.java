@@ -26,4 +26,12 @@ public interface PlayerStrategy {
      * @return The color chosen for wild use.
      */
     Color chooseWildColor(UnoGame gameController, Hand hand);
+
+    /**
+     * Supplies the seed for any random choices this strategy makes.
+     * Strategies that use randomness should draw all of it from a generator seeded here,
+     * so seeded simulations are reproducible. The default ignores the seed.
+     * @param seed The seed for this strategy's random stream.
+     */
+    default void setSeed(long seed) {}
 }
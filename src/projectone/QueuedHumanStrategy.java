@@ -0,0 +1,204 @@
+package projectone;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+
+/**
+ * Strategy for a human player whose decisions arrive from another thread, such as a
+ * network connection or a UI, instead of from the console.
+ * When the game needs a decision, the strategy publishes a {@link Prompt} and waits for
+ * {@link #answer(int)}. Used synchronously, the game thread waits on a future, never
+ * inside {@code synchronized}, so on a virtual thread the wait parks the table cheaply
+ * instead of holding a platform thread. If the waiting thread is interrupted (the table
+ * is cancelled), the decision fails with a {@link CancellationException}. Used as an
+ * {@link AsyncPlayerStrategy}, no thread waits at all; a decision abandoned by the engine
+ * (its deadline passed) can no longer be answered, and is withdrawn if it was not yet taken.
+ * Like {@link HumanStrategy}, a human with a playable card must play one.
+ */
+public class QueuedHumanStrategy implements PlayerStrategy, AsyncPlayerStrategy {
+    private static final List<Color> COLORS = List.of(Color.RED, Color.YELLOW, Color.GREEN, Color.BLUE);
+
+    /**
+     * A decision the game is waiting for.
+     */
+    public static final class Prompt {
+        /** What is being decided. */
+        public enum Kind { CARD, COLOR }
+
+        private final Kind kind;
+        private final List<?> options;
+        private final Card topCard;
+        private final Color activeWildColor;
+
+        Prompt(Kind kind, List<?> options, Card topCard, Color activeWildColor) {
+            this.kind = kind;
+            this.options = List.copyOf(options);
+            this.topCard = topCard;
+            this.activeWildColor = activeWildColor;
+        }
+
+        public Kind getKind() { return kind; }
+
+        /** @return The choices, answered by index: {@link Card}s for {@link Kind#CARD}, {@link Color}s for {@link Kind#COLOR}. */
+        public List<?> getOptions() { return options; }
+
+        /** @return The card on top of the pile when the prompt was made. */
+        public Card getTopCard() { return topCard; }
+
+        /** @return The active wild color when the prompt was made, or null. */
+        public Color getActiveWildColor() { return activeWildColor; }
+
+        @Override
+        public String toString() {
+            return "projectone.QueuedHumanStrategy.Prompt [" + kind + " " + options + ", top=" + topCard + "]";
+        }
+    }
+
+    /** The prompt being waited on and the future its answer completes. */
+    private static final class Pending {
+        final Prompt prompt;
+        final CompletableFuture<Integer> choice = new CompletableFuture<>();
+
+        Pending(Prompt prompt) {
+            this.prompt = prompt;
+        }
+    }
+
+    private final BlockingQueue<Prompt> prompts = new LinkedBlockingQueue<>();
+    private final AtomicReference<Pending> pending = new AtomicReference<>();
+
+    @Override
+    public Card chooseCard(UnoGame gameController, Hand hand, List<Card> playableCards, Card topPileCard, Color activeWildColor) {
+        if (playableCards.isEmpty()) return null;
+        return playableCards.get(await(ask(cardPrompt(playableCards, topPileCard, activeWildColor))));
+    }
+
+    @Override
+    public Color chooseWildColor(UnoGame gameController, Hand hand) {
+        return COLORS.get(await(ask(colorPrompt(gameController))));
+    }
+
+    @Override
+    public CompletableFuture<Card> chooseCardAsync(UnoGame game, Hand hand, List<Card> playableCards, Card topPileCard, Color activeWildColor) {
+        if (playableCards.isEmpty()) return CompletableFuture.completedFuture(null);
+        List<Card> options = List.copyOf(playableCards);
+        return decide(cardPrompt(options, topPileCard, activeWildColor), options::get);
+    }
+
+    @Override
+    public CompletableFuture<Color> chooseWildColorAsync(UnoGame game, Hand hand) {
+        return decide(colorPrompt(game), COLORS::get);
+    }
+
+    private <T> CompletableFuture<T> decide(Prompt prompt, IntFunction<T> option) {
+        CompletableFuture<Integer> choice = ask(prompt);
+        CompletableFuture<T> decision = choice.thenApply(option::apply);
+        // An engine that gives up on the decision (e.g. its deadline passed) withdraws the prompt
+        decision.whenComplete((value, error) -> {
+            if (error != null) choice.cancel(false);
+        });
+        return decision;
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        // Human decisions are not random
+    }
+
+    private static Prompt cardPrompt(List<Card> playableCards, Card topPileCard, Color activeWildColor) {
+        return new Prompt(Prompt.Kind.CARD, playableCards, topPileCard, activeWildColor);
+    }
+
+    private static Prompt colorPrompt(UnoGame game) {
+        return new Prompt(Prompt.Kind.COLOR, COLORS, game.getPile().getTopCard(), null);
+    }
+
+    private CompletableFuture<Integer> ask(Prompt prompt) {
+        Pending decision = new Pending(prompt);
+        Pending previous = pending.getAndSet(decision);
+        if (previous != null) previous.choice.cancel(false);
+        decision.choice.whenComplete((choice, error) -> {
+            pending.compareAndSet(decision, null);
+            prompts.remove(prompt);
+        });
+        prompts.add(prompt);
+        // Settled before it was queued, so the hook above had nothing to withdraw
+        if (decision.choice.isDone()) prompts.remove(prompt);
+        return decision.choice;
+    }
+
+    private static int await(CompletableFuture<Integer> choice) {
+        try {
+            return choice.get();
+        } catch (InterruptedException e) {
+            choice.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for a decision");
+        } catch (ExecutionException e) {
+            throw new CancellationException("Decision failed: " + e.getCause());
+        }
+    }
+
+    /**
+     * Waits for the game's next decision. Prompts the game stopped waiting for before they
+     * were taken are never handed out.
+     * @return The prompt.
+     * @throws InterruptedException if the calling thread is interrupted while waiting.
+     */
+    public Prompt nextPrompt() throws InterruptedException {
+        return prompts.take();
+    }
+
+    /**
+     * Waits up to a timeout for the game's next decision.
+     * @param timeout How long to wait.
+     * @param unit Unit of the timeout.
+     * @return The prompt, or null if none came in time.
+     * @throws InterruptedException if the calling thread is interrupted while waiting.
+     */
+    public Prompt pollPrompt(long timeout, TimeUnit unit) throws InterruptedException {
+        return prompts.poll(timeout, unit);
+    }
+
+    /**
+     * Answers the pending prompt and wakes the game.
+     * @param choice Index into the prompt's options.
+     * @throws IllegalStateException if no decision is pending or it was already answered or abandoned.
+     * @throws IllegalArgumentException if the index is out of range.
+     */
+    public void answer(int choice) {
+        Pending decision = pending.get();
+        if (decision == null) throw new IllegalStateException("No decision is pending");
+        complete(decision, choice);
+    }
+
+    /**
+     * Answers a specific prompt, failing if the game has stopped waiting for it. Safer than
+     * {@link #answer(int)} when prompts can expire, since an index meant for an expired
+     * prompt is never applied to the next one.
+     * @param prompt The prompt being answered.
+     * @param choice Index into the prompt's options.
+     * @throws IllegalStateException if the prompt is not the pending one or was already answered or abandoned.
+     * @throws IllegalArgumentException if the index is out of range.
+     */
+    public void answer(Prompt prompt, int choice) {
+        Pending decision = pending.get();
+        if (decision == null || decision.prompt != prompt) throw new IllegalStateException("The prompt is no longer pending");
+        complete(decision, choice);
+    }
+
+    private static void complete(Pending decision, int choice) {
+        int options = decision.prompt.getOptions().size();
+        if (choice < 0 || choice >= options) {
+            throw new IllegalArgumentException("Choice must be 0 to " + (options - 1) + ": " + choice);
+        }
+        if (!decision.choice.complete(choice)) throw new IllegalStateException("The decision was already answered or abandoned");
+    }
+}
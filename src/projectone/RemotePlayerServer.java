@@ -0,0 +1,354 @@
+package projectone;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Non-blocking socket front end for remote players, speaking {@link WireProtocol}.
+ * A few selector threads serve every connection: the first also accepts, and new
+ * connections are spread over all of them in turn. Each connection gets a
+ * {@link RemoteStrategy}, handed to the {@code onConnect} callback to be seated at a
+ * table, typically on a {@link GameServer}.
+ * Game threads never touch a socket. A frame sent by a game is queued on its connection,
+ * and the connection's selector thread is woken once per batch to write everything queued
+ * into one buffer. Answers are parsed on the selector thread and complete the waiting
+ * decision directly.
+ * A client that stops reading cannot make the server buffer without limit: once more than
+ * {@link #setMaxQueuedBytes(int) a cap} of frames waits for its socket, it is disconnected
+ * and the fallback strategy takes over its seat.
+ */
+public class RemotePlayerServer implements AutoCloseable {
+    private static final int BACKLOG = 4096;
+    private static final int WRITE_BUFFER_BYTES = 4096;
+    private static final int READ_BUFFER_BYTES = 64;
+    private static final int DEFAULT_MAX_QUEUED_BYTES = 64 * 1024;
+
+    private final ServerSocketChannel serverChannel;
+    private final SelectorLoop[] loops;
+    private final Consumer<RemoteStrategy> onConnect;
+    private final AtomicInteger nextLoop = new AtomicInteger();
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final LongAdder acceptedConnections = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder slowClientsDropped = new LongAdder();
+    private volatile int maxQueuedBytes = DEFAULT_MAX_QUEUED_BYTES;
+    private volatile boolean closed;
+
+    /**
+     * Binds a server and starts its selector threads.
+     * @param address Where to listen; port 0 picks a free port.
+     * @param selectorThreads Number of selector threads; must be positive.
+     * @param onConnect Receives each new player. Called on a selector thread, so it must not block.
+     * @return The running server.
+     * @throws IOException if the address cannot be bound.
+     */
+    public static RemotePlayerServer open(InetSocketAddress address, int selectorThreads, Consumer<RemoteStrategy> onConnect) throws IOException {
+        RemotePlayerServer server = new RemotePlayerServer(address, selectorThreads, onConnect);
+        for (SelectorLoop loop : server.loops) loop.thread.start(); // only once the server is fully built
+        return server;
+    }
+
+    private RemotePlayerServer(InetSocketAddress address, int selectorThreads, Consumer<RemoteStrategy> onConnect) throws IOException {
+        Objects.requireNonNull(address, "Address cannot be null");
+        if (selectorThreads <= 0) throw new IllegalArgumentException("Selector threads must be positive: " + selectorThreads);
+        this.onConnect = Objects.requireNonNull(onConnect, "Connect callback cannot be null");
+        this.serverChannel = ServerSocketChannel.open();
+        this.loops = new SelectorLoop[selectorThreads];
+        try {
+            serverChannel.bind(address, BACKLOG);
+            serverChannel.configureBlocking(false);
+            for (int i = 0; i < loops.length; i++) loops[i] = new SelectorLoop(i + 1);
+            serverChannel.register(loops[0].selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Sets how many bytes of frames may wait for one client's socket before the client is
+     * disconnected as too slow. Applies to frames sent from now on.
+     * @param maxQueuedBytes The cap; must be at least {@link WireProtocol#MAX_PAYLOAD} plus a header.
+     */
+    public void setMaxQueuedBytes(int maxQueuedBytes) {
+        if (maxQueuedBytes < WireProtocol.HEADER_BYTES + WireProtocol.MAX_PAYLOAD) {
+            throw new IllegalArgumentException("Max queued bytes must hold a full frame: " + maxQueuedBytes);
+        }
+        this.maxQueuedBytes = maxQueuedBytes;
+    }
+
+    /** One selector thread and the connections registered with it. */
+    private final class SelectorLoop implements Runnable {
+        final Selector selector;
+        final Thread thread;
+        final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+        SelectorLoop(int number) throws IOException {
+            this.selector = Selector.open();
+            this.thread = new Thread(this, "uno-nio-" + number);
+            thread.setDaemon(true);
+        }
+
+        /** Runs a task on this loop's thread. */
+        void execute(Runnable task) {
+            tasks.add(task);
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!closed) {
+                    selector.select(this::handle);
+                    Runnable task;
+                    while ((task = tasks.poll()) != null) task.run();
+                }
+            } catch (IOException | ClosedSelectorException e) {
+                // The server is closing
+            } finally {
+                for (SelectionKey key : selector.keys()) {
+                    if (key.attachment() instanceof Connection connection) connection.close();
+                }
+                try {
+                    selector.close();
+                } catch (IOException e) {
+                    // Nothing left to release
+                }
+            }
+        }
+
+        private void handle(SelectionKey key) {
+            if (!key.isValid()) return;
+            if (key.isAcceptable()) {
+                accept();
+                return;
+            }
+            Connection connection = (Connection) key.attachment();
+            if (key.isReadable()) connection.read();
+            if (key.isValid() && key.isWritable()) connection.write();
+        }
+
+        private void accept() {
+            try {
+                SocketChannel channel;
+                while ((channel = serverChannel.accept()) != null) {
+                    channel.configureBlocking(false);
+                    channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                    SelectorLoop loop = loops[Math.floorMod(nextLoop.getAndIncrement(), loops.length)];
+                    SocketChannel accepted = channel;
+                    loop.execute(() -> loop.register(accepted));
+                }
+            } catch (IOException e) {
+                // A failed accept loses only that connection
+            }
+        }
+
+        private void register(SocketChannel channel) {
+            Connection connection = new Connection(channel, this);
+            try {
+                connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+            } catch (IOException e) {
+                try {
+                    channel.close();
+                } catch (IOException closing) {
+                    // Already gone
+                }
+                return;
+            }
+            openConnections.incrementAndGet();
+            acceptedConnections.increment();
+            try {
+                onConnect.accept(connection.strategy);
+            } catch (RuntimeException e) {
+                connection.close(); // no table for this player; the loop serves everyone else
+            }
+        }
+    }
+
+    /** One remote player's socket. Touched only by its loop's thread, except {@link #send}. */
+    private final class Connection {
+        final SocketChannel channel;
+        final SelectorLoop loop;
+        final RemoteStrategy strategy;
+        final Queue<byte[]> outbound = new ConcurrentLinkedQueue<>();
+        final AtomicInteger queuedBytes = new AtomicInteger();
+        final AtomicBoolean flushScheduled = new AtomicBoolean();
+        final ByteBuffer in = ByteBuffer.allocate(READ_BUFFER_BYTES);
+        final ByteBuffer out = ByteBuffer.allocate(WRITE_BUFFER_BYTES).flip();
+        SelectionKey key;
+        boolean open = true;
+        volatile boolean lagging; // over the queue cap; further frames are discarded
+
+        Connection(SocketChannel channel, SelectorLoop loop) {
+            this.channel = channel;
+            this.loop = loop;
+            this.strategy = new RemoteStrategy(this::send);
+        }
+
+        /** Queues a frame, or drops the client if too much is already queued; called on a game thread. */
+        void send(byte[] frame) {
+            if (lagging) return;
+            if (queuedBytes.addAndGet(frame.length) > maxQueuedBytes) {
+                lagging = true;
+                loop.execute(this::dropLagging);
+                return;
+            }
+            outbound.add(frame);
+            if (flushScheduled.compareAndSet(false, true)) loop.execute(this::flush);
+        }
+
+        private void dropLagging() {
+            if (!open) return;
+            slowClientsDropped.increment();
+            close();
+        }
+
+        private void flush() {
+            flushScheduled.set(false); // frames queued from now on schedule another flush
+            if (open) write();
+        }
+
+        void write() {
+            try {
+                while (true) {
+                    if (!out.hasRemaining()) {
+                        out.clear();
+                        byte[] frame;
+                        while ((frame = outbound.peek()) != null && frame.length <= out.remaining()) {
+                            out.put(outbound.poll());
+                            queuedBytes.addAndGet(-frame.length);
+                        }
+                        out.flip();
+                        if (!out.hasRemaining()) break;
+                    }
+                    bytesSent.add(channel.write(out));
+                    if (out.hasRemaining()) {
+                        // The socket is full; carry on when it drains
+                        key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                        return;
+                    }
+                }
+                key.interestOps(SelectionKey.OP_READ);
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        void read() {
+            try {
+                int n = channel.read(in);
+                if (n < 0) {
+                    close();
+                    return;
+                }
+                bytesReceived.add(n);
+                in.flip();
+                while (in.remaining() >= WireProtocol.HEADER_BYTES + 1) {
+                    int type = in.get() & 0xFF;
+                    int length = in.get() & 0xFF;
+                    if (type != WireProtocol.CHOOSE || length != 1 || !strategy.answer(in.get() & 0xFF)) {
+                        close(); // protocol error
+                        return;
+                    }
+                }
+                in.compact();
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        void close() {
+            if (!open) return;
+            open = false;
+            if (key != null) key.cancel();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // Already gone
+            }
+            outbound.clear();
+            openConnections.decrementAndGet();
+            strategy.disconnected();
+        }
+    }
+
+    /** @return The address the server listens on. */
+    public InetSocketAddress getLocalAddress() {
+        try {
+            return (InetSocketAddress) serverChannel.getLocalAddress();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** @return Connections currently open. */
+    public int getOpenConnections() { return openConnections.get(); }
+
+    /** @return Connections accepted since the server started. */
+    public long getAcceptedConnections() { return acceptedConnections.sum(); }
+
+    /** @return Bytes written to clients. */
+    public long getBytesSent() { return bytesSent.sum(); }
+
+    /** @return Bytes read from clients. */
+    public long getBytesReceived() { return bytesReceived.sum(); }
+
+    /** @return Clients disconnected for letting too many frames queue up. */
+    public long getSlowClientsDropped() { return slowClientsDropped.sum(); }
+
+    /**
+     * Stops accepting, closes every connection and stops the selector threads. Players
+     * still seated are handed to their fallback strategy.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            serverChannel.close();
+        } catch (IOException e) {
+            // Closing anyway
+        }
+        for (SelectorLoop loop : loops) {
+            if (loop != null) loop.selector.wakeup();
+        }
+        for (SelectorLoop loop : loops) {
+            if (loop == null) continue;
+            if (!loop.thread.isAlive()) {
+                try {
+                    loop.selector.close(); // never started, or already stopped
+                } catch (IOException e) {
+                    // Nothing left to release
+                }
+                continue;
+            }
+            try {
+                loop.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "projectone.RemotePlayerServer [open=" + getOpenConnections() + ", sent=" + getBytesSent()
+                + " B, received=" + getBytesReceived() + " B, slowDropped=" + getSlowClientsDropped() + "]";
+    }
+}
@@ -0,0 +1,196 @@
+package projectone;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Strategy for a player connected over the network through {@link RemotePlayerServer}.
+ * It is also the player's view of the game: registered as the game's listener (or part of
+ * a {@link CompositeGameEventListener}), it sends every event to the client as a
+ * {@link WireProtocol} delta, showing the player their own cards and only the count of
+ * everyone else's. Decisions are sent as prompts, and the game thread waits for the
+ * client's answer; on a {@link GameServer} table that wait parks a virtual thread, so
+ * thousands of remote players need only the server's few selector threads.
+ * If the client disconnects or breaks the protocol, {@link BasicAIStrategy} plays the
+ * seat for the rest of the game. Like {@link QueuedHumanStrategy}, an interrupted wait
+ * fails with a {@link CancellationException}.
+ */
+public class RemoteStrategy implements PlayerStrategy, GameEventListener {
+    private static final Color[] COLORS = {Color.RED, Color.YELLOW, Color.GREEN, Color.BLUE};
+
+    /** A prompt waiting for its answer. */
+    private static final class Pending {
+        final int options;
+        final CompletableFuture<Integer> choice = new CompletableFuture<>();
+
+        Pending(int options) {
+            this.options = options;
+        }
+    }
+
+    private final Consumer<byte[]> connection;
+    private final PlayerStrategy fallback = new BasicAIStrategy();
+    private final AtomicReference<Pending> pending = new AtomicReference<>();
+    private volatile boolean connected = true;
+    private List<Player> players = List.of();
+    private int seat = -1;
+
+    /**
+     * @param connection Sends one frame to the client; called on the game's thread.
+     */
+    RemoteStrategy(Consumer<byte[]> connection) {
+        this.connection = Objects.requireNonNull(connection, "Connection cannot be null");
+    }
+
+    @Override
+    public Card chooseCard(UnoGame gameController, Hand hand, List<Card> playableCards, Card topPileCard, Color activeWildColor) {
+        if (playableCards.isEmpty()) return null;
+        int choice = ask(WireProtocol.cardsFrame(WireProtocol.PROMPT_CARD, playableCards), playableCards.size());
+        return choice >= 0 ? playableCards.get(choice) : fallback.chooseCard(gameController, hand, playableCards, topPileCard, activeWildColor);
+    }
+
+    @Override
+    public Color chooseWildColor(UnoGame gameController, Hand hand) {
+        int choice = ask(WireProtocol.frame(WireProtocol.PROMPT_COLOR), COLORS.length);
+        return choice >= 0 ? COLORS[choice] : fallback.chooseWildColor(gameController, hand);
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        fallback.setSeed(seed);
+    }
+
+    /** @return The client's choice, or -1 if the client is gone. */
+    private int ask(byte[] prompt, int options) {
+        if (!connected) return -1;
+        Pending decision = new Pending(options);
+        pending.set(decision);
+        if (!connected) decision.choice.complete(-1); // the client left before the prompt was registered
+        connection.accept(prompt);
+        try {
+            return decision.choice.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for a remote decision");
+        } catch (ExecutionException e) {
+            return -1;
+        } finally {
+            pending.compareAndSet(decision, null);
+        }
+    }
+
+    /**
+     * Delivers the client's answer to the pending prompt. Called on a selector thread.
+     * @param choice The index the client sent.
+     * @return false if no prompt was waiting or the index is out of range, a protocol error.
+     */
+    boolean answer(int choice) {
+        Pending decision = pending.get();
+        if (decision == null || choice < 0 || choice >= decision.options) return false;
+        return decision.choice.complete(choice);
+    }
+
+    /** Hands the seat to the fallback strategy once the connection is closed. */
+    void disconnected() {
+        connected = false;
+        Pending decision = pending.get();
+        if (decision != null) decision.choice.complete(-1);
+    }
+
+    /** @return true until the client disconnects or breaks the protocol. */
+    public boolean isConnected() { return connected; }
+
+    /** @return This player's seat, or -1 before the deal. */
+    public int getSeat() { return seat; }
+
+    private void send(byte[] frame) {
+        if (connected) connection.accept(frame);
+    }
+
+    private int seatOf(Player player) {
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i) == player) return i;
+        }
+        return WireProtocol.HIDDEN;
+    }
+
+    @Override
+    public void onHandsDealt(UnoGame game, int cardsPerPlayer) {
+        players = game.getPlayers();
+        seat = -1;
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).getStrategy() == this) seat = i;
+        }
+        if (seat < 0) throw new IllegalStateException("projectone.RemoteStrategy is not playing in this game");
+        send(WireProtocol.frame(WireProtocol.WELCOME, seat, players.size()));
+        sendHand();
+    }
+
+    private void sendHand() {
+        send(WireProtocol.cardsFrame(WireProtocol.HAND, players.get(seat).getHand().getCards()));
+    }
+
+    @Override
+    public void onInitialCardFlipped(Card card, boolean accepted) {
+        if (accepted) send(WireProtocol.frame(WireProtocol.STARTING_CARD, card.getId()));
+    }
+
+    @Override
+    public void onTurnStart(UnoGame game, Player player) {
+        send(WireProtocol.frame(WireProtocol.TURN, seatOf(player)));
+    }
+
+    @Override
+    public void onPlayerSkipped(Player player) {
+        send(WireProtocol.frame(WireProtocol.SKIPPED, seatOf(player)));
+    }
+
+    @Override
+    public void onCardDrawn(Player player, Card card) {
+        int drawer = seatOf(player);
+        send(WireProtocol.frame(WireProtocol.DREW, drawer, drawer == seat ? card.getId() : WireProtocol.HIDDEN));
+    }
+
+    @Override
+    public void onCardsDrawn(Player player, int count) {
+        int drawer = seatOf(player);
+        send(WireProtocol.frame(WireProtocol.PENALTY, drawer, Math.min(count, WireProtocol.MAX_PAYLOAD)));
+        if (drawer == seat) sendHand();
+    }
+
+    @Override
+    public void onCardPlayed(Player player, Card card) {
+        send(WireProtocol.frame(WireProtocol.PLAYED, seatOf(player), card.getId()));
+    }
+
+    @Override
+    public void onTurnPassed(Player player) {
+        send(WireProtocol.frame(WireProtocol.PASSED, seatOf(player)));
+    }
+
+    @Override
+    public void onDirectionReversed(boolean clockwise) {
+        send(WireProtocol.frame(WireProtocol.DIRECTION, clockwise ? 1 : 0));
+    }
+
+    @Override
+    public void onWildColorChosen(Player player, Color color) {
+        send(WireProtocol.frame(WireProtocol.WILD_COLOR, seatOf(player), color.ordinal()));
+    }
+
+    @Override
+    public void onGameOver(UnoGame game) {
+        int winner = game.getWinnerIndex();
+        send(WireProtocol.frame(WireProtocol.GAME_OVER, winner < 0 ? WireProtocol.HIDDEN : winner));
+    }
+
+    @Override
+    public String toString() {
+        return "projectone.RemoteStrategy [seat=" + seat + ", connected=" + connected + "]";
+    }
+}
@@ -0,0 +1,84 @@
+package projectone;
+
+/**
+ * Count, mean, variance, minimum and maximum of a stream of values in constant memory.
+ * Values are folded in one at a time with Welford's update, which stays accurate
+ * where the textbook sum-of-squares formula cancels catastrophically. Two instances
+ * combine exactly with Chan's pairwise formula, so each worker keeps its own and they
+ * are merged at the end. Not thread-safe.
+ */
+public class RunningStats {
+    private long count;
+    private double mean;
+    private double m2; // sum of squared deviations from the mean
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Adds one value.
+     * @param x The value.
+     */
+    public void add(double x) {
+        count++;
+        double delta = x - mean;
+        mean += delta / count;
+        m2 += delta * (x - mean);
+        if (x < min) min = x;
+        if (x > max) max = x;
+    }
+
+    /**
+     * Adds another stream's values into this one.
+     * @param other The other statistics; unchanged.
+     * @return This instance, for chaining.
+     */
+    public RunningStats merge(RunningStats other) {
+        if (other.count == 0) return this;
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            m2 = other.m2;
+        } else {
+            long total = count + other.count;
+            double delta = other.mean - mean;
+            mean += delta * other.count / total;
+            m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+            count = total;
+        }
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    public long getCount() { return count; }
+
+    /** @return The mean, or 0 if no values were added. */
+    public double getMean() { return mean; }
+
+    /** @return The smallest value, or NaN if no values were added. */
+    public double getMin() { return count == 0 ? Double.NaN : min; }
+
+    /** @return The largest value, or NaN if no values were added. */
+    public double getMax() { return count == 0 ? Double.NaN : max; }
+
+    /** @return The sample variance, or NaN with fewer than 2 values. */
+    public double getVariance() {
+        return count < 2 ? Double.NaN : m2 / (count - 1);
+    }
+
+    /** @return The sample standard deviation, or NaN with fewer than 2 values. */
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /** @return The standard error of the mean, or NaN with fewer than 2 values. */
+    public double getStandardError() {
+        return Math.sqrt(getVariance() / count);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("projectone.RunningStats [n=%d, mean=%.4f, sd=%.4f, min=%s, max=%s]",
+                count, mean, getStandardDeviation(), getMin(), getMax());
+    }
+}
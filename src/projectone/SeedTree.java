@@ -0,0 +1,78 @@
+package projectone;
+
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic tree of random seeds.
+ * A master seed derives one child per game index, and each game seed derives one
+ * child per component (the deck, each seat's strategy). Every child depends only on
+ * its parent seed and its index, never on the order in which seeds are requested, so
+ * a batch produces bit-identical games no matter how many threads play it.
+ * The generators handed out are {@link SplittableRandom}s, which are fast and have no
+ * atomic state, unlike {@link java.util.Random}.
+ */
+public final class SeedTree {
+    /** Child index of the deck shuffle stream under a game seed. */
+    public static final long DECK = 0;
+    /** Child index of the first seat's strategy stream; seat {@code s} uses {@code STRATEGY + s}. */
+    public static final long STRATEGY = 1;
+
+    private final long seed;
+
+    /**
+     * @param seed The seed at this node.
+     */
+    public SeedTree(long seed) {
+        this.seed = seed;
+    }
+
+    /** @return The seed at this node. */
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * Derives the child node with the given index.
+     * @param index Any index; distinct indices give unrelated seeds.
+     * @return The child node.
+     */
+    public SeedTree child(long index) {
+        return new SeedTree(childSeed(index));
+    }
+
+    /**
+     * Derives the seed of the child with the given index without allocating a node.
+     * @param index Any index; distinct indices give unrelated seeds.
+     * @return The child seed.
+     */
+    public long childSeed(long index) {
+        return mix(seed + (index + 1) * 0x9E3779B97F4A7C15L);
+    }
+
+    /** @return A new generator seeded from this node. */
+    public SplittableRandom newRandom() {
+        return new SplittableRandom(seed);
+    }
+
+    /** SplitMix64 finalizer. */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof SeedTree && ((SeedTree) o).seed == seed);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(seed);
+    }
+
+    @Override
+    public String toString() {
+        return "projectone.SeedTree [" + seed + "]";
+    }
+}
@@ -0,0 +1,354 @@
+package projectone;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Broadcasts one table's public information to any number of spectators.
+ * Attached to a game as a listener, the hub turns each event into a {@link WireProtocol}
+ * delta: cards played, hidden draws, hand sizes after penalties, wild colors, direction
+ * and turns. Each event is encoded once, into a ring of recent frames that every
+ * {@link Subscription} reads through its own cursor, so publishing costs the game thread
+ * the same with ten spectators as with ten thousand, and never waits for any of them.
+ * A spectator blocked in {@link Subscription#take(Duration)} parks until a frame arrives;
+ * the game thread unparks only spectators that are actually parked, and when none is it
+ * pays a single check of an empty queue.
+ * A spectator can fall at most one ring behind. One that falls further has missed frames
+ * that were overwritten; its next read is a {@link WireProtocol#SNAPSHOT} of the whole
+ * public state, after which it carries on from the newest frames. A spectator that has to
+ * resync more than the hub allows is dropped. Snapshots are encoded by the spectators that
+ * need them, from an optimistic read of the table state, and shared while the stream has
+ * not moved on; the game thread never builds one after the deal.
+ */
+public class SpectatorHub implements GameEventListener {
+    /** A ring frame and its position in the table's stream. */
+    private record Entry(long sequence, byte[] frame) {}
+
+    private final int capacity;
+    private final int maxResyncs;
+    private final AtomicReferenceArray<Entry> ring;
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final LongAdder resyncs = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final ConcurrentLinkedQueue<Subscription> waiters = new ConcurrentLinkedQueue<>();
+    // Write-locked by the game thread around each event; snapshots read it optimistically
+    private final StampedLock state = new StampedLock();
+
+    // Written only by the game thread; the volatile fields and the lock publish them to readers
+    private volatile long nextSequence;
+    private volatile Entry snapshot; // the latest snapshot built, of the state before snapshot.sequence
+    private volatile Entry dealSnapshot; // the state before the first frame
+    private volatile boolean finished;
+    private List<Player> players = List.of();
+    private int[] handSizes = new int[0];
+    private Card topCard;
+    private Color wildColor;
+    private boolean clockwise = true;
+    private int turnSeat = WireProtocol.HIDDEN;
+
+    /**
+     * @param capacity Frames kept for spectators that fall behind; must be positive.
+     * @param maxResyncs Resyncs allowed per spectator before it is dropped; 0 drops it on the first.
+     */
+    public SpectatorHub(int capacity, int maxResyncs) {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        if (maxResyncs < 0) throw new IllegalArgumentException("Max resyncs cannot be negative: " + maxResyncs);
+        this.capacity = capacity;
+        this.maxResyncs = maxResyncs;
+        this.ring = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * One spectator's view of the stream. Read it from one thread at a time.
+     */
+    public final class Subscription implements AutoCloseable {
+        private final boolean fromDeal; // subscribed before the deal, so it reads every frame
+        private long cursor = -1; // -1 until the first snapshot is read
+        private int resyncCount;
+        private volatile boolean closed;
+        private volatile Thread waiter; // the thread parked in take, if any
+        private final AtomicBoolean queued = new AtomicBoolean(); // in the hub's waiters
+
+        private Subscription() {
+            this.fromDeal = dealSnapshot == null;
+        }
+
+        /**
+         * Returns the next frame without waiting.
+         * @return The frame, or null if there is none yet, the game has ended and every frame
+         *         has been read, or the subscription is closed.
+         */
+        public byte[] poll() {
+            if (closed) return null;
+            if (cursor < 0) {
+                Entry start = fromDeal ? dealSnapshot : currentSnapshot();
+                if (start == null) return null; // nothing dealt yet
+                cursor = start.sequence;
+                return start.frame;
+            }
+            if (cursor >= nextSequence) return null;
+            Entry entry = ring.get((int) (cursor % capacity));
+            if (entry != null && entry.sequence == cursor) {
+                cursor++;
+                return entry.frame;
+            }
+            // Overwritten before this spectator read it
+            resyncs.increment();
+            if (resyncCount++ >= maxResyncs) {
+                dropped.increment();
+                close();
+                return null;
+            }
+            Entry latest = currentSnapshot();
+            cursor = latest.sequence;
+            return latest.frame;
+        }
+
+        /**
+         * Returns the next frame, waiting up to a timeout for it to be published. The thread
+         * parks until the game thread publishes, the game ends or the subscription is closed.
+         * @param timeout Longest wait.
+         * @return The frame, or null on timeout, at the end of the game, or once closed.
+         * @throws InterruptedException if the calling thread is interrupted while waiting.
+         */
+        public byte[] take(Duration timeout) throws InterruptedException {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            try {
+                while (true) {
+                    byte[] frame = poll();
+                    if (frame != null || closed || isCaughtUpAfterGame()) return frame;
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) return null;
+                    // Register, then look again: a frame published in between is either seen
+                    // here or finds this thread registered and unparks it
+                    waiter = Thread.currentThread();
+                    if (queued.compareAndSet(false, true)) waiters.add(this);
+                    if (!hasNews()) LockSupport.parkNanos(this, remaining);
+                    if (Thread.interrupted()) throw new InterruptedException();
+                }
+            } finally {
+                waiter = null;
+            }
+        }
+
+        private boolean isCaughtUpAfterGame() {
+            return finished && cursor >= nextSequence;
+        }
+
+        private boolean hasNews() {
+            if (closed || finished) return true;
+            return cursor < 0 ? dealSnapshot != null : cursor < nextSequence;
+        }
+
+        private void wake() {
+            queued.set(false);
+            Thread thread = waiter;
+            if (thread != null) LockSupport.unpark(thread);
+        }
+
+        /** @return Times this spectator fell behind and was sent a snapshot. */
+        public int getResyncs() { return resyncCount; }
+
+        /** @return true once closed by the spectator or dropped by the hub. */
+        public boolean isClosed() { return closed; }
+
+        /** Stops reading the stream. */
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                subscribers.decrementAndGet();
+                Thread thread = waiter;
+                if (thread != null) LockSupport.unpark(thread);
+            }
+        }
+    }
+
+    /**
+     * Adds a spectator. Its first frame is a snapshot: of the deal for a spectator that
+     * subscribes before it, so it sees every frame, or else of the table as it stands.
+     * @return The new subscription.
+     */
+    public Subscription subscribe() {
+        subscribers.incrementAndGet();
+        return new Subscription();
+    }
+
+    /**
+     * Appends a frame to the stream, ends the event's write lock and wakes parked spectators.
+     * @param stamp The write stamp taken before the event changed the table state.
+     */
+    private void publish(long stamp, byte[] frame) {
+        long sequence = nextSequence;
+        ring.set((int) (sequence % capacity), new Entry(sequence, frame));
+        nextSequence = sequence + 1;
+        state.unlockWrite(stamp);
+        wakeWaiters();
+    }
+
+    private void wakeWaiters() {
+        if (waiters.isEmpty()) return;
+        Subscription subscription;
+        while ((subscription = waiters.poll()) != null) subscription.wake();
+    }
+
+    /**
+     * Returns a snapshot of the table as it stands, building it if the stream has moved on
+     * since the last one. Called by spectators; the game thread never waits for it.
+     */
+    private Entry currentSnapshot() {
+        Entry cached = snapshot;
+        if (cached != null && cached.sequence == nextSequence) return cached;
+        while (true) {
+            long stamp = state.tryOptimisticRead();
+            long sequence = nextSequence;
+            byte[] frame = encodeSnapshot();
+            if (state.validate(stamp)) {
+                Entry built = new Entry(sequence, frame);
+                snapshot = built;
+                return built;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private byte[] encodeSnapshot() {
+        int[] sizes = handSizes;
+        Card top = topCard;
+        Color wild = wildColor;
+        byte[] frame = new byte[WireProtocol.HEADER_BYTES + 5 + sizes.length];
+        frame[0] = (byte) WireProtocol.SNAPSHOT;
+        frame[1] = (byte) (frame.length - WireProtocol.HEADER_BYTES);
+        frame[2] = (byte) (top == null ? WireProtocol.HIDDEN : top.getId());
+        frame[3] = (byte) (wild == null ? WireProtocol.HIDDEN : wild.ordinal());
+        frame[4] = (byte) (clockwise ? 1 : 0);
+        frame[5] = (byte) turnSeat;
+        frame[6] = (byte) sizes.length;
+        for (int seat = 0; seat < sizes.length; seat++) frame[7 + seat] = (byte) sizes[seat];
+        return frame;
+    }
+
+    private int seatOf(Player player) {
+        for (int seat = 0; seat < players.size(); seat++) {
+            if (players.get(seat) == player) return seat;
+        }
+        throw new IllegalArgumentException("Not a player at this table: " + player);
+    }
+
+    @Override
+    public void onHandsDealt(UnoGame game, int cardsPerPlayer) {
+        long stamp = state.writeLock();
+        players = game.getPlayers();
+        handSizes = new int[players.size()];
+        for (int seat = 0; seat < handSizes.length; seat++) handSizes[seat] = players.get(seat).getHand().getSize();
+        state.unlockWrite(stamp);
+        dealSnapshot = new Entry(nextSequence, encodeSnapshot());
+        snapshot = dealSnapshot;
+        wakeWaiters();
+    }
+
+    @Override
+    public void onInitialCardFlipped(Card card, boolean accepted) {
+        if (!accepted) return;
+        long stamp = state.writeLock();
+        topCard = card;
+        publish(stamp, WireProtocol.frame(WireProtocol.STARTING_CARD, card.getId()));
+    }
+
+    @Override
+    public void onTurnStart(UnoGame game, Player player) {
+        int seat = seatOf(player);
+        long stamp = state.writeLock();
+        turnSeat = seat;
+        publish(stamp, WireProtocol.frame(WireProtocol.TURN, seat));
+    }
+
+    @Override
+    public void onPlayerSkipped(Player player) {
+        int seat = seatOf(player);
+        publish(state.writeLock(), WireProtocol.frame(WireProtocol.SKIPPED, seat));
+    }
+
+    @Override
+    public void onCardDrawn(Player player, Card card) {
+        int seat = seatOf(player);
+        long stamp = state.writeLock();
+        handSizes[seat]++;
+        publish(stamp, WireProtocol.frame(WireProtocol.DREW, seat, WireProtocol.HIDDEN));
+    }
+
+    @Override
+    public void onCardsDrawn(Player player, int count) {
+        int seat = seatOf(player);
+        int size = player.getHand().getSize(); // fewer than count if the cards ran out
+        long stamp = state.writeLock();
+        handSizes[seat] = size;
+        publish(stamp, WireProtocol.frame(WireProtocol.HAND_SIZE, seat, size));
+    }
+
+    @Override
+    public void onCardPlayed(Player player, Card card) {
+        int seat = seatOf(player);
+        long stamp = state.writeLock();
+        handSizes[seat]--;
+        topCard = card;
+        wildColor = null;
+        publish(stamp, WireProtocol.frame(WireProtocol.PLAYED, seat, card.getId()));
+    }
+
+    @Override
+    public void onTurnPassed(Player player) {
+        int seat = seatOf(player);
+        publish(state.writeLock(), WireProtocol.frame(WireProtocol.PASSED, seat));
+    }
+
+    @Override
+    public void onDirectionReversed(boolean clockwise) {
+        long stamp = state.writeLock();
+        this.clockwise = clockwise;
+        publish(stamp, WireProtocol.frame(WireProtocol.DIRECTION, clockwise ? 1 : 0));
+    }
+
+    @Override
+    public void onWildColorChosen(Player player, Color color) {
+        int seat = seatOf(player);
+        long stamp = state.writeLock();
+        wildColor = color;
+        publish(stamp, WireProtocol.frame(WireProtocol.WILD_COLOR, seat, color.ordinal()));
+    }
+
+    @Override
+    public void onGameOver(UnoGame game) {
+        int winner = game.getWinnerIndex();
+        long stamp = state.writeLock();
+        turnSeat = WireProtocol.HIDDEN;
+        publish(stamp, WireProtocol.frame(WireProtocol.GAME_OVER, winner < 0 ? WireProtocol.HIDDEN : winner));
+        finished = true;
+        wakeWaiters(); // spectators that read the last frame before finished was set
+    }
+
+    /** @return Spectators currently subscribed. */
+    public int getSubscribers() { return subscribers.get(); }
+
+    /** @return Frames published since the game started. */
+    public long getPublishedFrames() { return nextSequence; }
+
+    /** @return Snapshots sent to spectators that fell behind, across all of them. */
+    public long getResyncs() { return resyncs.sum(); }
+
+    /** @return Spectators dropped for falling behind too often. */
+    public long getDropped() { return dropped.sum(); }
+
+    @Override
+    public String toString() {
+        return "projectone.SpectatorHub [subscribers=" + getSubscribers() + ", frames=" + getPublishedFrames()
+                + ", resyncs=" + getResyncs() + ", dropped=" + getDropped() + "]";
+    }
+}
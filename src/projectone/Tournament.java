@@ -0,0 +1,397 @@
+package projectone;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Plays a tournament between named strategies and rates them with {@link EloRatings}.
+ * Entrants meet at tables of 2 to 4 players. A match at a table is every rotation of the
+ * seating, each playing the same deals, so no entrant profits from a lucky seat or deck.
+ * Round robin plays every combination of entrants as one batch of matches; Swiss plays
+ * rounds in which entrants of similar rating who have not met yet share a table.
+ * Matches run as tasks on a work-stealing {@link ForkJoinPool}, split into ranges of games
+ * so that even a single table keeps every worker busy. Every game updates the win counts
+ * and ratings as it finishes, so {@link #getStandings()} can be called from another thread
+ * at any time for the standings so far. Deals and strategy seeds come from a
+ * {@link SeedTree}, so game outcomes are reproducible; ratings depend slightly on the
+ * order in which parallel games finish.
+ */
+public class Tournament {
+    /** How tables are drawn. */
+    public enum Format { ROUND_ROBIN, SWISS }
+
+    private static final int LEAF_GAMES = 8;
+
+    private final List<String> names;
+    private final List<Supplier<PlayerStrategy>> factories;
+    private final int tableSize;
+    private final ForkJoinPool pool;
+    private int gamesPerSeating = 10;
+    private int swissRounds;
+    private int maxTurns = BatchSimulator.DEFAULT_MAX_TURNS;
+
+    private volatile EloRatings ratings;
+    private volatile AtomicLongArray games;
+    private volatile AtomicLongArray wins;
+    private final LongAdder gamesPlayed = new LongAdder();
+
+    /**
+     * Creates a tournament on the common fork/join pool.
+     * @param entrants Strategy factory per entrant name, in seeding order.
+     * @param tableSize Players per table, 2 to 4.
+     */
+    public Tournament(Map<String, Supplier<PlayerStrategy>> entrants, int tableSize) {
+        this(entrants, tableSize, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param entrants Strategy factory per entrant name, in seeding order.
+     * @param tableSize Players per table, 2 to 4.
+     * @param pool The pool matches run on.
+     */
+    public Tournament(Map<String, Supplier<PlayerStrategy>> entrants, int tableSize, ForkJoinPool pool) {
+        Objects.requireNonNull(entrants, "Entrants cannot be null");
+        if (tableSize < 2 || tableSize > 4) throw new IllegalArgumentException("Table size must be 2 to 4: " + tableSize);
+        if (entrants.size() < tableSize) {
+            throw new IllegalArgumentException("Need at least " + tableSize + " entrants, got " + entrants.size());
+        }
+        this.names = Collections.unmodifiableList(new ArrayList<>(entrants.keySet()));
+        this.factories = new ArrayList<>(entrants.values());
+        if (factories.stream().anyMatch(Objects::isNull)) throw new IllegalArgumentException("Entrant factories cannot be null");
+        this.tableSize = tableSize;
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+        this.swissRounds = 32 - Integer.numberOfLeadingZeros(entrants.size() - 1) + 1; // ceil(log2 n) + 1
+        reset();
+    }
+
+    /**
+     * Sets how many deals each seating of a match plays.
+     * @param gamesPerSeating Deals per seating; must be positive.
+     */
+    public void setGamesPerSeating(int gamesPerSeating) {
+        if (gamesPerSeating <= 0) throw new IllegalArgumentException("Games per seating must be positive: " + gamesPerSeating);
+        this.gamesPerSeating = gamesPerSeating;
+    }
+
+    /**
+     * Sets the number of Swiss rounds; the default is about log2 of the number of entrants, plus one.
+     * @param rounds Number of rounds; must be positive.
+     */
+    public void setSwissRounds(int rounds) {
+        if (rounds <= 0) throw new IllegalArgumentException("Rounds must be positive: " + rounds);
+        this.swissRounds = rounds;
+    }
+
+    /**
+     * Sets the turn limit after which a game is abandoned without a winner.
+     * @param maxTurns The maximum number of turns per game; must be positive.
+     */
+    public void setMaxTurns(int maxTurns) {
+        if (maxTurns <= 0) throw new IllegalArgumentException("Max turns must be positive: " + maxTurns);
+        this.maxTurns = maxTurns;
+    }
+
+    private void reset() {
+        ratings = new EloRatings(names.size());
+        games = new AtomicLongArray(names.size());
+        wins = new AtomicLongArray(names.size());
+        gamesPlayed.reset();
+    }
+
+    /**
+     * Plays the whole tournament and waits for it to finish. Earlier results are discarded.
+     * @param format Round robin or Swiss.
+     * @param masterSeed Seed from which every deal and strategy seed is derived.
+     * @return The final standings, best first.
+     */
+    public List<Standing> run(Format format, long masterSeed) {
+        Objects.requireNonNull(format, "Format cannot be null");
+        reset();
+        SeedTree seeds = new SeedTree(masterSeed);
+        if (format == Format.ROUND_ROBIN) {
+            List<Match> matches = new ArrayList<>();
+            for (int[] table : combinations(names.size(), tableSize)) {
+                matches.add(new Match(table, seeds.child(matches.size())));
+            }
+            playAll(matches);
+        } else {
+            boolean[][] met = new boolean[names.size()][names.size()];
+            for (int round = 0; round < swissRounds; round++) {
+                List<Match> matches = new ArrayList<>();
+                SeedTree roundSeeds = seeds.child(round);
+                for (int[] table : swissTables(met)) {
+                    matches.add(new Match(table, roundSeeds.child(matches.size())));
+                }
+                playAll(matches);
+            }
+        }
+        return getStandings();
+    }
+
+    private void playAll(List<Match> matches) {
+        if (ForkJoinTask.inForkJoinPool()) {
+            ForkJoinTask.invokeAll(matches);
+        } else {
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(matches);
+                }
+            });
+        }
+    }
+
+    /** Every way of choosing {@code k} of {@code n} entrants, in lexicographic order. */
+    static List<int[]> combinations(int n, int k) {
+        List<int[]> result = new ArrayList<>();
+        int[] current = new int[k];
+        for (int i = 0; i < k; i++) current[i] = i;
+        while (true) {
+            result.add(current.clone());
+            int i = k - 1;
+            while (i >= 0 && current[i] == n - k + i) i--;
+            if (i < 0) return result;
+            current[i]++;
+            for (int j = i + 1; j < k; j++) current[j] = current[j - 1] + 1;
+        }
+    }
+
+    /**
+     * Draws one Swiss round: entrants are taken in rating order, and each table is the
+     * best-rated entrant left plus the next ones it has not met yet (or, failing that,
+     * the next ones at all). Entrants left over when fewer than a table remain sit out.
+     * @param met Which entrants have shared a table; updated with the new tables.
+     */
+    List<int[]> swissTables(boolean[][] met) {
+        double[] current = ratings.snapshot();
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) order.add(i);
+        order.sort(Comparator.<Integer>comparingDouble(i -> -current[i]).thenComparing(i -> i));
+
+        List<int[]> tables = new ArrayList<>();
+        while (order.size() >= tableSize) {
+            int[] table = new int[tableSize];
+            table[0] = order.remove(0);
+            for (int seat = 1; seat < tableSize; seat++) {
+                int pick = 0;
+                for (int i = 0; i < order.size(); i++) {
+                    if (!metAny(met, table, seat, order.get(i))) {
+                        pick = i;
+                        break;
+                    }
+                }
+                table[seat] = order.remove(pick);
+            }
+            for (int a : table) {
+                for (int b : table) met[a][b] = true;
+            }
+            tables.add(table);
+        }
+        return tables;
+    }
+
+    private static boolean metAny(boolean[][] met, int[] table, int filled, int candidate) {
+        for (int i = 0; i < filled; i++) {
+            if (met[table[i]][candidate]) return true;
+        }
+        return false;
+    }
+
+    /**
+     * All seatings of one table of entrants, or a range of them. Game {@code g} of a match is
+     * deal {@code g % gamesPerSeating} of rotation {@code g / gamesPerSeating}; a range too
+     * long for one task is split in half and forked, so even a single table keeps every
+     * worker busy.
+     */
+    @SuppressWarnings("serial")
+    private final class Match extends RecursiveAction {
+        private final int[] entrants;
+        private final SeedTree seeds;
+        private final int from;
+        private final int to;
+
+        Match(int[] entrants, SeedTree seeds) {
+            this(entrants, seeds, 0, entrants.length * gamesPerSeating);
+        }
+
+        private Match(int[] entrants, SeedTree seeds, int from, int to) {
+            this.entrants = entrants;
+            this.seeds = seeds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > LEAF_GAMES) {
+                int mid = (from + to) >>> 1;
+                Match left = new Match(entrants, seeds, from, mid);
+                left.fork();
+                new Match(entrants, seeds, mid, to).compute();
+                left.join();
+                return;
+            }
+            int players = entrants.length;
+            int[] seating = new int[players];
+            List<Supplier<PlayerStrategy>> lineup = new ArrayList<>(players);
+            List<String> seatNames = new ArrayList<>(players);
+            int rotation = -1;
+            for (int g = from; g < to; g++) {
+                if (g / gamesPerSeating != rotation) {
+                    rotation = g / gamesPerSeating;
+                    lineup.clear();
+                    seatNames.clear();
+                    for (int seat = 0; seat < players; seat++) {
+                        seating[seat] = entrants[(seat + rotation) % players];
+                        lineup.add(factories.get(seating[seat]));
+                        seatNames.add(names.get(seating[seat]));
+                    }
+                }
+                int deal = g % gamesPerSeating;
+                UnoGame game = BatchSimulator.playSeededGame(lineup, seatNames, seeds.child(deal), maxTurns);
+                record(seating, game.getWinnerIndex());
+            }
+        }
+    }
+
+    private void record(int[] seating, int winnerSeat) {
+        for (int entrant : seating) games.incrementAndGet(entrant);
+        if (winnerSeat >= 0) wins.incrementAndGet(seating[winnerSeat]);
+        ratings.recordGame(seating, winnerSeat);
+        gamesPlayed.increment();
+    }
+
+    /** @return Games finished so far in the current run. */
+    public long getGamesPlayed() {
+        return gamesPlayed.sum();
+    }
+
+    /**
+     * Returns the standings so far; safe to call while the tournament is running.
+     * @return One standing per entrant, highest rated first.
+     */
+    public List<Standing> getStandings() {
+        double[] current = ratings.snapshot();
+        List<Standing> standings = new ArrayList<>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            standings.add(new Standing(names.get(i), games.get(i), wins.get(i), current[i]));
+        }
+        standings.sort(Comparator.comparingDouble(Standing::getRating).reversed());
+        return standings;
+    }
+
+    /**
+     * One entrant's record.
+     */
+    public static final class Standing {
+        private final String name;
+        private final long games;
+        private final long wins;
+        private final double rating;
+
+        Standing(String name, long games, long wins, double rating) {
+            this.name = name;
+            this.games = games;
+            this.wins = wins;
+            this.rating = rating;
+        }
+
+        public String getName() { return name; }
+        public long getGames() { return games; }
+        public long getWins() { return wins; }
+        public double getRating() { return rating; }
+
+        /** @return Fraction of games won, or 0 if none were played. */
+        public double getWinRate() {
+            return games == 0 ? 0.0 : (double) wins / games;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-12s rating %7.1f  wins %d/%d (%.2f%%)", name, rating, wins, games, 100.0 * getWinRate());
+        }
+    }
+
+    /**
+     * Command-line entry point:
+     * {@code java projectone.Tournament [--entrants basic,ismcts] [--table N] [--format round-robin|swiss]
+     * [--games G] [--rounds R] [--seed S] [--threads T]}
+     * Standings are printed every few seconds while the tournament runs.
+     * @param args Command-line options.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        String entrantList = "basic,ismcts";
+        int table = 2;
+        Format format = Format.ROUND_ROBIN;
+        int gamesPerSeating = 10;
+        int rounds = 0;
+        long seed = System.currentTimeMillis();
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        Map<String, Supplier<PlayerStrategy>> entrants = new LinkedHashMap<>();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (i + 1 >= args.length) throw new IllegalArgumentException("Missing value for " + option);
+                String value = args[++i];
+                switch (option) {
+                    case "--entrants": entrantList = value; break;
+                    case "--table": table = Integer.parseInt(value); break;
+                    case "--format": format = Format.valueOf(value.toUpperCase().replace('-', '_')); break;
+                    case "--games": gamesPerSeating = Integer.parseInt(value); break;
+                    case "--rounds": rounds = Integer.parseInt(value); break;
+                    case "--seed": seed = Long.parseLong(value); break;
+                    case "--threads": threads = Integer.parseInt(value); break;
+                    default: throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+            for (String name : entrantList.split(",")) {
+                Supplier<PlayerStrategy> factory = BatchSimulator.NAMED_STRATEGIES.get(name.trim());
+                if (factory == null) throw new IllegalArgumentException("Unknown strategy '" + name + "'. Known: " + BatchSimulator.NAMED_STRATEGIES.keySet());
+                String unique = name.trim();
+                for (int copy = 2; entrants.containsKey(unique); copy++) unique = name.trim() + "#" + copy;
+                entrants.put(unique, factory);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: java projectone.Tournament [--entrants basic,ismcts] [--table N] [--format round-robin|swiss]"
+                    + " [--games G] [--rounds R] [--seed S] [--threads T]");
+            System.exit(1);
+            return;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            Tournament tournament = new Tournament(entrants, table, pool);
+            tournament.setGamesPerSeating(gamesPerSeating);
+            if (rounds > 0) tournament.setSwissRounds(rounds);
+            Format chosen = format;
+            long masterSeed = seed;
+            Thread runner = new Thread(() -> tournament.run(chosen, masterSeed), "tournament");
+            runner.start();
+            while (runner.isAlive()) {
+                runner.join(5_000);
+                System.out.println("After " + tournament.getGamesPlayed() + " games:");
+                tournament.getStandings().forEach(standing -> System.out.println("  " + standing));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "projectone.Tournament [entrants=" + names + ", tableSize=" + tableSize + "]";
+    }
+}
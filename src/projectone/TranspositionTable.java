@@ -0,0 +1,119 @@
+package projectone;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A fixed-size cache of search results keyed by {@link UnoGame#getZobristHash() Zobrist hash},
+ * shared by any number of search threads without locks.
+ * Each slot is two longs: the packed entry, and the entry XORed with its key. A reader
+ * accepts a slot only if the two still XOR to the key it asked for, so an entry torn by
+ * two threads writing the same slot at once is rejected as a miss instead of being
+ * misread. The table is lossy: a new entry always replaces whatever shared its slot.
+ * Entries pack a 32-bit value, a search depth, a bound type and a best move into one
+ * long; use the static accessors to unpack the result of {@link #probe(long)}.
+ */
+public final class TranspositionTable {
+    /** Returned by {@link #probe(long)} when the position is not in the table. */
+    public static final long MISS = 0L;
+    /** The value is exact. */
+    public static final int EXACT = 1;
+    /** The value is a lower bound (the search failed high). */
+    public static final int LOWER_BOUND = 2;
+    /** The value is an upper bound (the search failed low). */
+    public static final int UPPER_BOUND = 3;
+
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int MAX_DEPTH = 0xFF;
+
+    private final long[] slots; // pairs of (key ^ entry, entry)
+    private final int mask;
+
+    /**
+     * @param entries Minimum number of entries; rounded up to a power of two.
+     */
+    public TranspositionTable(int entries) {
+        if (entries < 1 || entries > 1 << 28) {
+            throw new IllegalArgumentException("Entries must be between 1 and 2^28: " + entries);
+        }
+        int capacity = Integer.highestOneBit(entries);
+        if (capacity < entries) capacity <<= 1;
+        this.slots = new long[capacity * 2];
+        this.mask = capacity - 1;
+    }
+
+    /** @return The number of entries the table holds. */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Stores a search result, replacing whatever occupied the slot.
+     * @param key The position's Zobrist hash.
+     * @param value The position's value.
+     * @param depth The depth searched below the position; clamped to 0..255.
+     * @param bound {@link #EXACT}, {@link #LOWER_BOUND} or {@link #UPPER_BOUND}.
+     * @param bestMove The best move found, or null.
+     */
+    public void store(long key, int value, int depth, int bound, Move bestMove) {
+        if (bound < EXACT || bound > UPPER_BOUND) throw new IllegalArgumentException("Unknown bound type: " + bound);
+        long entry = (value & 0xFFFFFFFFL)
+                | (long) Math.max(0, Math.min(depth, MAX_DEPTH)) << 32
+                | (long) bound << 40
+                | (long) (bestMove == null ? 0 : bestMove.getIndex() + 1) << 42;
+        int slot = slotOf(key);
+        SLOTS.setOpaque(slots, slot + 1, entry);
+        SLOTS.setOpaque(slots, slot, key ^ entry);
+    }
+
+    /**
+     * Looks up a position.
+     * @param key The position's Zobrist hash.
+     * @return The packed entry, or {@link #MISS}.
+     */
+    public long probe(long key) {
+        int slot = slotOf(key);
+        long check = (long) SLOTS.getOpaque(slots, slot);
+        long entry = (long) SLOTS.getOpaque(slots, slot + 1);
+        return entry != MISS && (check ^ entry) == key ? entry : MISS;
+    }
+
+    /**
+     * Empties the table. Not atomic with respect to concurrent stores.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length; i++) {
+            SLOTS.setOpaque(slots, i, 0L);
+        }
+    }
+
+    private int slotOf(long key) {
+        return ((int) (key ^ (key >>> 32)) & mask) << 1;
+    }
+
+    /** @return The value stored in an entry. */
+    public static int value(long entry) {
+        return (int) entry;
+    }
+
+    /** @return The depth stored in an entry. */
+    public static int depth(long entry) {
+        return (int) (entry >>> 32) & MAX_DEPTH;
+    }
+
+    /** @return The bound type stored in an entry. */
+    public static int bound(long entry) {
+        return (int) (entry >>> 40) & 0x3;
+    }
+
+    /** @return The best move stored in an entry, or null. */
+    public static Move bestMove(long entry) {
+        int index = (int) (entry >>> 42) & 0xFF;
+        return index == 0 ? null : Move.byIndex(index - 1);
+    }
+
+    @Override
+    public String toString() {
+        return "projectone.TranspositionTable [capacity=" + capacity() + "]";
+    }
+}
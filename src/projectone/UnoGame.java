@@ -7,15 +7,51 @@ public class UnoGame {
     private final Pile pile;
     private final List<Player> players;
     private final Scanner humanInteractionScannerInstance;
+    private GameEventListener listener;
 
     private int currentPlayerIndex;
     private boolean playDirectionClockwise = true;
     private Color activeWildColor = null;
     private boolean isGameRunning = true;
     private boolean skipNextPlayerTurnFlag = false;
+    private int winnerIndex = -1;
+    private int turnCount = 0;
+    private int reshuffleCount = 0;
+    private int maxTurns = Integer.MAX_VALUE;
+    private int drawnCardId = -1; // Card drawn this turn by a DRAW move that may still be played
+
+    // Undo journal for apply/undo: ints pushed as operands followed by an opcode
+    private static final Color[] COLORS = Color.values();
+    private static final int OP_BEGIN = 0;     // operands: the turn state saved by saveTurnState
+    private static final int OP_DRAW = 1;      // operands: seat, card ID
+    private static final int OP_PLAY = 2;      // operands: seat, card ID
+    private static final int OP_RESHUFFLE = 3; // operands: the pile's buried card IDs, their count
+    private int[] journal = new int[256];
+    private int journalSize;
+    private int undoDepth;
+    private boolean journaling;
+    private Color forcedWildColor;
 
     public UnoGame(List<PlayerStrategy> playerStrategies, List<String> playerNames, long deckSeed, Scanner scannerForHumanSetup) {
+        this(playerStrategies, playerNames, deckSeed, scannerForHumanSetup, new ConsoleGameEventListener());
+    }
+
+    /**
+     * Creates a game with no console interaction, reporting events only to the given listener.
+     * Pass {@link GameEventListener#NONE} for a fully headless simulation.
+     * @param playerStrategies One strategy per player.
+     * @param playerNames One name per player.
+     * @param deckSeed Seed for the deck shuffle.
+     * @param listener Receiver of game events.
+     */
+    public UnoGame(List<PlayerStrategy> playerStrategies, List<String> playerNames, long deckSeed, GameEventListener listener) {
+        this(playerStrategies, playerNames, deckSeed, null, listener);
+    }
+
+    public UnoGame(List<PlayerStrategy> playerStrategies, List<String> playerNames, long deckSeed,
+                   Scanner scannerForHumanSetup, GameEventListener listener) {
         validateInputs(playerStrategies, playerNames);
+        this.listener = Objects.requireNonNull(listener, "Event listener cannot be null");
         this.deck = new Deck(deckSeed);
         this.pile = new Pile();
         this.players = new ArrayList<>();
@@ -27,6 +63,86 @@ public class UnoGame {
         this.currentPlayerIndex = 0;
     }
 
+    /**
+     * Creates a headless game for search: placeholder players, no listener output, and
+     * state that is normally filled in with {@link #restore(GameState)}.
+     * @param players Number of seats.
+     * @return The new game.
+     */
+    static UnoGame newSearchGame(int players) {
+        List<PlayerStrategy> strategies = new ArrayList<>(players);
+        List<String> names = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            strategies.add(new BasicAIStrategy());
+            names.add("Seat " + (i + 1));
+        }
+        return new UnoGame(strategies, names, 0L, GameEventListener.NONE);
+    }
+
+    /**
+     * Copies the current position into a new headless game, for a strategy that may still
+     * be reading it after this game has moved on (a decision that missed its deadline).
+     * @return The copy; its players are placeholders with the same hands.
+     */
+    UnoGame copyPosition() {
+        UnoGame copy = newSearchGame(players.size());
+        copy.restore(snapshot());
+        return copy;
+    }
+
+    /**
+     * Ends a game driven with {@link #apply(Move)}, as the end of {@link #run()} does: a game
+     * still running is abandoned without a winner, and the listener is told the game is over.
+     */
+    void endGame() {
+        isGameRunning = false;
+        listener.onGameOver(this);
+    }
+
+    /**
+     * Makes a finished game ready to play again with new players and a new deck, exactly as
+     * if it had just been constructed, reusing its deck, pile, hands and undo journal. Used
+     * by {@link GamePool}; games with a console scanner are never reset.
+     * @param playerStrategies One strategy per player; as many as the game already seats.
+     * @param playerNames One name per player.
+     * @param deckSeed Seed for the deck shuffle.
+     * @param listener Receiver of game events.
+     */
+    void reset(List<PlayerStrategy> playerStrategies, List<String> playerNames, long deckSeed, GameEventListener listener) {
+        validateInputs(playerStrategies, playerNames);
+        if (playerNames.size() != players.size()) {
+            throw new IllegalArgumentException("Game seats " + players.size() + " players, not " + playerNames.size());
+        }
+        this.listener = Objects.requireNonNull(listener, "Event listener cannot be null");
+        deck.reset(deckSeed);
+        pile.clear();
+        for (int i = 0; i < players.size(); i++) {
+            players.get(i).reset(playerNames.get(i), playerStrategies.get(i));
+        }
+        currentPlayerIndex = 0;
+        playDirectionClockwise = true;
+        activeWildColor = null;
+        isGameRunning = true;
+        skipNextPlayerTurnFlag = false;
+        winnerIndex = -1;
+        turnCount = 0;
+        reshuffleCount = 0;
+        maxTurns = Integer.MAX_VALUE;
+        drawnCardId = -1;
+        forcedWildColor = null;
+        clearUndoHistory();
+    }
+
+    /** Stops reporting to the listener, so an idle pooled game does not keep a table's listener alive. */
+    void detachListener() {
+        listener = GameEventListener.NONE;
+    }
+
+    /** @return true once the game has used up its turn limit. */
+    boolean isTurnLimitReached() {
+        return turnCount >= maxTurns;
+    }
+
     private void validateInputs(List<PlayerStrategy> playerStrategies, List<String> playerNames) {
         Objects.requireNonNull(playerNames);
         Objects.requireNonNull(playerStrategies);
@@ -44,22 +160,24 @@ public class UnoGame {
     }
 
     private void startGame() {
-        if (!dealInitialHands() || !flipInitialCard()) return;
+        if (!start()) return;
 
-        System.out.println("\n--- Uno Game Start ---");
         while (isGameRunning) {
+            if (turnCount >= maxTurns) {
+                isGameRunning = false; // Abandoned without a winner
+                break;
+            }
             handlePlayerTurn();
         }
-        System.out.println("\n--- Game Over ---");
+        listener.onGameOver(this);
     }
 
     private void handlePlayerTurn() {
         Player currentPlayer = players.get(currentPlayerIndex);
-        System.out.println("\n====================");
-        System.out.println(currentPlayer.getName() + "'s Turn");
+        turnCount++;
 
         if (skipNextPlayerTurnFlag) {
-            System.out.println(currentPlayer.getName() + "'s turn is SKIPPED!");
+            listener.onPlayerSkipped(currentPlayer);
             skipNextPlayerTurnFlag = false;
             advancePlayer();
             return;
@@ -69,34 +187,51 @@ public class UnoGame {
         if (isGameRunning) advancePlayer();
     }
 
+    /**
+     * Deals the hands and flips the first card without running the turn loop, leaving the
+     * game at the first player's decision. A starting skip or draw two costs the first
+     * player that turn here, as the turn loop would. Used to drive a game move by move with
+     * {@link #apply(Move)}; {@link #run()} calls this itself. Call at most once per game.
+     * @return true if the game is ready to play, false if setup failed.
+     */
+    public boolean start() {
+        if (!dealInitialHands() || !flipInitialCard()) return false;
+        listener.onGameStart(this);
+        if (skipNextPlayerTurnFlag) {
+            turnCount++;
+            skipNextPlayerTurnFlag = false;
+            listener.onPlayerSkipped(players.get(currentPlayerIndex));
+            advancePlayer();
+        }
+        return true;
+    }
+
     private boolean dealInitialHands() {
-        System.out.println("Dealing initial 7 cards to each player...");
         for (Player player : players) {
             try {
-                player.getHand().addCards(deck.drawCards(7));
+                deck.drawInto(player.getHand(), 7);
             } catch (IllegalStateException e) {
-                System.err.println("CRITICAL ERROR: Not enough cards in deck for initial deal. " + e.getMessage());
+                listener.onError("Not enough cards in deck for initial deal. " + e.getMessage());
                 isGameRunning = false;
                 return false;
             }
         }
-        System.out.println("Initial hands dealt.");
+        listener.onHandsDealt(this, 7);
         return true;
     }
 
     private boolean flipInitialCard() {
-        System.out.println("Flipping initial card onto the pile...");
         while (true) {
             if (!reshufflePile()) {
-                System.err.println("CRITICAL ERROR: projectone.Deck and pile empty. Cannot flip starting card.");
+                listener.onError("projectone.Deck and pile empty. Cannot flip starting card.");
                 isGameRunning = false;
                 return false;
             }
             Card firstCard = deck.drawCard();
-            System.out.println("Flipped: " + firstCard);
-            if (firstCard.getValue() == Value.WILD_DRAW_FOUR) {
-                System.out.println("WILD_DRAW_FOUR cannot be starting card. Reshuffling.");
-                deck.addCards(Collections.singletonList(firstCard));
+            boolean accepted = firstCard.getValue() != Value.WILD_DRAW_FOUR;
+            listener.onInitialCardFlipped(firstCard, accepted);
+            if (!accepted) {
+                deck.addCard(firstCard);
                 deck.shuffle();
                 continue;
             }
@@ -105,7 +240,7 @@ public class UnoGame {
                 Player firstPlayer = players.get(0);
                 Color chosen = firstPlayer.chooseWildColor(this);
                 setActiveWildColor(chosen);
-                System.out.println(firstPlayer.getName() + " chose starting color: " + chosen);
+                listener.onWildColorChosen(firstPlayer, chosen);
             } else {
                 firstCard.applyEffect(this);
             }
@@ -115,40 +250,41 @@ public class UnoGame {
     }
 
     private void playTurn(Player player) {
-        displayGameState(player);
+        listener.onTurnStart(this, player);
         List<Card> playable = player.getHand().findValidCards(pile.getTopCard(), activeWildColor);
         Card cardToPlay = playable.isEmpty() ? handleCardEffect(player) : player.chooseCardToPlay(this, playable);
 
         if (cardToPlay != null && isCardPlayable(cardToPlay, player)) {
             playCard(player, cardToPlay);
         } else {
-            System.out.println(player.getName() + " cannot play. Turn passes.");
+            listener.onTurnPassed(player);
         }
     }
 
     private Card handleCardEffect(Player player) {
-        System.out.println(player.getName() + " has no valid cards. Drawing a card...");
         if (!reshufflePile()) return null;
         Card drawn = deck.drawCard();
-        System.out.println(player.getName() + " drew: " + drawn);
+        listener.onCardDrawn(player, drawn);
         player.getHand().addCard(drawn);
         return drawn.canPlayOn(pile.getTopCard(), activeWildColor) ? drawn : null;
     }
 
     private boolean isCardPlayable(Card card, Player player) {
-        return player.getHand().getCards().contains(card) &&
+        return player.getHand().contains(card) &&
                card.canPlayOn(pile.getTopCard(), activeWildColor);
     }
 
     private void playCard(Player player, Card card) {
-        System.out.println(player.getName() + " plays " + card);
+        listener.onCardPlayed(player, card);
         player.getHand().playCard(card);
         pile.addCard(card);
+        if (journaling) record(OP_PLAY, currentPlayerIndex, card.getId());
         activeWildColor = null;
         card.applyEffect(this);
 
         if (player.getHand().isEmpty()) {
-            System.out.println("\n" + player.getName() + " exclaims 'UNO!' and WINS!");
+            winnerIndex = currentPlayerIndex;
+            listener.onGameWon(player);
             isGameRunning = false;
         }
     }
@@ -162,22 +298,20 @@ public class UnoGame {
 
     private boolean reshufflePile() {
         if (!deck.isEmpty()) return true;
-        List<Card> reshuffle = pile.takeCardsForNewDeck();
-        if (reshuffle.isEmpty()) return false;
-        System.out.println("\nprojectone.Deck is empty! Reshuffling discard pile...");
-        deck.addCards(reshuffle);
-        deck.shuffle();
-        System.out.println("projectone.Deck reshuffled with " + deck.cardsRemaining() + " cards.");
+        if (journaling && pile.getSize() > 1) {
+            int buried = pile.getSize() - 1;
+            ensureJournalCapacity(buried + 2);
+            System.arraycopy(pile.cardIds(), 0, journal, journalSize, buried);
+            journalSize += buried;
+            journal[journalSize++] = buried;
+            journal[journalSize++] = OP_RESHUFFLE;
+        }
+        if (deck.refillFrom(pile) == 0) return false;
+        reshuffleCount++;
+        listener.onReshuffle(deck.cardsRemaining());
         return true;
     }
 
-    private void displayGameState(Player player) {
-        System.out.println("projectone.Pile Top: " + pile.getTopCard() +
-                (activeWildColor != null ? " (Active Wild projectone.Color: " + activeWildColor + ")" : ""));
-        for (Player p : players) System.out.print(p.getName() + ":" + p.getHand().getSize() + " | ");
-        System.out.println("\n" + player.getName() + "'s projectone.Hand: " + player.getHand());
-    }
-
     private void closeScannerIfNeeded() {
         if (humanInteractionScannerInstance != null) {
             humanInteractionScannerInstance.close();
@@ -185,17 +319,54 @@ public class UnoGame {
     }
 
     public void skipNextPlayerTurn() { skipNextPlayerTurnFlag = true; }
-    public void reversePlayDirection() { playDirectionClockwise = !playDirectionClockwise; }
+    public void reversePlayDirection() {
+        playDirectionClockwise = !playDirectionClockwise;
+        listener.onDirectionReversed(playDirectionClockwise);
+    }
     public void setActiveWildColor(Color color) { activeWildColor = color; }
     public void makePlayerDraw(Player player, int count) {
-        for (int i = 0; i < count; i++) {
-            if (!reshufflePile()) break;
-            player.getHand().addCard(deck.drawCard());
+        if (journaling) {
+            int seat = seatOf(player);
+            for (int i = 0; i < count && reshufflePile(); i++) {
+                int id = deck.drawCardId();
+                player.getHand().addCardId(id);
+                record(OP_DRAW, seat, id);
+            }
+            listener.onCardsDrawn(player, count);
+            return;
+        }
+        int remaining = count;
+        while (remaining > 0 && reshufflePile()) {
+            int batch = Math.min(remaining, deck.cardsRemaining());
+            deck.drawInto(player.getHand(), batch);
+            remaining -= batch;
         }
-        System.out.println(player.getName() + " drew " + count + " card(s). projectone.Hand size now " + player.getHand().getSize());
+        listener.onCardsDrawn(player, count);
     }
+
+    /**
+     * Returns the color a player picks for the wild card they just played. While a
+     * {@link Move} is being applied this is the color the move names; otherwise the
+     * player's strategy is asked.
+     */
+    Color chooseWildColor(Player player) {
+        return forcedWildColor != null ? forcedWildColor : player.chooseWildColor(this);
+    }
+
+    private int seatOf(Player player) {
+        for (int seat = 0; seat < players.size(); seat++) {
+            if (players.get(seat) == player) return seat;
+        }
+        throw new IllegalArgumentException("Not a player in this game: " + player);
+    }
+
     public int getNumberOfPlayers() { return players.size(); }
+    public int getCurrentPlayerIndex() { return currentPlayerIndex; }
+    public boolean isPlayDirectionClockwise() { return playDirectionClockwise; }
+    public boolean isSkipPending() { return skipNextPlayerTurnFlag; }
+    public boolean isGameRunning() { return isGameRunning; }
     public Player getCurrentPlayer() { return players.get(currentPlayerIndex); }
+    public List<Player> getPlayers() { return Collections.unmodifiableList(players); }
     public Player getNextPlayer() {
         int size = players.size();
         int nextIndex = playDirectionClockwise
@@ -206,6 +377,365 @@ public class UnoGame {
     public Pile getPile() { return pile; }
     public Color getActiveWildColor() { return activeWildColor; }
     public Scanner getHumanInteractionScanner() { return humanInteractionScannerInstance; }
+    public GameEventListener getEventListener() { return listener; }
+
+    /**
+     * Adds a listener that receives every later event, after the listeners already registered.
+     * @param extra The listener to add.
+     */
+    public void addEventListener(GameEventListener extra) {
+        Objects.requireNonNull(extra, "Event listener cannot be null");
+        if (listener == GameEventListener.NONE) {
+            listener = extra;
+        } else if (listener instanceof CompositeGameEventListener) {
+            listener = ((CompositeGameEventListener) listener).with(extra);
+        } else {
+            listener = new CompositeGameEventListener(listener, extra);
+        }
+    }
+
+    /**
+     * Captures the complete game state.
+     * @return A new snapshot.
+     */
+    public GameState snapshot() {
+        GameState state = new GameState(players.size());
+        snapshotInto(state);
+        return state;
+    }
+
+    /**
+     * Captures the complete game state into an existing snapshot, reusing its arrays.
+     * @param state A state for the same number of players.
+     */
+    public void snapshotInto(GameState state) {
+        checkPlayerCount(state);
+        state.deckIds = deck.saveTo(state.deckIds);
+        state.deckCount = deck.cardsRemaining();
+        state.pileIds = pile.saveTo(state.pileIds);
+        state.pileSize = pile.getSize();
+        for (int seat = 0; seat < players.size(); seat++) {
+            players.get(seat).getHand().saveCounts(state.handCounts, seat * CardTable.SIZE);
+        }
+        state.currentPlayerIndex = currentPlayerIndex;
+        state.clockwise = playDirectionClockwise;
+        state.activeWildColor = activeWildColor == null ? -1 : activeWildColor.ordinal();
+        state.skipPending = skipNextPlayerTurnFlag;
+        state.running = isGameRunning;
+        state.winnerIndex = winnerIndex;
+        state.turnCount = turnCount;
+        state.reshuffleCount = reshuffleCount;
+        state.drawnCardId = drawnCardId;
+    }
+
+    /**
+     * Puts the game back into a captured state. Players, strategies and the listener are kept.
+     * @param state A state for the same number of players.
+     */
+    public void restore(GameState state) {
+        checkPlayerCount(state);
+        deck.loadFrom(state.deckIds, state.deckCount);
+        pile.loadFrom(state.pileIds, state.pileSize);
+        for (int seat = 0; seat < players.size(); seat++) {
+            players.get(seat).getHand().loadCounts(state.handCounts, seat * CardTable.SIZE);
+        }
+        currentPlayerIndex = state.currentPlayerIndex;
+        playDirectionClockwise = state.clockwise;
+        activeWildColor = state.getActiveWildColor();
+        skipNextPlayerTurnFlag = state.skipPending;
+        isGameRunning = state.running;
+        winnerIndex = state.winnerIndex;
+        turnCount = state.turnCount;
+        reshuffleCount = state.reshuffleCount;
+        drawnCardId = state.drawnCardId;
+        clearUndoHistory();
+    }
+
+    private void checkPlayerCount(GameState state) {
+        Objects.requireNonNull(state, "Game state cannot be null");
+        if (state.getPlayerCount() != players.size()) {
+            throw new IllegalArgumentException("State is for " + state.getPlayerCount() + " players, game has " + players.size());
+        }
+    }
+
+    /**
+     * Returns a Zobrist hash of the position: every hand, the top card, the number of cards
+     * in the deck, and the turn state (player to move, direction, wild color, pending skip,
+     * drawn card). Hands maintain their part incrementally, so this is O(players).
+     * The deck order and the buried pile cards are not hashed; within one search that does
+     * not reshuffle they are determined by the rest of the position.
+     * @return The hash.
+     */
+    public long getZobristHash() {
+        long hash = pile.getZobristHash()
+                ^ Zobrist.deckCount(deck.cardsRemaining())
+                ^ Zobrist.currentPlayer(currentPlayerIndex)
+                ^ Zobrist.direction(playDirectionClockwise)
+                ^ Zobrist.wildColor(activeWildColor)
+                ^ Zobrist.skipPending(skipNextPlayerTurnFlag)
+                ^ Zobrist.drawnCard(drawnCardId);
+        for (int seat = 0; seat < players.size(); seat++) {
+            hash ^= Zobrist.seatHand(seat, players.get(seat).getHand().getZobristHash());
+        }
+        return hash;
+    }
+
+    /**
+     * Lists the moves the current player may make, following the same rules as {@link #run()}:
+     * a player with a playable card must play one; otherwise they draw, and may then play
+     * the drawn card if it fits. A wild card appears once per color it can be given.
+     * A player with nothing playable and nothing left to draw passes.
+     * @param out Receives the moves; {@link Move#COUNT} entries are always enough.
+     * @return The number of moves written, or 0 if the game is over.
+     */
+    public int legalMoves(Move[] out) {
+        if (!isGameRunning) return 0;
+        if (drawnCardId >= 0) {
+            return addPlays(out, 0, drawnCardId);
+        }
+        long playable = players.get(currentPlayerIndex).getHand().getPlayableMask(pile.getTopCard(), activeWildColor);
+        if (playable == 0) {
+            out[0] = canDraw() ? Move.DRAW : Move.PASS;
+            return 1;
+        }
+        int n = 0;
+        while (playable != 0) {
+            n = addPlays(out, n, Long.numberOfTrailingZeros(playable));
+            playable &= playable - 1;
+        }
+        return n;
+    }
+
+    /**
+     * @return The current player's legal moves as a new list.
+     * @see #legalMoves(Move[])
+     */
+    public List<Move> legalMoves() {
+        Move[] moves = new Move[Move.COUNT];
+        return Arrays.asList(Arrays.copyOf(moves, legalMoves(moves)));
+    }
+
+    private static int addPlays(Move[] out, int n, int cardId) {
+        if (CardTable.byId(cardId).getColor() == Color.WILD) {
+            out[n++] = Move.play(cardId, Color.RED);
+            out[n++] = Move.play(cardId, Color.YELLOW);
+            out[n++] = Move.play(cardId, Color.GREEN);
+            out[n++] = Move.play(cardId, Color.BLUE);
+        } else {
+            out[n++] = Move.play(cardId, null);
+        }
+        return n;
+    }
+
+    private boolean canDraw() {
+        return !deck.isEmpty() || pile.getSize() > 1;
+    }
+
+    /**
+     * Makes a move for the current player and records how to take it back with {@link #undo()}.
+     * Card effects and reshuffles happen exactly as in {@link #run()}, and the turn passes on
+     * (past any skipped players) once the move ends it. Nothing is allocated once the undo
+     * journal has grown to the search depth. Events still reach the listener, so games used
+     * for search should be created with {@link GameEventListener#NONE}.
+     * @param move One of the moves returned by {@link #legalMoves(Move[])}.
+     * @throws IllegalStateException if the game is over.
+     * @throws IllegalArgumentException if the move is not legal now.
+     */
+    public void apply(Move move) {
+        Objects.requireNonNull(move, "Move cannot be null");
+        if (!isGameRunning) throw new IllegalStateException("Cannot apply a move: the game is over");
+        checkLegal(move);
+
+        Player player = players.get(currentPlayerIndex);
+        saveTurnState();
+        journaling = true;
+        try {
+            switch (move.getType()) {
+                case PLAY:
+                    drawnCardId = -1;
+                    forcedWildColor = move.getWildColor();
+                    playCard(player, move.getCard());
+                    if (isGameRunning) endTurn();
+                    else turnCount++; // the winning turn counts too, as in run()
+                    break;
+                case DRAW:
+                    reshufflePile();
+                    int id = deck.drawCardId();
+                    player.getHand().addCardId(id);
+                    record(OP_DRAW, currentPlayerIndex, id);
+                    Card drawn = CardTable.byId(id);
+                    listener.onCardDrawn(player, drawn);
+                    if (drawn.canPlayOn(pile.getTopCard(), activeWildColor)) {
+                        drawnCardId = id; // Same player decides whether and how to play it
+                    } else {
+                        listener.onTurnPassed(player);
+                        endTurn();
+                    }
+                    break;
+                case PASS:
+                    listener.onTurnPassed(player);
+                    endTurn();
+                    break;
+            }
+        } finally {
+            journaling = false;
+            forcedWildColor = null;
+            undoDepth++;
+        }
+    }
+
+    private void checkLegal(Move move) {
+        Hand hand = players.get(currentPlayerIndex).getHand();
+        long playable = hand.getPlayableMask(pile.getTopCard(), activeWildColor);
+        boolean legal;
+        switch (move.getType()) {
+            case PLAY:
+                int id = move.getCard().getId();
+                legal = drawnCardId >= 0 ? id == drawnCardId : (playable & (1L << id)) != 0;
+                break;
+            case DRAW:
+                legal = drawnCardId < 0 && playable == 0 && canDraw();
+                break;
+            default:
+                legal = drawnCardId < 0 && playable == 0 && !canDraw();
+                break;
+        }
+        if (!legal) throw new IllegalArgumentException("Illegal move for " + players.get(currentPlayerIndex).getName() + ": " + move);
+    }
+
+    private void endTurn() {
+        drawnCardId = -1;
+        advancePlayer();
+        turnCount++;
+        while (skipNextPlayerTurnFlag) {
+            skipNextPlayerTurnFlag = false;
+            listener.onPlayerSkipped(players.get(currentPlayerIndex));
+            turnCount++;
+            advancePlayer();
+        }
+    }
+
+    /**
+     * Takes back the most recent {@link #apply(Move) applied} move, restoring hands, deck,
+     * pile and turn state. The deck's random generator is not rewound, so a reshuffle that
+     * is undone and replayed produces a different order.
+     * @throws IllegalStateException if there is no move to undo.
+     */
+    public void undo() {
+        if (undoDepth == 0) throw new IllegalStateException("No move to undo");
+        int[] log = journal;
+        while (true) {
+            int op = log[--journalSize];
+            switch (op) {
+                case OP_DRAW: {
+                    int id = log[--journalSize];
+                    int seat = log[--journalSize];
+                    players.get(seat).getHand().removeCardId(id);
+                    deck.pushCardId(id);
+                    break;
+                }
+                case OP_PLAY: {
+                    int id = log[--journalSize];
+                    int seat = log[--journalSize];
+                    pile.popCardId();
+                    players.get(seat).getHand().addCardId(id);
+                    break;
+                }
+                case OP_RESHUFFLE: {
+                    int buried = log[--journalSize];
+                    journalSize -= buried;
+                    deck.clear();
+                    pile.restoreBuried(log, journalSize, buried);
+                    break;
+                }
+                default: // OP_BEGIN
+                    restoreTurnState();
+                    undoDepth--;
+                    return;
+            }
+        }
+    }
+
+    /** @return Number of applied moves that can still be undone. */
+    public int getUndoDepth() { return undoDepth; }
+
+    /**
+     * Forgets the undo history, e.g. once a searched line has been committed to.
+     */
+    public void clearUndoHistory() {
+        journalSize = 0;
+        undoDepth = 0;
+    }
+
+    private void saveTurnState() {
+        ensureJournalCapacity(10);
+        int[] log = journal;
+        log[journalSize++] = currentPlayerIndex;
+        log[journalSize++] = playDirectionClockwise ? 1 : 0;
+        log[journalSize++] = activeWildColor == null ? -1 : activeWildColor.ordinal();
+        log[journalSize++] = skipNextPlayerTurnFlag ? 1 : 0;
+        log[journalSize++] = isGameRunning ? 1 : 0;
+        log[journalSize++] = winnerIndex;
+        log[journalSize++] = turnCount;
+        log[journalSize++] = reshuffleCount;
+        log[journalSize++] = drawnCardId;
+        log[journalSize++] = OP_BEGIN;
+    }
+
+    private void restoreTurnState() {
+        int[] log = journal;
+        drawnCardId = log[--journalSize];
+        reshuffleCount = log[--journalSize];
+        turnCount = log[--journalSize];
+        winnerIndex = log[--journalSize];
+        isGameRunning = log[--journalSize] == 1;
+        skipNextPlayerTurnFlag = log[--journalSize] == 1;
+        int wild = log[--journalSize];
+        activeWildColor = wild < 0 ? null : COLORS[wild];
+        playDirectionClockwise = log[--journalSize] == 1;
+        currentPlayerIndex = log[--journalSize];
+    }
+
+    private void record(int op, int seat, int cardId) {
+        ensureJournalCapacity(3);
+        journal[journalSize++] = seat;
+        journal[journalSize++] = cardId;
+        journal[journalSize++] = op;
+    }
+
+    private void ensureJournalCapacity(int extra) {
+        if (journalSize + extra > journal.length) {
+            journal = Arrays.copyOf(journal, Math.max(journalSize + extra, journal.length * 2));
+        }
+    }
+
+    /**
+     * Returns the player who emptied their hand.
+     * @return The winner, or null if the game has not finished or was abandoned.
+     */
+    public Player getWinner() { return winnerIndex < 0 ? null : players.get(winnerIndex); }
+
+    /**
+     * Returns the index of the winning player in the order the players were given.
+     * @return The winner's seat, or -1 if there is no winner.
+     */
+    public int getWinnerIndex() { return winnerIndex; }
+
+    /** @return Number of turns taken so far, including skipped turns. */
+    public int getTurnCount() { return turnCount; }
+
+    /** @return Number of times the discard pile has been reshuffled into the deck. */
+    public int getReshuffleCount() { return reshuffleCount; }
+
+    /**
+     * Limits the game length. A game that reaches the limit ends without a winner,
+     * which stops simulations of pathological games from running forever.
+     * @param maxTurns The maximum number of turns; must be positive.
+     */
+    public void setMaxTurns(int maxTurns) {
+        if (maxTurns <= 0) throw new IllegalArgumentException("Max turns must be positive: " + maxTurns);
+        this.maxTurns = maxTurns;
+    }
     
     public static void main(String[] args) {
         Scanner setupScanner = new Scanner(System.in);
@@ -16,14 +16,12 @@ public class WildCard extends Card {
     @Override
     public void applyEffect(UnoGame gameController) {
         Player currentPlayer = gameController.getCurrentPlayer();
-        Color chosenColor = currentPlayer.chooseWildColor(gameController);
+        Color chosenColor = gameController.chooseWildColor(currentPlayer);
         gameController.setActiveWildColor(chosenColor);
-        System.out.println(currentPlayer.getName() + " chose " + chosenColor + " as the new wild color.");
-
+        gameController.getEventListener().onWildColorChosen(currentPlayer, chosenColor);
 
         if (this.value == Value.WILD_DRAW_FOUR) {
             Player nextPlayer = gameController.getNextPlayer();
-            System.out.println(nextPlayer.getName() + " draws four cards and is skipped.");
             gameController.makePlayerDraw(nextPlayer, 4);
             gameController.skipNextPlayerTurn();
         }
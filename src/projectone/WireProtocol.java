@@ -0,0 +1,93 @@
+package projectone;
+
+import java.util.List;
+
+/**
+ * The binary protocol spoken between {@link RemotePlayerServer} and remote players.
+ * Every message is a frame of one type byte, one length byte and up to 255 payload bytes.
+ * Cards travel as their one-byte {@link CardTable} ID, seats as one byte counted from 0,
+ * and colors as their {@link Color} ordinal. The server sends a small delta per game event,
+ * so an ordinary turn costs a watching player seven bytes: {@link #TURN} and {@link #PLAYED}.
+ * <p>Server to client:</p>
+ * <ul>
+ *   <li>{@link #WELCOME} [seat, players]: the game has dealt; sent once, before anything else.</li>
+ *   <li>{@link #HAND} [card...]: the player's whole hand, after the deal and after penalty draws.</li>
+ *   <li>{@link #STARTING_CARD} [card]: the card that starts the pile.</li>
+ *   <li>{@link #TURN} [seat]: a seat's turn begins.</li>
+ *   <li>{@link #PLAYED} [seat, card]: a seat plays a card.</li>
+ *   <li>{@link #DREW} [seat, card]: a seat draws on its turn; the card is {@link #HIDDEN} unless it is the receiver's.</li>
+ *   <li>{@link #PENALTY} [seat, count]: a seat draws cards forced by a Draw Two or Wild Draw Four.</li>
+ *   <li>{@link #WILD_COLOR} [seat, color]: a seat names the color for a wild card.</li>
+ *   <li>{@link #DIRECTION} [clockwise]: play reverses; 1 for clockwise, 0 for counter-clockwise.</li>
+ *   <li>{@link #SKIPPED} [seat] and {@link #PASSED} [seat]: a seat loses its turn, or ends it without playing.</li>
+ *   <li>{@link #GAME_OVER} [seat]: the winner, or {@link #HIDDEN} if the game was abandoned.</li>
+ *   <li>{@link #SNAPSHOT} [top card, wild color, clockwise, seat to play, players, hand size...]: the
+ *   whole public state, sent to spectators ({@link SpectatorHub}) that join or fall behind; the
+ *   wild color and seat are {@link #HIDDEN} when there is none.</li>
+ *   <li>{@link #HAND_SIZE} [seat, size]: a seat's hand size after a penalty draw, sent to spectators.</li>
+ *   <li>{@link #PROMPT_CARD} [card...]: the receiver must choose one of these cards.</li>
+ *   <li>{@link #PROMPT_COLOR} []: the receiver must choose a color for its wild card.</li>
+ * </ul>
+ * <p>Client to server:</p>
+ * <ul>
+ *   <li>{@link #CHOOSE} [index]: answers the last prompt; an index into its cards, or 0-3
+ *   for RED, YELLOW, GREEN, BLUE.</li>
+ * </ul>
+ * Any other frame from a client is a protocol error, and the server closes the connection.
+ */
+public final class WireProtocol {
+    public static final int WELCOME = 0x01;
+    public static final int HAND = 0x02;
+    public static final int STARTING_CARD = 0x03;
+    public static final int TURN = 0x04;
+    public static final int PLAYED = 0x05;
+    public static final int DREW = 0x06;
+    public static final int PENALTY = 0x07;
+    public static final int WILD_COLOR = 0x08;
+    public static final int DIRECTION = 0x09;
+    public static final int SKIPPED = 0x0A;
+    public static final int PASSED = 0x0B;
+    public static final int GAME_OVER = 0x0C;
+    public static final int SNAPSHOT = 0x0D;
+    public static final int HAND_SIZE = 0x0E;
+    public static final int PROMPT_CARD = 0x10;
+    public static final int PROMPT_COLOR = 0x11;
+    public static final int CHOOSE = 0x20;
+
+    /** Stands for a card the receiver may not see, or for no seat. */
+    public static final int HIDDEN = 0xFF;
+
+    /** Bytes of a frame before its payload. */
+    public static final int HEADER_BYTES = 2;
+    /** Largest payload a frame can carry. */
+    public static final int MAX_PAYLOAD = 255;
+
+    private WireProtocol() {}
+
+    static byte[] frame(int type) {
+        return new byte[] {(byte) type, 0};
+    }
+
+    static byte[] frame(int type, int value) {
+        return new byte[] {(byte) type, 1, (byte) value};
+    }
+
+    static byte[] frame(int type, int first, int second) {
+        return new byte[] {(byte) type, 2, (byte) first, (byte) second};
+    }
+
+    /**
+     * Builds a frame whose payload is a list of card IDs.
+     * @throws IllegalArgumentException if there are more cards than a frame can carry.
+     */
+    static byte[] cardsFrame(int type, List<Card> cards) {
+        int count = cards.size();
+        if (count > MAX_PAYLOAD) throw new IllegalArgumentException("Too many cards for one frame: " + count);
+        byte[] frame = new byte[HEADER_BYTES + count];
+        frame[0] = (byte) type;
+        frame[1] = (byte) count;
+        int i = HEADER_BYTES;
+        for (Card card : cards) frame[i++] = (byte) card.getId();
+        return frame;
+    }
+}
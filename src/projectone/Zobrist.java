@@ -0,0 +1,103 @@
+package projectone;
+
+import java.util.SplittableRandom;
+
+/**
+ * Random 64-bit keys for Zobrist hashing of game positions.
+ * A position's hash is the XOR of one key per feature it has: each copy of a card in
+ * a hand, the top card of the pile, the number of cards left in the deck, the player
+ * to move, the direction, the chosen wild color, a pending skip and a drawn card that
+ * may still be played. Adding or removing a feature is one XOR, so hands keep their
+ * hash up to date as cards come and go, and {@link UnoGame#getZobristHash()} combines
+ * the parts in constant time.
+ * The keys are fixed (generated from a constant seed), so hashes are stable across runs.
+ */
+public final class Zobrist {
+    /** Copies of one card type a hand can hold before copy keys start to repeat. */
+    static final int MAX_COPIES = 8;
+    private static final int MAX_SEATS = 16;
+    private static final int MAX_DECK = 2 * Deck.STANDARD_SIZE;
+
+    private static final long[] HAND_CARD = new long[CardTable.SIZE * MAX_COPIES];
+    private static final long[] TOP_CARD = new long[CardTable.SIZE];
+    private static final long[] DECK_COUNT = new long[MAX_DECK + 1];
+    private static final long[] CURRENT_PLAYER = new long[MAX_SEATS];
+    private static final long[] WILD_COLOR = new long[Color.values().length];
+    private static final long[] DRAWN_CARD = new long[CardTable.SIZE];
+    private static final long REVERSED;
+    private static final long SKIP_PENDING;
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5EED_2B0B_15L);
+        fill(HAND_CARD, random);
+        fill(TOP_CARD, random);
+        fill(DECK_COUNT, random);
+        fill(CURRENT_PLAYER, random);
+        fill(WILD_COLOR, random);
+        fill(DRAWN_CARD, random);
+        REVERSED = random.nextLong();
+        SKIP_PENDING = random.nextLong();
+    }
+
+    private Zobrist() {}
+
+    private static void fill(long[] keys, SplittableRandom random) {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * @param cardId The card type.
+     * @param copy Which copy of that type, counting from 0.
+     * @return The key for holding that copy.
+     */
+    static long handCard(int cardId, int copy) {
+        return HAND_CARD[cardId * MAX_COPIES + (copy & (MAX_COPIES - 1))];
+    }
+
+    /**
+     * Places a hand's hash at a seat, so equal hands held by different players hash differently.
+     * @param seat The seat holding the hand.
+     * @param handHash The hand's own hash.
+     * @return The hash of that hand at that seat.
+     */
+    static long seatHand(int seat, long handHash) {
+        return Long.rotateLeft(handHash, seat * 17);
+    }
+
+    /** @return The key for a card on top of the pile. */
+    static long topCard(int cardId) {
+        return TOP_CARD[cardId];
+    }
+
+    /** @return The key for the number of cards in the deck. */
+    static long deckCount(int count) {
+        return DECK_COUNT[Math.min(count, MAX_DECK)];
+    }
+
+    /** @return The key for the player to move. */
+    static long currentPlayer(int seat) {
+        return CURRENT_PLAYER[seat & (MAX_SEATS - 1)];
+    }
+
+    /** @return The key for the chosen wild color, or 0 if none is chosen. */
+    static long wildColor(Color color) {
+        return color == null ? 0L : WILD_COLOR[color.ordinal()];
+    }
+
+    /** @return The key for a card drawn this turn that may still be played, or 0 for none. */
+    static long drawnCard(int cardId) {
+        return cardId < 0 ? 0L : DRAWN_CARD[cardId];
+    }
+
+    /** @return The key for counter-clockwise play, or 0 for clockwise. */
+    static long direction(boolean clockwise) {
+        return clockwise ? 0L : REVERSED;
+    }
+
+    /** @return The key for a pending skip, or 0 for none. */
+    static long skipPending(boolean pending) {
+        return pending ? SKIP_PENDING : 0L;
+    }
+}
@@ -0,0 +1,211 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the projectone.AsyncGameDriver non-blocking game engine.
+ */
+class AsyncGameDriverTest {
+    private static final List<String> NAMES = List.of("A", "B", "C", "D");
+
+    /** A strategy whose decisions never arrive. */
+    private static final class SilentStrategy implements AsyncPlayerStrategy {
+        final List<CompletableFuture<?>> asked = new ArrayList<>();
+
+        @Override
+        public CompletableFuture<Card> chooseCardAsync(UnoGame game, Hand hand, List<Card> playableCards, Card topPileCard, Color activeWildColor) {
+            return remember(new CompletableFuture<>());
+        }
+
+        @Override
+        public CompletableFuture<Color> chooseWildColorAsync(UnoGame game, Hand hand) {
+            return remember(new CompletableFuture<>());
+        }
+
+        private synchronized <T> CompletableFuture<T> remember(CompletableFuture<T> decision) {
+            asked.add(decision);
+            return decision;
+        }
+    }
+
+    private static List<AsyncPlayerStrategy> bots(Executor executor, int seats) {
+        List<AsyncPlayerStrategy> strategies = new ArrayList<>();
+        for (int i = 0; i < seats; i++) strategies.add(AsyncPlayerStrategy.of(new BasicAIStrategy(), executor));
+        return strategies;
+    }
+
+    @Test
+    void testBotGamesFinish() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            AsyncGameDriver driver = new AsyncGameDriver(executor, Duration.ofSeconds(10));
+            for (long seed = 0; seed < 20; seed++) {
+                UnoGame game = driver.play(bots(executor, 4), NAMES, seed).get(30, TimeUnit.SECONDS);
+                assertFalse(game.isGameRunning());
+                assertTrue(game.getWinnerIndex() >= 0, "Seed " + seed);
+                assertTrue(game.getWinner().getHand().isEmpty());
+            }
+            assertEquals(0, driver.getTimeouts());
+            assertEquals(0, driver.getFallbacks());
+            assertTrue(driver.getDecisions() > 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testManyTablesWaitingOnHumansShareOneThread() throws Exception {
+        int tables = 200;
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AsyncGameDriver driver = new AsyncGameDriver(executor, Duration.ofSeconds(30));
+            List<QueuedHumanStrategy> humans = new ArrayList<>();
+            List<CompletableFuture<UnoGame>> games = new ArrayList<>();
+            for (int i = 0; i < tables; i++) {
+                QueuedHumanStrategy human = new QueuedHumanStrategy();
+                List<AsyncPlayerStrategy> strategies = new ArrayList<>(bots(executor, 3));
+                strategies.add(0, human);
+                humans.add(human);
+                games.add(driver.play(strategies, NAMES, i));
+            }
+            // A single client answers every table; the one engine thread never waits for it
+            CompletableFuture<Void> all = CompletableFuture.allOf(games.toArray(new CompletableFuture<?>[0]));
+            while (!all.isDone()) {
+                for (QueuedHumanStrategy human : humans) {
+                    QueuedHumanStrategy.Prompt prompt = human.pollPrompt(0, TimeUnit.MILLISECONDS);
+                    if (prompt != null) human.answer(prompt, 0);
+                }
+                Thread.onSpinWait();
+            }
+            for (CompletableFuture<UnoGame> game : games) {
+                assertTrue(game.get().getWinnerIndex() >= 0);
+            }
+            assertEquals(0, driver.getFallbacks());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testLateDecisionsFallBack() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AsyncGameDriver driver = new AsyncGameDriver(executor, Duration.ofMillis(1));
+            SilentStrategy silent = new SilentStrategy();
+            // The bot answers synchronously, so only the silent seat can miss the 1 ms budget
+            List<AsyncPlayerStrategy> strategies = new ArrayList<>(bots(Runnable::run, 1));
+            strategies.add(0, silent);
+            UnoGame game = driver.play(strategies, NAMES.subList(0, 2), 7).get(30, TimeUnit.SECONDS);
+            assertTrue(game.getWinnerIndex() >= 0);
+            assertTrue(driver.getTimeouts() > 0);
+            assertEquals(driver.getTimeouts(), driver.getFallbacks());
+            synchronized (silent) {
+                assertEquals(driver.getTimeouts(), silent.asked.size());
+                for (CompletableFuture<?> decision : silent.asked) assertTrue(decision.isCompletedExceptionally());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testExpiredHumanPromptCannotBeAnswered() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AsyncGameDriver driver = new AsyncGameDriver(executor, Duration.ofMillis(50));
+            QueuedHumanStrategy human = new QueuedHumanStrategy();
+            List<AsyncPlayerStrategy> strategies = new ArrayList<>(bots(executor, 1));
+            strategies.add(0, human);
+            CompletableFuture<UnoGame> game = driver.play(strategies, NAMES.subList(0, 2), 3);
+            QueuedHumanStrategy.Prompt first = human.pollPrompt(10, TimeUnit.SECONDS);
+            assertNotNull(first);
+            game.get(60, TimeUnit.SECONDS);
+            assertThrows(IllegalStateException.class, () -> human.answer(first, 0));
+            assertTrue(driver.getTimeouts() > 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testInvalidAndFailedDecisionsFallBack() throws Exception {
+        Card notInHand = CardTable.get(Color.GREEN, Value.NINE);
+        AsyncPlayerStrategy cheat = new AsyncPlayerStrategy() {
+            @Override
+            public CompletableFuture<Card> chooseCardAsync(UnoGame game, Hand hand, List<Card> playableCards, Card topPileCard, Color activeWildColor) {
+                return playableCards.contains(notInHand) ? CompletableFuture.failedFuture(new IllegalStateException("boom"))
+                        : CompletableFuture.completedFuture(notInHand);
+            }
+
+            @Override
+            public CompletableFuture<Color> chooseWildColorAsync(UnoGame game, Hand hand) {
+                return CompletableFuture.completedFuture(Color.WILD);
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AsyncGameDriver driver = new AsyncGameDriver(executor, Duration.ofSeconds(10));
+            List<AsyncPlayerStrategy> strategies = new ArrayList<>(bots(executor, 1));
+            strategies.add(0, cheat);
+            UnoGame game = driver.play(strategies, NAMES.subList(0, 2), 11).get(30, TimeUnit.SECONDS);
+            assertTrue(game.getWinnerIndex() >= 0);
+            assertTrue(driver.getFallbacks() > 0);
+            assertEquals(0, driver.getTimeouts());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testCancellingTheGameWithdrawsThePrompt() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AsyncGameDriver driver = new AsyncGameDriver(executor, Duration.ofMinutes(1));
+            QueuedHumanStrategy human = new QueuedHumanStrategy();
+            List<AsyncPlayerStrategy> strategies = new ArrayList<>(bots(executor, 1));
+            strategies.add(0, human);
+            CompletableFuture<UnoGame> game = driver.play(strategies, NAMES.subList(0, 2), 3);
+            QueuedHumanStrategy.Prompt prompt = human.pollPrompt(10, TimeUnit.SECONDS);
+            assertNotNull(prompt);
+            game.cancel(false);
+            // Let the table's task that published the prompt finish before answering
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertThrows(IllegalStateException.class, () -> human.answer(prompt, 0));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testTurnLimitAbandonsTheGame() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AsyncGameDriver driver = new AsyncGameDriver(executor, Duration.ofSeconds(10));
+            driver.setMaxTurns(3);
+            UnoGame game = driver.play(bots(executor, 4), NAMES, 5).get(30, TimeUnit.SECONDS);
+            assertFalse(game.isGameRunning());
+            assertEquals(-1, game.getWinnerIndex());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncGameDriver(Runnable::run, Duration.ZERO));
+        assertThrows(NullPointerException.class, () -> new AsyncGameDriver(null, Duration.ofSeconds(1)));
+        AsyncGameDriver driver = new AsyncGameDriver(Runnable::run, Duration.ofSeconds(1));
+        assertThrows(IllegalArgumentException.class, () -> driver.setMaxTurns(0));
+        assertThrows(IllegalArgumentException.class, () -> driver.play(List.of(new SilentStrategy()), List.of("A"), 1));
+    }
+}
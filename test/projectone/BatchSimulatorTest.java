@@ -0,0 +1,90 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the projectone.BatchSimulator parallel runner.
+ */
+class BatchSimulatorTest {
+    private final List<Supplier<PlayerStrategy>> lineup =
+            Arrays.asList(BasicAIStrategy::new, BasicAIStrategy::new, BasicAIStrategy::new);
+
+    @Test
+    void testEveryGameIsCounted() {
+        BatchResult result = new BatchSimulator(lineup).run(1000, 42L);
+        assertEquals(1000, result.getGames());
+        long decided = result.getWins(0) + result.getWins(1) + result.getWins(2);
+        assertEquals(1000, decided + result.getAbandonedGames());
+        assertTrue(result.getTotalTurns() > 0);
+    }
+
+    @Test
+    void testSameSeedSameResultOnAnyPoolSize() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(4);
+        try {
+            BatchResult a = new BatchSimulator(lineup, single).run(600, 7L);
+            BatchResult b = new BatchSimulator(lineup, many).run(600, 7L);
+            assertEquals(a, b);
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    @Test
+    void testMaxTurnsAbandonsGames() {
+        BatchSimulator simulator = new BatchSimulator(lineup);
+        simulator.setMaxTurns(1);
+        BatchResult result = simulator.run(50, 1L);
+        assertEquals(50, result.getAbandonedGames());
+        assertEquals(0.0, result.getWinRate(0));
+    }
+
+    @Test
+    void testMergeAddsCounts() {
+        BatchResult a = new BatchSimulator(lineup).run(100, 3L);
+        BatchResult b = new BatchSimulator(lineup).run(50, 4L);
+        long turns = a.getTotalTurns() + b.getTotalTurns();
+        a.merge(b);
+        assertEquals(150, a.getGames());
+        assertEquals(turns, a.getTotalTurns());
+        assertThrows(IllegalArgumentException.class, () -> a.merge(new BatchResult(2)));
+    }
+
+    @Test
+    void testInvalidLineup() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BatchSimulator(Arrays.asList(BasicAIStrategy::new)));
+    }
+
+    @Test
+    void testRunUntilStopsEarlyAndMatchesFixedRun() {
+        BatchSimulator simulator = new BatchSimulator(lineup);
+        BatchResult early = simulator.runUntil(1_000_000, 11L, 0.02);
+        assertTrue(early.getGames() < 1_000_000);
+        for (int seat = 0; seat < 3; seat++) {
+            assertTrue(1.96 * early.getWinRateStandardError(seat) <= 0.02);
+        }
+        assertEquals(simulator.run(early.getGames(), 11L), early);
+        assertEquals(500, simulator.runUntil(500, 11L, 1e-6).getGames());
+        assertThrows(IllegalArgumentException.class, () -> simulator.runUntil(10, 11L, 0));
+    }
+
+    @Test
+    void testStatisticsAreCollectedOnRequest() {
+        BatchSimulator simulator = new BatchSimulator(lineup);
+        assertNull(simulator.run(10, 2L).getStatistics());
+        simulator.setCollectStatistics(true);
+        BatchResult result = simulator.run(600, 2L);
+        GameStatistics statistics = result.getStatistics();
+        assertEquals(600, statistics.getGames());
+        assertEquals(result.getAverageTurns(), statistics.getTurns().getMean(), 1e-9);
+        assertEquals(result.getWinRate(2), statistics.getWins(2).getMean(), 1e-9);
+    }
+}
@@ -0,0 +1,87 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import java.util.HashSet;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the projectone.CardTable registry.
+ */
+class CardTableTest {
+
+    @Test
+    void testIdsAreDenseAndUnique() {
+        Set<Card> seen = new HashSet<>();
+        for (int id = 0; id < CardTable.SIZE; id++) {
+            Card card = CardTable.byId(id);
+            assertNotNull(card);
+            assertEquals(id, card.getId());
+            assertTrue(seen.add(card), "Duplicate card type for id " + id);
+        }
+        assertEquals(54, seen.size());
+    }
+
+    @Test
+    void testGetReturnsSharedInstance() {
+        Card a = CardTable.get(Color.RED, Value.FIVE);
+        Card b = CardTable.get(Color.RED, Value.FIVE);
+        assertSame(a, b);
+        assertEquals(new NumberCard(Color.RED, Value.FIVE), a);
+        assertEquals(a.getId(), new NumberCard(Color.RED, Value.FIVE).getId());
+    }
+
+    @Test
+    void testSubclassesMatchValues() {
+        assertTrue(CardTable.get(Color.BLUE, Value.NINE) instanceof NumberCard);
+        assertTrue(CardTable.get(Color.GREEN, Value.SKIP) instanceof ActionCard);
+        assertTrue(CardTable.get(Color.WILD, Value.WILD_DRAW_FOUR) instanceof WildCard);
+    }
+
+    @Test
+    void testIdOrderMatchesNaturalOrder() {
+        for (int id = 1; id < CardTable.SIZE; id++) {
+            assertTrue(CardTable.byId(id - 1).compareTo(CardTable.byId(id)) < 0);
+        }
+    }
+
+    @Test
+    void testPlayableMaskMatchesRules() {
+        Color[] activeColors = {null, Color.RED, Color.YELLOW, Color.GREEN, Color.BLUE};
+        for (int top = 0; top < CardTable.SIZE; top++) {
+            Card topCard = CardTable.byId(top);
+            for (Color active : activeColors) {
+                long mask = CardTable.playableMask(topCard, active);
+                for (int id = 0; id < CardTable.SIZE; id++) {
+                    Card card = CardTable.byId(id);
+                    Color effectiveTop = (topCard.getColor() == Color.WILD && active != null) ? active : topCard.getColor();
+                    boolean expected = card.getColor() == Color.WILD
+                            || card.getColor() == effectiveTop
+                            || (topCard.getColor() != Color.WILD && card.getValue() == topCard.getValue());
+                    assertEquals(expected, (mask & (1L << id)) != 0, card + " on " + topCard + " / " + active);
+                    assertEquals(expected, card.canPlayOn(topCard, active));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testPlayableMaskOnEmptyPile() {
+        assertEquals(CardTable.ALL_CARDS, CardTable.playableMask(null, null));
+    }
+
+    @Test
+    void testInvalidCombinationRejected() {
+        assertThrows(IllegalArgumentException.class, () -> CardTable.get(Color.RED, Value.WILD));
+        assertThrows(IllegalArgumentException.class, () -> CardTable.get(Color.WILD, Value.ONE));
+    }
+
+    @Test
+    void testDeckUsesSharedInstances() {
+        Deck deck = new Deck(1L);
+        while (!deck.isEmpty()) {
+            Card card = deck.drawCard();
+            assertSame(CardTable.byId(card.getId()), card);
+        }
+    }
+}
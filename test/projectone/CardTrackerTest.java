@@ -0,0 +1,159 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the projectone.CardTracker unseen-card model.
+ */
+class CardTrackerTest {
+
+    private static UnoGame newGame(int players, long seed) {
+        List<PlayerStrategy> strategies = new ArrayList<>();
+        for (int i = 0; i < players; i++) strategies.add(new BasicAIStrategy());
+        return new UnoGame(strategies, Arrays.asList("A", "B", "C", "D").subList(0, players), seed, GameEventListener.NONE);
+    }
+
+    /** Counts a card type in the deck and every hand but the observer's. */
+    private static int trueUnseen(GameState state, int observer, int cardId) {
+        int count = 0;
+        for (int i = 0; i < state.getDeckCount(); i++) {
+            if (state.deckIds[i] == cardId) count++;
+        }
+        for (int seat = 0; seat < state.getPlayerCount(); seat++) {
+            if (seat != observer) count += state.getHandCount(seat, cardId);
+        }
+        return count;
+    }
+
+    /** Runs {@link #check} at the start of every turn. */
+    private static final class Checker implements GameEventListener {
+        private final CardTracker tracker;
+        int checks;
+
+        Checker(CardTracker tracker) {
+            this.tracker = tracker;
+        }
+
+        @Override
+        public void onTurnStart(UnoGame game, Player player) {
+            check(game, tracker);
+            checks++;
+        }
+    }
+
+    /** Compares the tracker's counts and void colors with the real deck and hands. */
+    private static void check(UnoGame game, CardTracker tracker) {
+        GameState state = game.snapshot();
+        int observer = tracker.getObserver();
+        int total = 0;
+        for (int id = 0; id < CardTable.SIZE; id++) {
+            int unseen = trueUnseen(state, observer, id);
+            assertEquals(unseen, tracker.getUnseenCount(CardTable.byId(id)), "Unseen " + CardTable.byId(id));
+            total += unseen;
+        }
+        assertEquals(total, tracker.getUnseenCount());
+        for (int seat = 0; seat < state.getPlayerCount(); seat++) {
+            Hand hand = game.getPlayers().get(seat).getHand();
+            for (Color color : Color.values()) {
+                if (tracker.isVoid(seat, color)) {
+                    for (Card card : hand.getCards()) {
+                        assertNotEquals(color, card.getColor(), "Seat " + seat + " marked void in " + color);
+                    }
+                    assertEquals(0.0, tracker.probabilityHolds(seat, color));
+                }
+                double p = tracker.probabilityHolds(seat, color);
+                assertTrue(p >= 0.0 && p <= 1.0);
+            }
+        }
+    }
+
+    @Test
+    void testCountsMatchTheGameThroughout() {
+        for (long seed = 0; seed < 30; seed++) {
+            UnoGame game = newGame(2 + (int) (seed % 3), seed);
+            CardTracker tracker = new CardTracker(game, (int) (seed % 2));
+            Checker checker = new Checker(tracker);
+            game.addEventListener(tracker);
+            game.addEventListener(checker);
+            game.setMaxTurns(2_000);
+            game.run();
+            assertTrue(checker.checks > 0);
+        }
+    }
+
+    @Test
+    void testReshuffleMakesPileUnseenAgain() {
+        UnoGame game = newGame(3, 31L);
+        assertTrue(game.start());
+        GameState state = game.snapshot();
+        // Bury all but two deck cards under the top card so the game soon reshuffles
+        int[] pile = new int[state.getDeckCount() - 1];
+        System.arraycopy(state.deckIds, 2, pile, 0, pile.length - 1);
+        pile[pile.length - 1] = state.pileIds[state.getPileSize() - 1];
+        state.pileIds = pile;
+        state.pileSize = pile.length;
+        state.deckCount = 2;
+        game.restore(state);
+
+        CardTracker tracker = new CardTracker(game, 2);
+        game.addEventListener(tracker);
+        check(game, tracker);
+        Move[] moves = new Move[Move.COUNT];
+        for (int i = 0; i < 40 && game.legalMoves(moves) > 0; i++) {
+            game.apply(moves[0]);
+            check(game, tracker);
+        }
+        assertTrue(game.getReshuffleCount() > 0);
+    }
+
+    @Test
+    void testProbabilityIsHypergeometric() {
+        UnoGame game = newGame(3, 12L);
+        CardTracker tracker = new CardTracker(game, 0);
+        game.addEventListener(tracker);
+        assertTrue(game.start());
+
+        int pool = tracker.getUnseenCount();
+        for (Color color : new Color[]{Color.RED, Color.BLUE, Color.WILD}) {
+            int matching = tracker.getUnseenCount(color);
+            int handSize = game.getPlayers().get(1).getHand().getSize();
+            double miss = 1.0;
+            for (int i = 0; i < handSize; i++) {
+                miss *= (double) (pool - matching - i) / (pool - i);
+            }
+            assertEquals(1.0 - miss, tracker.probabilityHolds(1, color), 1e-9);
+        }
+        assertEquals(108 - 7 - game.getPile().getSize(), pool);
+    }
+
+    @Test
+    void testObserverProbabilityIsExact() {
+        UnoGame game = newGame(2, 3L);
+        CardTracker tracker = new CardTracker(game, 0);
+        assertTrue(game.start());
+        Hand own = game.getPlayers().get(0).getHand();
+        for (Color color : Color.values()) {
+            boolean holds = own.getCards().stream().anyMatch(card -> card.getColor() == color);
+            assertEquals(holds ? 1.0 : 0.0, tracker.probabilityHolds(0, color));
+        }
+    }
+
+    @Test
+    void testAddedListenersAllReceiveEvents() {
+        UnoGame game = newGame(2, 1L);
+        int[] starts = new int[2];
+        game.addEventListener(new GameEventListener() {
+            @Override public void onGameStart(UnoGame g) { starts[0]++; }
+        });
+        game.addEventListener(new GameEventListener() {
+            @Override public void onGameStart(UnoGame g) { starts[1]++; }
+        });
+        assertTrue(game.start());
+        assertArrayEquals(new int[]{1, 1}, starts);
+        assertThrows(IllegalArgumentException.class, () -> new CardTracker(game, 2));
+    }
+}
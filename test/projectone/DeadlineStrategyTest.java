@@ -0,0 +1,110 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the projectone.DeadlineStrategy blocking adapter with decision deadlines.
+ */
+class DeadlineStrategyTest {
+    private static final List<String> NAMES = List.of("Human", "Bot");
+
+    private static UnoGame startedGame(PlayerStrategy first) {
+        UnoGame game = new UnoGame(List.of(first, new BasicAIStrategy()), NAMES, 42L, GameEventListener.NONE);
+        assertTrue(game.start());
+        return game;
+    }
+
+    @Test
+    void testAnswerInTimeIsUsed() throws Exception {
+        QueuedHumanStrategy human = new QueuedHumanStrategy();
+        DeadlineStrategy strategy = new DeadlineStrategy(human, Duration.ofSeconds(10));
+        UnoGame game = startedGame(new BasicAIStrategy());
+        CompletableFuture<Color> chosen = CompletableFuture.supplyAsync(
+                () -> strategy.chooseWildColor(game, game.getCurrentPlayer().getHand()));
+        QueuedHumanStrategy.Prompt prompt = human.pollPrompt(5, TimeUnit.SECONDS);
+        assertEquals(QueuedHumanStrategy.Prompt.Kind.COLOR, prompt.getKind());
+        human.answer(prompt, 3);
+        assertEquals(Color.BLUE, chosen.get(5, TimeUnit.SECONDS));
+        assertEquals(0, strategy.getFallbacks());
+    }
+
+    @Test
+    void testLateDecisionIsCancelledAndFallsBack() throws Exception {
+        QueuedHumanStrategy human = new QueuedHumanStrategy();
+        DeadlineStrategy strategy = new DeadlineStrategy(human, Duration.ofMillis(10));
+        UnoGame game = startedGame(new BasicAIStrategy());
+        Hand hand = game.getCurrentPlayer().getHand();
+        Color color = strategy.chooseWildColor(game, hand);
+        assertNotNull(color);
+        assertNotEquals(Color.WILD, color);
+        assertEquals(1, strategy.getTimeouts());
+        assertEquals(1, strategy.getFallbacks());
+        assertNull(human.pollPrompt(0, TimeUnit.MILLISECONDS));
+        assertThrows(IllegalStateException.class, () -> human.answer(0));
+    }
+
+    @Test
+    void testInvalidCardFallsBack() {
+        Card notPlayable = CardTable.get(Color.GREEN, Value.NINE);
+        AsyncPlayerStrategy cheat = new AsyncPlayerStrategy() {
+            @Override
+            public CompletableFuture<Card> chooseCardAsync(UnoGame game, Hand hand, List<Card> playableCards, Card topPileCard, Color activeWildColor) {
+                return CompletableFuture.completedFuture(notPlayable);
+            }
+
+            @Override
+            public CompletableFuture<Color> chooseWildColorAsync(UnoGame game, Hand hand) {
+                return CompletableFuture.failedFuture(new IllegalStateException("boom"));
+            }
+        };
+        DeadlineStrategy strategy = new DeadlineStrategy(cheat, Duration.ofSeconds(10));
+        UnoGame game = startedGame(new BasicAIStrategy());
+        Hand hand = game.getCurrentPlayer().getHand();
+        List<Card> playable = hand.getCards().subList(0, 1);
+        assertEquals(playable.get(0), strategy.chooseCard(game, hand, playable, game.getPile().getTopCard(), null));
+        assertNotEquals(Color.WILD, strategy.chooseWildColor(game, hand));
+        assertEquals(2, strategy.getFallbacks());
+        assertEquals(0, strategy.getTimeouts());
+    }
+
+    @Test
+    void testSilentHumanCannotStallTheGame() {
+        DeadlineStrategy strategy = new DeadlineStrategy(new QueuedHumanStrategy(), Duration.ofMillis(1));
+        UnoGame game = new UnoGame(List.of(strategy, new BasicAIStrategy()), NAMES, 9L, GameEventListener.NONE);
+        game.run();
+        assertTrue(game.getWinnerIndex() >= 0);
+        assertTrue(strategy.getTimeouts() > 0);
+    }
+
+    @Test
+    void testInterruptCancelsTheDecision() throws Exception {
+        QueuedHumanStrategy human = new QueuedHumanStrategy();
+        DeadlineStrategy strategy = new DeadlineStrategy(human, Duration.ofMinutes(1));
+        UnoGame game = startedGame(new BasicAIStrategy());
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try {
+                strategy.chooseWildColor(game, game.getCurrentPlayer().getHand());
+            } catch (Throwable t) {
+                thrown.set(t);
+            }
+        });
+        QueuedHumanStrategy.Prompt prompt = human.pollPrompt(5, TimeUnit.SECONDS);
+        waiter.interrupt();
+        waiter.join(5_000);
+        assertInstanceOf(CancellationException.class, thrown.get());
+        assertThrows(IllegalStateException.class, () -> human.answer(prompt, 0));
+    }
+
+    @Test
+    void testRejectsNonPositiveBudget() {
+        assertThrows(IllegalArgumentException.class, () -> new DeadlineStrategy(new QueuedHumanStrategy(), Duration.ZERO));
+    }
+}
@@ -2,7 +2,9 @@ package projectone;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.lang.management.ManagementFactory;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -115,6 +117,60 @@ class DeckTest {
          // Note: addCards doesn't reshuffle.
      }
 
+     @Test
+     void testDrawIntoHand() {
+         Deck deck = new Deck(5L);
+         Deck same = new Deck(5L);
+         Hand hand = new Hand();
+         deck.drawInto(hand, 7);
+         assertEquals(7, hand.getSize());
+         assertEquals(101, deck.cardsRemaining());
+         Hand expected = new Hand();
+         expected.addCards(same.drawCards(7));
+         assertEquals(expected.getCards(), hand.getCards());
+         assertThrows(IllegalStateException.class, () -> deck.drawInto(hand, 102));
+         assertEquals(7, hand.getSize(), "Failed draw must not change the hand");
+     }
+
+     @Test
+     void testPluggableRandomGenerator() {
+         Deck a = new Deck(new SplittableRandom(11L));
+         Deck b = new Deck(11L);
+         assertEquals(a.drawCards(108), b.drawCards(108));
+     }
+
+     @Test
+     void testDealAndForcedDrawsAllocateNothing() {
+         com.sun.management.ThreadMXBean threads =
+                 (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+         Deck deck = new Deck(3L);
+         Hand[] hands = {new Hand(), new Hand(), new Hand(), new Hand()};
+         for (int round = 0; round < 1_000; round++) { // Warm up
+             dealAndReturn(deck, hands);
+         }
+
+         long before = threads.getCurrentThreadAllocatedBytes();
+         for (int round = 0; round < 1_000; round++) {
+             dealAndReturn(deck, hands);
+         }
+         long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+         assertTrue(allocated < 1_000, "Dealing and drawing allocated " + allocated + " bytes");
+     }
+
+     /** Deals 7 cards to 4 hands plus a Draw Two and a Draw Four, then puts them all back. */
+     private static void dealAndReturn(Deck deck, Hand[] hands) {
+         for (Hand hand : hands) {
+             deck.drawInto(hand, 7);
+         }
+         deck.drawInto(hands[1], 2);
+         deck.drawInto(hands[2], 4);
+         for (Hand hand : hands) {
+             while (!hand.isEmpty()) {
+                 deck.addCard(hand.playCard(0));
+             }
+         }
+     }
+
      @Test
      void testToString() {
          Deck deck = new Deck();
@@ -0,0 +1,76 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the projectone.DuplicateMatch duplicate-deal runner.
+ */
+class DuplicateMatchTest {
+    /** Never plays a card, so it draws every turn. */
+    private static final Supplier<PlayerStrategy> ALWAYS_DRAW = () -> new PlayerStrategy() {
+        @Override
+        public Card chooseCard(UnoGame game, Hand hand, List<Card> playable, Card top, Color wildColor) {
+            return null;
+        }
+
+        @Override
+        public Color chooseWildColor(UnoGame game, Hand hand) {
+            return Color.RED;
+        }
+    };
+
+    @Test
+    void testSameStrategyOnBothSidesIsExactlyEven() {
+        DuplicateResult result = new DuplicateMatch(BasicAIStrategy::new, BasicAIStrategy::new, 2).run(200, 5L);
+        assertEquals(200, result.getDeals());
+        assertEquals(0.0, result.getMeanDifference(), 1e-12);
+        assertEquals(0.0, result.getStandardError(), 1e-12);
+    }
+
+    @Test
+    void testWeakCandidateIsSignificantlyWorse() {
+        DuplicateResult result = new DuplicateMatch(ALWAYS_DRAW, BasicAIStrategy::new, 3).run(100, 9L);
+        assertEquals(300, result.getGames());
+        double[] interval = result.getConfidenceInterval(DuplicateResult.Z_95);
+        assertTrue(interval[1] < 0, "Interval " + interval[0] + ".." + interval[1] + " should exclude zero");
+        assertTrue(result.getCandidateWinRate() < result.getBaselineWinRate());
+    }
+
+    @Test
+    void testSameSeedSameResultOnAnyPoolSize() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(4);
+        try {
+            DuplicateResult a = new DuplicateMatch(ALWAYS_DRAW, BasicAIStrategy::new, 2, single).run(300, 3L);
+            DuplicateResult b = new DuplicateMatch(ALWAYS_DRAW, BasicAIStrategy::new, 2, many).run(300, 3L);
+            assertEquals(a.getCandidateWins(), b.getCandidateWins());
+            assertEquals(a.getBaselineWins(), b.getBaselineWins());
+            assertEquals(a.getMeanDifference(), b.getMeanDifference(), 1e-12);
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    @Test
+    void testRotationsShareTheDeal() {
+        DuplicateMatch match = new DuplicateMatch(BasicAIStrategy::new, BasicAIStrategy::new, 4);
+        int[] winners = match.playDeal(new SeedTree(17L));
+        for (int winner : winners) {
+            assertEquals(winners[0], winner);
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new DuplicateMatch(BasicAIStrategy::new, BasicAIStrategy::new, 5));
+        assertThrows(NullPointerException.class, () -> new DuplicateMatch(null, BasicAIStrategy::new, 2));
+        DuplicateMatch match = new DuplicateMatch(BasicAIStrategy::new, BasicAIStrategy::new, 2);
+        assertThrows(IllegalArgumentException.class, () -> match.run(-1, 0L));
+        assertThrows(IllegalArgumentException.class, () -> match.setMaxTurns(0));
+    }
+}
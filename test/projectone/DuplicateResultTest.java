@@ -0,0 +1,57 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the projectone.DuplicateResult paired statistics.
+ */
+class DuplicateResultTest {
+    @Test
+    void testPairedDifferencePerDeal() {
+        DuplicateResult result = new DuplicateResult(3);
+        result.recordDeal(new int[] {0, 1, 2}); // candidate wins every rotation
+        result.recordDeal(new int[] {1, 2, -1}); // baseline twice, one abandoned
+        assertEquals(2, result.getDeals());
+        assertEquals(6, result.getGames());
+        assertEquals(3, result.getCandidateWins());
+        assertEquals(2, result.getBaselineWins());
+        assertEquals(1, result.getAbandonedGames());
+        assertEquals(0.5, result.getCandidateWinRate(), 1e-12);
+        assertEquals(2.0 / 12, result.getBaselineWinRate(), 1e-12);
+        // deal differences: 1 and (-1/2 - 1/2 + 0) / 3
+        assertEquals((1.0 - 1.0 / 3) / 2, result.getMeanDifference(), 1e-12);
+    }
+
+    @Test
+    void testIdenticalDealsHaveZeroVariance() {
+        DuplicateResult result = new DuplicateResult(2);
+        for (int i = 0; i < 10; i++) {
+            result.recordDeal(new int[] {i % 2, i % 2});
+        }
+        assertEquals(0.0, result.getMeanDifference(), 1e-12);
+        assertEquals(0.0, result.getStandardError(), 1e-12);
+        assertTrue(result.getIndependentStandardError() > 0);
+        assertTrue(Double.isNaN(result.getVarianceReduction()));
+    }
+
+    @Test
+    void testConfidenceIntervalAndMerge() {
+        DuplicateResult a = new DuplicateResult(2);
+        DuplicateResult b = new DuplicateResult(2);
+        DuplicateResult all = new DuplicateResult(2);
+        int[][] deals = {{0, 1}, {0, 0}, {1, 1}, {0, 1}, {1, 0}, {0, 1}};
+        for (int i = 0; i < deals.length; i++) {
+            (i < 3 ? a : b).recordDeal(deals[i]);
+            all.recordDeal(deals[i]);
+        }
+        a.merge(b);
+        assertEquals(all.getMeanDifference(), a.getMeanDifference(), 1e-12);
+        assertEquals(all.getStandardError(), a.getStandardError(), 1e-12);
+        double[] interval = a.getConfidenceInterval(DuplicateResult.Z_95);
+        assertEquals(a.getMeanDifference(), (interval[0] + interval[1]) / 2, 1e-12);
+        assertEquals(2 * DuplicateResult.Z_95 * a.getStandardError(), interval[1] - interval[0], 1e-12);
+        assertThrows(IllegalArgumentException.class, () -> a.merge(new DuplicateResult(3)));
+        assertThrows(IllegalArgumentException.class, () -> a.recordDeal(new int[] {0, 1, 2}));
+    }
+}
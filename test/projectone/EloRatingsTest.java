@@ -0,0 +1,57 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for projectone.EloRatings.
+ */
+class EloRatingsTest {
+    @Test
+    void testWinnerGainsAndLosersLose() {
+        EloRatings ratings = new EloRatings(3);
+        ratings.recordGame(new int[] {2, 0, 1}, 0);
+        assertTrue(ratings.getRating(2) > EloRatings.INITIAL_RATING);
+        assertTrue(ratings.getRating(0) < EloRatings.INITIAL_RATING);
+        assertEquals(ratings.getRating(0), ratings.getRating(1), 1e-9);
+        assertEquals(EloRatings.DEFAULT_K / 2, ratings.getRating(2) - EloRatings.INITIAL_RATING, 1e-9);
+    }
+
+    @Test
+    void testUpdatesAreZeroSum() {
+        EloRatings ratings = new EloRatings(4, 24);
+        int[][] tables = {{0, 1}, {1, 2, 3}, {3, 0, 2, 1}, {2, 3}};
+        for (int game = 0; game < 200; game++) {
+            int[] table = tables[game % tables.length];
+            ratings.recordGame(table, game % 7 == 0 ? -1 : game % table.length);
+        }
+        double sum = 0;
+        for (double rating : ratings.snapshot()) sum += rating;
+        assertEquals(4 * EloRatings.INITIAL_RATING, sum, 1e-6);
+    }
+
+    @Test
+    void testUpsetMovesRatingsMoreThanExpectedWin() {
+        EloRatings ratings = new EloRatings(3);
+        for (int i = 0; i < 20; i++) ratings.recordGame(new int[] {0, 2}, 0);
+        double strong = ratings.getRating(0);
+        ratings.recordGame(new int[] {0, 1}, 0);
+        double expectedGain = ratings.getRating(0) - strong;
+        ratings.recordGame(new int[] {0, 1}, 1);
+        double upsetLoss = ratings.getRating(0) - strong - expectedGain;
+        assertTrue(-upsetLoss > expectedGain);
+    }
+
+    @Test
+    void testExpectedScoreIsSymmetric() {
+        assertEquals(0.5, EloRatings.expectedScore(1500, 1500), 1e-12);
+        assertEquals(1.0, EloRatings.expectedScore(1700, 1500) + EloRatings.expectedScore(1500, 1700), 1e-12);
+        assertEquals(10.0 / 11.0, EloRatings.expectedScore(1900, 1500), 1e-12);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new EloRatings(1));
+        assertThrows(IllegalArgumentException.class, () -> new EloRatings(2, 0));
+    }
+}
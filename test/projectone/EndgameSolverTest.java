@@ -0,0 +1,134 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the projectone.EndgameSolver perfect-information search.
+ */
+class EndgameSolverTest {
+    private static final Card RED_THREE = CardTable.get(Color.RED, Value.THREE);
+    private static final Card RED_FIVE = CardTable.get(Color.RED, Value.FIVE);
+    private static final Card RED_NINE = CardTable.get(Color.RED, Value.NINE);
+    private static final Card RED_SKIP = CardTable.get(Color.RED, Value.SKIP);
+
+    /**
+     * Builds a position with RED THREE on the pile, seat 0 to move, the given hands,
+     * and a deck of green cards that match nothing red.
+     */
+    private static UnoGame position(Card[]... hands) {
+        UnoGame game = UnoGame.newSearchGame(hands.length);
+        GameState state = new GameState(hands.length);
+        for (int seat = 0; seat < hands.length; seat++) {
+            for (Card card : hands[seat]) {
+                state.handCounts[seat * CardTable.SIZE + card.getId()]++;
+            }
+        }
+        for (int i = 0; i < 20; i++) {
+            state.deckIds[i] = CardTable.idOf(Color.GREEN, Value.values()[1 + i % 8]);
+        }
+        state.deckCount = 20;
+        state.pileIds[0] = RED_THREE.getId();
+        state.pileSize = 1;
+        state.clockwise = true;
+        state.activeWildColor = -1;
+        state.running = true;
+        state.winnerIndex = -1;
+        game.restore(state);
+        return game;
+    }
+
+    @Test
+    void testFindsSkipThatWinsWhereFirstCardLoses() {
+        UnoGame game = position(new Card[]{RED_FIVE, RED_SKIP}, new Card[]{RED_NINE});
+        GameState before = game.snapshot();
+
+        EndgameSolver.Result result = new EndgameSolver(10).solve(game);
+        assertSame(Move.play(RED_SKIP, null), result.getBestMove());
+        assertTrue(result.isProvenWin());
+        assertEquals(before, game.snapshot(), "Solving must not change the game");
+    }
+
+    @Test
+    void testProvesLossWhenEveryMoveLoses() {
+        UnoGame game = position(new Card[]{RED_FIVE, CardTable.get(Color.BLUE, Value.ONE)}, new Card[]{RED_NINE});
+        EndgameSolver.Result result = new EndgameSolver(10).solve(game);
+        assertTrue(result.isProvenLoss());
+        assertSame(Move.play(RED_FIVE, null), result.getBestMove());
+    }
+
+    @Test
+    void testParanoidSearchWithThreePlayers() {
+        Card blueOne = CardTable.get(Color.BLUE, Value.ONE);
+        UnoGame game = position(new Card[]{RED_FIVE, RED_SKIP}, new Card[]{RED_NINE}, new Card[]{blueOne, blueOne});
+        EndgameSolver.Result result = new EndgameSolver(12).solve(game);
+        assertSame(Move.play(RED_SKIP, null), result.getBestMove());
+        assertTrue(result.isProvenWin());
+    }
+
+    @Test
+    void testParallelAndSequentialAgree() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool parallel = new ForkJoinPool(4);
+        try {
+            for (long seed = 0; seed < 5; seed++) {
+                UnoGame game = UnoGame.newSearchGame(2);
+                UnoGame dealt = new UnoGame(List.of(new BasicAIStrategy(), new BasicAIStrategy()),
+                        List.of("A", "B"), seed, GameEventListener.NONE);
+                assertTrue(dealt.start());
+                game.restore(dealt.snapshot());
+
+                EndgameSolver.Result a = new EndgameSolver(6, single, new TranspositionTable(1 << 16)).solve(game);
+                EndgameSolver.Result b = new EndgameSolver(6, parallel, new TranspositionTable(1 << 16)).solve(game);
+                assertEquals(a.getValue(), b.getValue(), "seed " + seed);
+                assertTrue(game.legalMoves().contains(b.getBestMove()));
+            }
+        } finally {
+            single.shutdown();
+            parallel.shutdown();
+        }
+    }
+
+    @Test
+    void testSharedTableKeepsDealsWithDifferentDecksApart() {
+        for (long seed = 0; seed < 20; seed++) {
+            UnoGame dealt = new UnoGame(List.of(new BasicAIStrategy(), new BasicAIStrategy()),
+                    List.of("A", "B"), seed, GameEventListener.NONE);
+            assertTrue(dealt.start());
+            GameState first = dealt.snapshot();
+            // Same hands, top card and deck size; the deck order is reversed
+            GameState second = first.copy();
+            for (int i = 0; i < second.deckCount; i++) second.deckIds[i] = first.deckIds[first.deckCount - 1 - i];
+            UnoGame a = UnoGame.newSearchGame(2);
+            a.restore(first);
+            UnoGame b = UnoGame.newSearchGame(2);
+            b.restore(second);
+            assertEquals(a.getZobristHash(), b.getZobristHash());
+
+            TranspositionTable shared = new TranspositionTable(1 << 16);
+            new EndgameSolver(8, ForkJoinPool.commonPool(), shared).solve(a);
+            EndgameSolver.Result reused = new EndgameSolver(8, ForkJoinPool.commonPool(), shared).solve(b);
+            EndgameSolver.Result fresh = new EndgameSolver(8, ForkJoinPool.commonPool(), new TranspositionTable(1 << 16)).solve(b);
+            assertEquals(fresh.getValue(), reused.getValue(), "seed " + seed);
+        }
+    }
+
+    @Test
+    void testWildMoveCarriesColor() {
+        Card wild = CardTable.get(Color.WILD, Value.WILD);
+        Card blueNine = CardTable.get(Color.BLUE, Value.NINE);
+        // Calling BLUE leaves the red-only opponent to draw a green card, and the blue nine then goes out
+        UnoGame game = position(new Card[]{wild, blueNine}, new Card[]{RED_NINE, RED_FIVE});
+        EndgameSolver.Result result = new EndgameSolver(10).solve(game);
+        assertTrue(result.isProvenWin());
+        assertSame(Move.play(wild, Color.BLUE), result.getBestMove());
+    }
+
+    @Test
+    void testInvalidDepthIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new EndgameSolver(0));
+        assertThrows(IllegalArgumentException.class, () -> new EndgameSolver(256));
+    }
+}
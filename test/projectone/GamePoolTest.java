@@ -0,0 +1,79 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the projectone.GamePool game recycler.
+ */
+class GamePoolTest {
+    private static final List<String> NAMES = List.of("A", "B", "C", "D");
+
+    private static List<PlayerStrategy> bots(int seats, long seed) {
+        List<PlayerStrategy> strategies = new ArrayList<>();
+        for (int i = 0; i < seats; i++) {
+            PlayerStrategy strategy = new BasicAIStrategy();
+            strategy.setSeed(seed + i);
+            strategies.add(strategy);
+        }
+        return strategies;
+    }
+
+    @Test
+    void testPooledGamePlaysLikeANewOne() {
+        GamePool pool = new GamePool(1);
+        for (long seed = 0; seed < 30; seed++) {
+            UnoGame fresh = new UnoGame(bots(4, seed), NAMES, seed, GameEventListener.NONE);
+            fresh.run();
+            UnoGame pooled = pool.acquire(bots(4, seed), NAMES, seed, GameEventListener.NONE);
+            pooled.run();
+            assertEquals(fresh.getWinnerIndex(), pooled.getWinnerIndex(), "Seed " + seed);
+            assertEquals(fresh.getTurnCount(), pooled.getTurnCount(), "Seed " + seed);
+            assertEquals(fresh.getReshuffleCount(), pooled.getReshuffleCount(), "Seed " + seed);
+            assertEquals(fresh.getPile().getTopCard(), pooled.getPile().getTopCard(), "Seed " + seed);
+            pool.release(pooled);
+        }
+        assertEquals(1, pool.getCreated());
+        assertEquals(29, pool.getReused());
+    }
+
+    @Test
+    void testPoolsBySizeUpToTheLimit() {
+        GamePool pool = new GamePool(2);
+        List<UnoGame> games = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            UnoGame game = pool.acquire(bots(3, i), NAMES.subList(0, 3), i, GameEventListener.NONE);
+            game.run();
+            games.add(game);
+        }
+        games.forEach(pool::release);
+        assertEquals(2, pool.getIdle(3));
+        assertEquals(0, pool.getIdle(4));
+        UnoGame two = pool.acquire(bots(2, 9), NAMES.subList(0, 2), 9, GameEventListener.NONE);
+        assertEquals(2, two.getNumberOfPlayers());
+        assertEquals(4, pool.getCreated());
+        assertEquals(0, pool.getReused());
+    }
+
+    @Test
+    void testRunningGameIsNotPooled() {
+        GamePool pool = new GamePool(4);
+        UnoGame game = pool.acquire(bots(2, 1), NAMES.subList(0, 2), 1, GameEventListener.NONE);
+        game.start();
+        pool.release(game);
+        assertEquals(0, pool.getIdle(2));
+    }
+
+    @Test
+    void testBadArgumentsLeaveTheGameInThePool() {
+        GamePool pool = new GamePool(4);
+        UnoGame game = pool.acquire(bots(2, 1), NAMES.subList(0, 2), 1, GameEventListener.NONE);
+        game.run();
+        pool.release(game);
+        assertThrows(IllegalArgumentException.class, () -> pool.acquire(bots(1, 1), NAMES.subList(0, 2), 1, GameEventListener.NONE));
+        assertEquals(1, pool.getIdle(2));
+        assertThrows(IllegalArgumentException.class, () -> new GamePool(-1));
+    }
+}
@@ -0,0 +1,148 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the projectone.GameServer virtual-thread table host.
+ */
+class GameServerTest {
+    private static final List<String> NAMES = List.of("Human", "Bot");
+
+    /** Holds every table at game start until all of them have got there. */
+    private static final class StartGate implements GameEventListener {
+        private final CountDownLatch started;
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        StartGate(int tables) {
+            this.started = new CountDownLatch(tables);
+        }
+
+        @Override
+        public void onGameStart(UnoGame game) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** Answers every prompt with the first option until the table ends. */
+    private static void playFirstOption(QueuedHumanStrategy human, GameServer.Table table) {
+        try {
+            while (table.getState() == GameServer.TableState.RUNNING) {
+                if (human.pollPrompt(20, TimeUnit.MILLISECONDS) != null) human.answer(0);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void testTenThousandConcurrentTables() throws Exception {
+        int tables = 10_000;
+        StartGate gate = new StartGate(tables);
+        List<GameServer.Table> opened = new ArrayList<>(tables);
+        try (GameServer server = new GameServer();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < tables; i++) {
+                QueuedHumanStrategy human = new QueuedHumanStrategy();
+                GameServer.Table table = server.openTable(List.of(human, new BasicAIStrategy()), NAMES, i, gate);
+                opened.add(table);
+                clients.execute(() -> playFirstOption(human, table));
+            }
+            assertTrue(gate.started.await(60, TimeUnit.SECONDS), "Every table should reach its first turn");
+            assertEquals(tables, server.getActiveTables());
+            gate.release.countDown();
+
+            for (GameServer.Table table : opened) {
+                assertTrue(table.await(Duration.ofSeconds(60)), table + " did not finish");
+                assertEquals(GameServer.TableState.FINISHED, table.getState(), () -> String.valueOf(table.getFailure()));
+            }
+            assertEquals(tables, server.getFinishedTables());
+            assertEquals(tables, server.getPeakActiveTables());
+            assertEquals(0, server.getActiveTables());
+            assertTrue(server.getOpenTables().isEmpty());
+        }
+    }
+
+    @Test
+    void testShutdownNowCancelsTablesWaitingForHumans() throws Exception {
+        GameServer server = new GameServer();
+        List<GameServer.Table> opened = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            QueuedHumanStrategy human = new QueuedHumanStrategy();
+            GameServer.Table table = server.openTable(List.of(human, new QueuedHumanStrategy()), NAMES, i);
+            opened.add(table);
+        }
+        Thread.sleep(50);
+        server.shutdownNow();
+        assertTrue(server.awaitTermination(Duration.ofSeconds(10)));
+        for (GameServer.Table table : opened) {
+            assertTrue(table.await(Duration.ofSeconds(1)));
+            assertEquals(GameServer.TableState.CANCELLED, table.getState());
+            assertEquals(-1, table.getWinnerIndex());
+        }
+        assertEquals(0, server.getActiveTables());
+    }
+
+    @Test
+    void testGracefulShutdownLetsOpenTablesFinish() throws Exception {
+        GameServer server = new GameServer();
+        List<GameServer.Table> opened = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            opened.add(server.openTable(List.of(new BasicAIStrategy(), new BasicAIStrategy()), NAMES, i));
+        }
+        server.shutdown();
+        assertThrows(IllegalStateException.class,
+                () -> server.openTable(List.of(new BasicAIStrategy(), new BasicAIStrategy()), NAMES, 0L));
+        assertTrue(server.awaitTermination(Duration.ofSeconds(30)));
+        for (GameServer.Table table : opened) {
+            assertEquals(GameServer.TableState.FINISHED, table.getState());
+        }
+        assertEquals(100, server.getFinishedTables());
+    }
+
+    @Test
+    void testFailingTableDoesNotAffectOthers() throws Exception {
+        PlayerStrategy broken = new BasicAIStrategy() {
+            @Override
+            public Card chooseCard(UnoGame game, Hand hand, List<Card> playable, Card top, Color wildColor) {
+                throw new IllegalStateException("strategy crashed");
+            }
+        };
+        try (GameServer server = new GameServer()) {
+            GameServer.Table failing = server.openTable(List.of(broken, new BasicAIStrategy()), NAMES, 1L);
+            GameServer.Table healthy = server.openTable(List.of(new BasicAIStrategy(), new BasicAIStrategy()), NAMES, 1L);
+            assertTrue(failing.await(Duration.ofSeconds(10)));
+            assertTrue(healthy.await(Duration.ofSeconds(10)));
+            assertEquals(GameServer.TableState.FAILED, failing.getState());
+            assertEquals("strategy crashed", failing.getFailure().getMessage());
+            assertEquals(GameServer.TableState.FINISHED, healthy.getState());
+            assertTrue(healthy.getWinnerIndex() >= 0);
+        }
+    }
+
+    @Test
+    void testCancelOneTable() throws Exception {
+        try (GameServer server = new GameServer()) {
+            QueuedHumanStrategy human = new QueuedHumanStrategy();
+            GameServer.Table table = server.openTable(List.of(human, new QueuedHumanStrategy()), NAMES, 5L);
+            GameServer.Table other = server.openTable(List.of(new BasicAIStrategy(), new BasicAIStrategy()), NAMES, 5L);
+            table.cancel();
+            assertTrue(table.await(Duration.ofSeconds(10)));
+            assertEquals(GameServer.TableState.CANCELLED, table.getState());
+            assertTrue(other.await(Duration.ofSeconds(10)));
+            assertEquals(GameServer.TableState.FINISHED, other.getState());
+        }
+    }
+}
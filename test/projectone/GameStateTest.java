@@ -0,0 +1,77 @@
+package projectone;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for projectone.GameState snapshots and UnoGame snapshot/restore.
+ */
+class GameStateTest {
+    private List<PlayerStrategy> strategies;
+    private List<String> names;
+
+    @BeforeEach
+    void setUp() {
+        strategies = Arrays.asList(new BasicAIStrategy(), new BasicAIStrategy(), new BasicAIStrategy());
+        names = Arrays.asList("A", "B", "C");
+    }
+
+    private UnoGame finishedGame(long seed) {
+        UnoGame game = new UnoGame(strategies, names, seed, GameEventListener.NONE);
+        game.run();
+        return game;
+    }
+
+    @Test
+    void testRestoreReproducesSnapshot() {
+        UnoGame played = finishedGame(21L);
+        GameState state = played.snapshot();
+
+        UnoGame fresh = new UnoGame(strategies, names, 99L, GameEventListener.NONE);
+        fresh.restore(state);
+
+        assertEquals(state, fresh.snapshot());
+        assertEquals(played.getPile().getTopCard(), fresh.getPile().getTopCard());
+        assertEquals(played.getWinnerIndex(), fresh.getWinnerIndex());
+        for (int seat = 0; seat < 3; seat++) {
+            assertEquals(played.getPlayers().get(seat).getHand().getCards(),
+                         fresh.getPlayers().get(seat).getHand().getCards());
+            assertEquals(played.getPlayers().get(seat).getHand().getSize(), state.getHandSize(seat));
+        }
+    }
+
+    @Test
+    void testSnapshotAccountsForEveryCard() {
+        GameState state = finishedGame(5L).snapshot();
+        int total = state.getDeckCount() + state.getPileSize();
+        for (int seat = 0; seat < state.getPlayerCount(); seat++) {
+            total += state.getHandSize(seat);
+        }
+        assertEquals(Deck.STANDARD_SIZE, total);
+    }
+
+    @Test
+    void testCopyIsIndependent() {
+        UnoGame game = finishedGame(8L);
+        GameState original = game.snapshot();
+        GameState copy = original.copy();
+        assertEquals(original, copy);
+
+        game.getPlayers().get(0).getHand().addCard(CardTable.byId(0));
+        game.snapshotInto(original);
+        assertNotEquals(original, copy);
+        assertEquals(copy.getHandSize(0) + 1, original.getHandSize(0));
+    }
+
+    @Test
+    void testPlayerCountMustMatch() {
+        GameState twoPlayers = new GameState(2);
+        UnoGame game = new UnoGame(strategies, names, 1L, GameEventListener.NONE);
+        assertThrows(IllegalArgumentException.class, () -> game.restore(twoPlayers));
+        assertThrows(IllegalArgumentException.class, () -> game.snapshotInto(twoPlayers));
+        assertThrows(IllegalArgumentException.class, () -> new GameState(1));
+    }
+}
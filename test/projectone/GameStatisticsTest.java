@@ -0,0 +1,61 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the projectone.GameStatistics event aggregator.
+ */
+class GameStatisticsTest {
+    private final List<Supplier<PlayerStrategy>> lineup = Arrays.asList(BasicAIStrategy::new, BasicAIStrategy::new);
+    private final List<String> names = Arrays.asList("A", "B");
+
+    @Test
+    void testFollowsGamesFromEvents() {
+        GameStatistics statistics = new GameStatistics(2);
+        SeedTree seeds = new SeedTree(5L);
+        long turns = 0;
+        long reshuffles = 0;
+        int[] wins = new int[2];
+        for (int i = 0; i < 50; i++) {
+            UnoGame game = BatchSimulator.playSeededGame(lineup, names, seeds.child(i), 10_000, statistics);
+            turns += game.getTurnCount();
+            reshuffles += game.getReshuffleCount();
+            if (game.getWinnerIndex() >= 0) wins[game.getWinnerIndex()]++;
+        }
+        assertEquals(50, statistics.getGames());
+        assertEquals(turns / 50.0, statistics.getTurns().getMean(), 1e-9);
+        assertEquals(reshuffles / 50.0, statistics.getReshuffles().getMean(), 1e-9);
+        assertEquals(wins[0] / 50.0, statistics.getWins(0).getMean(), 1e-9);
+        assertEquals(50, statistics.getTurnsHistogram().getCount());
+        for (int seat = 0; seat < 2; seat++) {
+            assertTrue(statistics.getCardsDrawn(seat).getMean() > 0);
+            assertTrue(statistics.getTurnNanos(seat).getCount() > 0);
+            assertEquals(statistics.getTurnNanos(seat).getCount(), statistics.getTurnNanosHistogram(seat).getCount());
+        }
+    }
+
+    @Test
+    void testMergeAddsGames() {
+        GameStatistics a = new GameStatistics(2);
+        GameStatistics b = new GameStatistics(2);
+        SeedTree seeds = new SeedTree(9L);
+        for (int i = 0; i < 10; i++) {
+            BatchSimulator.playSeededGame(lineup, names, seeds.child(i), 10_000, i < 4 ? a : b);
+        }
+        a.merge(b);
+        assertEquals(10, a.getGames());
+        assertEquals(10, a.getWins(1).getCount());
+        assertThrows(IllegalArgumentException.class, () -> a.merge(new GameStatistics(3)));
+    }
+
+    @Test
+    void testRejectsOtherTableSize() {
+        GameStatistics statistics = new GameStatistics(3);
+        assertThrows(IllegalArgumentException.class,
+                () -> BatchSimulator.playSeededGame(lineup, names, new SeedTree(1L), 10_000, statistics));
+    }
+}
@@ -2,6 +2,7 @@ package projectone;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.lang.management.ManagementFactory;
 import java.util.Arrays;
 import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
@@ -156,6 +157,36 @@ class HandTest {
         assertTrue(valid.isEmpty());
     }
 
+    @Test
+    void testDuplicatesCountedAndContained() {
+        hand.addCards(Arrays.asList(redTwo, new NumberCard(Color.RED, Value.TWO), wild));
+        assertEquals(3, hand.getSize());
+        assertEquals(2, hand.count(redTwo));
+        assertTrue(hand.contains(redTwo));
+        assertEquals(Arrays.asList(wild, redTwo, redTwo), hand.getCards());
+
+        assertTrue(hand.removeCard(redTwo));
+        assertEquals(1, hand.count(redTwo));
+        assertTrue(hand.contains(redTwo)); // One copy left
+        assertTrue(hand.removeCard(redTwo));
+        assertFalse(hand.contains(redTwo));
+        assertEquals(1L << wild.getId(), hand.getCardMask());
+    }
+
+    @Test
+    void testFindValidCardsListsEachCopy() {
+        hand.addCards(Arrays.asList(blueTwo, blueTwo, redFour));
+        List<Card> valid = hand.findValidCards(blueSkip, null);
+        assertEquals(Arrays.asList(blueTwo, blueTwo), valid);
+    }
+
+    @Test
+    void testPlayableMask() {
+        hand.addCards(Arrays.asList(redTwo, blueTwo, wild, yellowSkip));
+        long expected = (1L << blueTwo.getId()) | (1L << wild.getId()) | (1L << yellowSkip.getId());
+        assertEquals(expected, hand.getPlayableMask(blueSkip, null));
+    }
+
     @Test
     void testGetCardsIsUnmodifiable() {
         hand.addCard(redTwo);
@@ -165,6 +196,30 @@ class HandTest {
         assertThrows(UnsupportedOperationException.class, () -> cardsView.clear());
     }
 
+    @Test
+    void testSortingAllocatesNothing() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int id = CardTable.SIZE - 1; id >= CardTable.SIZE - 20; id--) {
+            hand.addCard(CardTable.byId(id)); // Reverse order so every add sorts
+        }
+        Card extra = CardTable.byId(0);
+        for (int i = 0; i < 10_000; i++) { // Warm up
+            hand.addCard(extra);
+            hand.playCard(extra);
+        }
+
+        int iterations = 10_000;
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            hand.addCard(extra);
+            hand.playCard(extra);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        // Allow a few bytes of one-off JIT/deoptimization noise, but nothing per operation
+        assertTrue(allocated < iterations, "Adding and sorting cards allocated " + allocated + " bytes");
+    }
+
      @Test
     void testToString() {
         hand.addCards(Arrays.asList(wild, blueTwo, redTwo));
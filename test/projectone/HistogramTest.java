@@ -0,0 +1,55 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the projectone.Histogram fixed-memory distribution.
+ */
+class HistogramTest {
+    @Test
+    void testSmallValuesAreExact() {
+        Histogram histogram = new Histogram();
+        for (int v = 1; v <= 10; v++) histogram.record(v);
+        assertEquals(10, histogram.getCount());
+        assertEquals(5, histogram.getValueAtQuantile(0.5));
+        assertEquals(9, histogram.getValueAtQuantile(0.9));
+        assertEquals(10, histogram.getValueAtQuantile(1.0));
+        assertEquals(1, histogram.getValueAtQuantile(0.0));
+    }
+
+    @Test
+    void testBucketsCoverEveryValueWithinRelativeError() {
+        long[] values = {16, 17, 31, 32, 33, 1000, 123_456_789L, Long.MAX_VALUE};
+        for (long v : values) {
+            int bucket = Histogram.bucketOf(v);
+            long upper = Histogram.bucketUpperBound(bucket);
+            assertTrue(upper >= v, "Bucket of " + v + " ends at " + upper);
+            assertTrue(upper - v <= v / 16, "Bucket of " + v + " is too wide: " + upper);
+            assertTrue(bucket == 0 || Histogram.bucketUpperBound(bucket - 1) < v);
+        }
+    }
+
+    @Test
+    void testLargeQuantilesWithinRelativeError() {
+        Histogram histogram = new Histogram();
+        for (long v = 1; v <= 100_000; v++) histogram.record(v * 1000);
+        long median = histogram.getValueAtQuantile(0.5);
+        assertTrue(Math.abs(median - 50_000_000L) <= 50_000_000L / 16, "Median " + median);
+        assertEquals(100_000_000L, histogram.getValueAtQuantile(1.0));
+    }
+
+    @Test
+    void testMergeAndInvalidInput() {
+        Histogram a = new Histogram();
+        Histogram b = new Histogram();
+        a.record(3);
+        b.record(300);
+        a.merge(b);
+        assertEquals(2, a.getCount());
+        assertEquals(300, a.getMax());
+        assertThrows(IllegalArgumentException.class, () -> a.record(-1));
+        assertThrows(IllegalArgumentException.class, () -> a.getValueAtQuantile(1.5));
+        assertEquals(0, new Histogram().getValueAtQuantile(0.5));
+    }
+}
@@ -0,0 +1,126 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the projectone.IsmctsStrategy search player.
+ */
+class IsmctsStrategyTest {
+
+    private static UnoGame startedGame(long seed, PlayerStrategy... strategies) {
+        List<String> names = Arrays.asList("A", "B", "C", "D").subList(0, strategies.length);
+        UnoGame game = new UnoGame(Arrays.asList(strategies), names, seed, GameEventListener.NONE);
+        assertTrue(game.start());
+        return game;
+    }
+
+    private static void assertLegal(UnoGame game, Move move) {
+        assertTrue(game.legalMoves().contains(move), move + " is not legal");
+    }
+
+    @Test
+    void testDeterminizeKeepsWhatTheViewerKnows() {
+        UnoGame game = startedGame(6L, new BasicAIStrategy(), new BasicAIStrategy(), new BasicAIStrategy());
+        GameState root = game.snapshot();
+        GameState sample = new GameState(3);
+        int[] unseen = new int[Deck.STANDARD_SIZE];
+        SplittableRandom random = new SplittableRandom(1L);
+
+        IsmctsStrategy.determinize(root, 1, random, sample, unseen);
+        assertEquals(root.getDeckCount(), sample.getDeckCount());
+        assertEquals(root.getTopCard(), sample.getTopCard());
+        for (int id = 0; id < CardTable.SIZE; id++) {
+            assertEquals(root.getHandCount(1, id), sample.getHandCount(1, id));
+            int total = 0;
+            int sampledTotal = 0;
+            for (int seat = 0; seat < 3; seat++) {
+                total += root.getHandCount(seat, id);
+                sampledTotal += sample.getHandCount(seat, id);
+            }
+            for (int i = 0; i < root.getDeckCount(); i++) {
+                if (root.deckIds[i] == id) total++;
+                if (sample.deckIds[i] == id) sampledTotal++;
+            }
+            assertEquals(total, sampledTotal, "Copies of card " + CardTable.byId(id));
+        }
+        for (int seat = 0; seat < 3; seat++) {
+            assertEquals(root.getHandSize(seat), sample.getHandSize(seat));
+        }
+        assertNotEquals(root, sample);
+    }
+
+    @Test
+    void testSearchReturnsLegalMove() {
+        IsmctsStrategy strategy = new IsmctsStrategy(200, 0, 1);
+        strategy.setSeed(3L);
+        for (long seed = 0; seed < 5; seed++) {
+            UnoGame game = startedGame(seed, strategy, new BasicAIStrategy());
+            assertLegal(game, strategy.search(game));
+        }
+    }
+
+    @Test
+    void testSeededSingleThreadSearchIsReproducible() {
+        IsmctsStrategy a = new IsmctsStrategy(300, 0, 1);
+        IsmctsStrategy b = new IsmctsStrategy(300, 0, 1);
+        a.setSeed(11L);
+        b.setSeed(11L);
+        assertSame(a.search(startedGame(2L, a, new BasicAIStrategy())),
+                   b.search(startedGame(2L, b, new BasicAIStrategy())));
+    }
+
+    @Test
+    void testParallelSearchWithTimeBudget() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            IsmctsStrategy strategy = new IsmctsStrategy(0, 50, 4, pool);
+            UnoGame game = startedGame(8L, strategy, new BasicAIStrategy(), new BasicAIStrategy());
+            long start = System.nanoTime();
+            Move move = strategy.search(game);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+            assertLegal(game, move);
+            assertTrue(elapsedMillis < 2_000, "Search took " + elapsedMillis + " ms");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testWildColorComesFromSearch() {
+        IsmctsStrategy strategy = new IsmctsStrategy(100, 0, 1);
+        strategy.setSeed(1L);
+        UnoGame game = startedGame(4L, strategy, new BasicAIStrategy());
+        GameState state = game.snapshot();
+        int seat = state.getCurrentPlayerIndex();
+        Arrays.fill(state.handCounts, seat * CardTable.SIZE, (seat + 1) * CardTable.SIZE, 0);
+        state.handCounts[seat * CardTable.SIZE + CardTable.idOf(Color.WILD, Value.WILD)] = 2;
+        game.restore(state);
+
+        Hand hand = game.getCurrentPlayer().getHand();
+        Card choice = strategy.chooseCard(game, hand, hand.findValidCards(game.getPile().getTopCard(), game.getActiveWildColor()),
+                game.getPile().getTopCard(), game.getActiveWildColor());
+        assertEquals(Value.WILD, choice.getValue());
+        Color color = strategy.chooseWildColor(game, hand);
+        assertNotEquals(Color.WILD, color);
+        assertNotNull(color);
+    }
+
+    @Test
+    void testBeatsBasicStrategy() {
+        BatchSimulator simulator = new BatchSimulator(List.of(() -> new IsmctsStrategy(200, 0, 1), BasicAIStrategy::new));
+        BatchResult result = simulator.run(60, 2024L);
+        assertTrue(result.getWins(0) > result.getWins(1), "Search won " + result.getWins(0) + " of " + result.getGames());
+    }
+
+    @Test
+    void testBudgetsAreValidated() {
+        assertThrows(IllegalArgumentException.class, () -> new IsmctsStrategy(0, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new IsmctsStrategy(-1, 10, 1));
+        assertThrows(IllegalArgumentException.class, () -> new IsmctsStrategy(10, 0, 0));
+    }
+}
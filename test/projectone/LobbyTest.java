@@ -0,0 +1,183 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the projectone.Lobby matchmaker.
+ */
+class LobbyTest {
+
+    @Test
+    void testFullTablesStartAtOnce() throws Exception {
+        Lobby lobby = new Lobby(Runnable::run, 4, 1);
+        List<CompletableFuture<Lobby.Outcome>> outcomes = new ArrayList<>();
+        for (int i = 0; i < 8; i++) outcomes.add(lobby.join("P" + i, 1500, new BasicAIStrategy()));
+        assertEquals(0, lobby.getQueued());
+        assertEquals(2, lobby.getTablesFinished());
+        for (int table = 0; table < 2; table++) {
+            int winners = 0;
+            for (int seat = 0; seat < 4; seat++) {
+                Lobby.Outcome outcome = outcomes.get(4 * table + seat).get(0, TimeUnit.SECONDS);
+                assertEquals(seat, outcome.getSeat());
+                if (outcome.isWinner()) winners++;
+            }
+            assertEquals(1, winners);
+        }
+        assertEquals(8, lobby.getQueueWaitMicros().getCount());
+        assertEquals(1, lobby.getPool().getCreated());
+        assertEquals(1, lobby.getPool().getReused());
+    }
+
+    @Test
+    void testEachTableReportsToItsOwnListener() {
+        Lobby lobby = new Lobby(Runnable::run, 2, 1);
+        List<Long> finished = new ArrayList<>();
+        lobby.setListenerFactory(table -> new GameEventListener() {
+            @Override
+            public void onGameOver(UnoGame game) {
+                finished.add(table);
+            }
+        });
+        for (int i = 0; i < 6; i++) lobby.join("P" + i, 1500, new BasicAIStrategy());
+        assertEquals(List.of(0L, 1L, 2L), finished);
+        assertThrows(NullPointerException.class, () -> lobby.setListenerFactory(null));
+    }
+
+    @Test
+    void testTablesAreMatchedByRating() throws Exception {
+        Lobby lobby = new Lobby(Runnable::run, 2, 1);
+        lobby.setRatingWindow(100, 0);
+        CompletableFuture<Lobby.Outcome> low = lobby.join("Low", 1000, new BasicAIStrategy());
+        CompletableFuture<Lobby.Outcome> high = lobby.join("High", 2000, new BasicAIStrategy());
+        assertEquals(2, lobby.getQueued());
+        assertEquals(0, lobby.rematch());
+        CompletableFuture<Lobby.Outcome> near = lobby.join("Near", 1950, new BasicAIStrategy());
+        assertTrue(high.isDone());
+        assertTrue(near.isDone());
+        assertFalse(low.isDone());
+        String winner = high.get().getWinnerName();
+        assertTrue(winner.equals("High") || winner.equals("Near"), winner);
+        assertEquals(1, lobby.getQueued());
+    }
+
+    @Test
+    void testWindowWidensWithTheWait() throws Exception {
+        Lobby lobby = new Lobby(Runnable::run, 2, 1);
+        lobby.setRatingWindow(0, 1e6);
+        CompletableFuture<Lobby.Outcome> low = lobby.join("Low", 1000, new BasicAIStrategy());
+        CompletableFuture<Lobby.Outcome> high = lobby.join("High", 2000, new BasicAIStrategy());
+        Thread.sleep(5);
+        assertEquals(1, lobby.rematch());
+        assertEquals(0, low.get().getSeat());
+        assertEquals(1, high.get().getSeat());
+        assertTrue(high.get().getQueueWait().toNanos() > 0);
+    }
+
+    @Test
+    void testCancelledEntrantLeavesTheQueue() {
+        Lobby lobby = new Lobby(Runnable::run, 3, 1);
+        CompletableFuture<Lobby.Outcome> first = lobby.join("A", 1500, new BasicAIStrategy());
+        lobby.join("B", 1500, new BasicAIStrategy());
+        assertTrue(first.cancel(false));
+        assertEquals(1, lobby.getQueued());
+        lobby.join("C", 1500, new BasicAIStrategy());
+        assertEquals(2, lobby.getQueued());
+    }
+
+    @Test
+    void testRejectedTableFailsItsEntrants() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        Lobby lobby = new Lobby(executor, 2, 1);
+        CompletableFuture<Lobby.Outcome> a = lobby.join("A", 1500, new BasicAIStrategy());
+        CompletableFuture<Lobby.Outcome> b = lobby.join("B", 1500, new BasicAIStrategy());
+        assertTrue(a.isCompletedExceptionally());
+        assertTrue(b.isCompletedExceptionally());
+        assertEquals(1, lobby.getTablesStarted());
+        assertEquals(1, lobby.getTablesFailed());
+        assertEquals(0, lobby.getTablesFinished());
+    }
+
+    @Test
+    void testTableWhoseGameThrowsIsCountedAsFailed() {
+        PlayerStrategy broken = new BasicAIStrategy() {
+            @Override
+            public Card chooseCard(UnoGame game, Hand hand, List<Card> playableCards, Card topPileCard, Color activeWildColor) {
+                throw new IllegalStateException("boom");
+            }
+        };
+        Lobby lobby = new Lobby(Runnable::run, 2, 1);
+        CompletableFuture<Lobby.Outcome> a = lobby.join("A", 1500, broken);
+        lobby.join("B", 1500, new BasicAIStrategy());
+        assertTrue(a.isCompletedExceptionally());
+        assertEquals(1, lobby.getTablesFailed());
+        assertEquals(lobby.getTablesStarted(), lobby.getTablesFinished() + lobby.getTablesFailed());
+    }
+
+    @Test
+    void testSyntheticLoad() throws Exception {
+        int producers = 4;
+        int perProducer = 10_000;
+        ExecutorService games = Executors.newFixedThreadPool(4);
+        try {
+            Lobby lobby = new Lobby(games, 4, 42);
+            lobby.setMaxTurns(2_000);
+            List<List<CompletableFuture<Lobby.Outcome>>> outcomes = new ArrayList<>();
+            Thread[] joiners = new Thread[producers];
+            for (int p = 0; p < producers; p++) {
+                List<CompletableFuture<Lobby.Outcome>> mine = new ArrayList<>();
+                outcomes.add(mine);
+                int producer = p;
+                joiners[p] = new Thread(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        mine.add(lobby.join("Bot " + producer + "-" + i, 1400 + (i * 37 + producer) % 200, new BasicAIStrategy()));
+                    }
+                });
+                joiners[p].start();
+            }
+            for (Thread joiner : joiners) joiner.join();
+            assertEquals(producers * perProducer, lobby.getJoins());
+            lobby.rematch();
+            assertTrue(lobby.getQueued() < 4, "Queued " + lobby.getQueued());
+            long seated = producers * perProducer - lobby.getQueued();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+            while (lobby.getTablesFinished() < lobby.getTablesStarted() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            long completed = 0;
+            for (List<CompletableFuture<Lobby.Outcome>> mine : outcomes) {
+                for (CompletableFuture<Lobby.Outcome> outcome : mine) {
+                    if (outcome.isDone()) {
+                        assertTrue(outcome.get().getTurns() > 0);
+                        completed++;
+                    }
+                }
+            }
+            assertEquals(seated, completed);
+            assertEquals(seated / 4, lobby.getTablesFinished());
+            assertEquals(seated, lobby.getQueueWaitMicros().getCount());
+            assertTrue(lobby.getPool().getReused() > lobby.getPool().getCreated(), lobby.getPool().toString());
+        } finally {
+            games.shutdownNow();
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new Lobby(Runnable::run, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Lobby(Runnable::run, 5, 0));
+        assertThrows(NullPointerException.class, () -> new Lobby(null, 2, 0));
+        Lobby lobby = new Lobby(Runnable::run, 2, 0);
+        assertThrows(IllegalArgumentException.class, () -> lobby.setRatingWindow(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> lobby.setMaxTurns(0));
+        assertThrows(IllegalArgumentException.class, () -> lobby.join("A", Double.NaN, new BasicAIStrategy()));
+        assertThrows(NullPointerException.class, () -> lobby.join(null, 1500, new BasicAIStrategy()));
+    }
+}
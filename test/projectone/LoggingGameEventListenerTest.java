@@ -0,0 +1,106 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.LegacyAbstractLogger;
+import org.slf4j.helpers.MessageFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the projectone.LoggingGameEventListener SLF4J categories.
+ */
+class LoggingGameEventListenerTest {
+    /** Keeps every message at or above a threshold, and counts level checks below it. */
+    private static final class RecordingLogger extends LegacyAbstractLogger {
+        private final Level threshold;
+        final List<String> messages = new ArrayList<>();
+        final List<Level> levels = new ArrayList<>();
+
+        RecordingLogger(String name, Level threshold) {
+            this.name = name;
+            this.threshold = threshold;
+        }
+
+        private boolean enabled(Level level) {
+            return level.toInt() >= threshold.toInt();
+        }
+
+        @Override public boolean isTraceEnabled() { return enabled(Level.TRACE); }
+        @Override public boolean isDebugEnabled() { return enabled(Level.DEBUG); }
+        @Override public boolean isInfoEnabled() { return enabled(Level.INFO); }
+        @Override public boolean isWarnEnabled() { return enabled(Level.WARN); }
+        @Override public boolean isErrorEnabled() { return enabled(Level.ERROR); }
+
+        @Override
+        protected String getFullyQualifiedCallerName() {
+            return null;
+        }
+
+        @Override
+        protected void handleNormalizedLoggingCall(Level level, Marker marker, String pattern, Object[] arguments, Throwable throwable) {
+            levels.add(level);
+            messages.add(MessageFormatter.basicArrayFormat(pattern, arguments));
+        }
+    }
+
+    private final List<Supplier<PlayerStrategy>> lineup = Arrays.asList(BasicAIStrategy::new, BasicAIStrategy::new);
+    private final List<String> names = Arrays.asList("Ann", "Bob");
+
+    private static RecordingLogger[] loggers(Level threshold) {
+        return new RecordingLogger[] {
+            new RecordingLogger("projectone.setup", threshold), new RecordingLogger("projectone.turn", threshold),
+            new RecordingLogger("projectone.effect", threshold), new RecordingLogger("projectone.reshuffle", threshold)
+        };
+    }
+
+    private UnoGame play(RecordingLogger[] loggers, long seed, int maxTurns) {
+        GameEventListener listener = new LoggingGameEventListener(loggers[0], loggers[1], loggers[2], loggers[3]);
+        return BatchSimulator.playSeededGame(lineup, names, new SeedTree(seed), maxTurns, listener);
+    }
+
+    @Test
+    void testEventsGoToTheirCategories() {
+        RecordingLogger[] loggers = loggers(Level.TRACE);
+        UnoGame game = play(loggers, 3L, 10_000);
+        RecordingLogger setup = loggers[0];
+        RecordingLogger turn = loggers[1];
+
+        assertTrue(setup.messages.get(0).startsWith("Dealt 7 cards to each of 2 players"));
+        String winner = game.getPlayers().get(game.getWinnerIndex()).getName();
+        assertTrue(setup.messages.contains(winner + " wins"));
+        assertTrue(turn.messages.stream().anyMatch(m -> m.matches("(Ann|Bob) plays .*")));
+        assertTrue(turn.messages.stream().anyMatch(m -> m.contains(", hand projectone.Hand: [")), "Hands are logged at TRACE");
+        assertTrue(turn.levels.contains(Level.TRACE));
+        assertTrue(loggers[2].messages.stream().allMatch(m -> m.matches(".*(draws|chooses|Direction).*")));
+    }
+
+    @Test
+    void testWarnLevelOnlyLogsAbandonedGames() {
+        RecordingLogger[] loggers = loggers(Level.WARN);
+        play(loggers, 3L, 4);
+        assertEquals(List.of("Game abandoned without a winner after 4 turns"), loggers[0].messages);
+        assertEquals(List.of(Level.WARN), loggers[0].levels);
+        for (int i = 1; i < loggers.length; i++) {
+            assertTrue(loggers[i].messages.isEmpty(), loggers[i].getName() + " logged below WARN");
+        }
+    }
+
+    @Test
+    void testErrorsAreLogged() {
+        RecordingLogger[] loggers = loggers(Level.ERROR);
+        new LoggingGameEventListener(loggers[0], loggers[1], loggers[2], loggers[3]).onError("deck empty");
+        assertEquals(List.of("Game cannot continue: deck empty"), loggers[0].messages);
+        assertEquals(List.of(Level.ERROR), loggers[0].levels);
+    }
+
+    @Test
+    void testDefaultLoggersWorkWithoutABinding() {
+        UnoGame game = BatchSimulator.playSeededGame(lineup, names, new SeedTree(8L), 10_000, new LoggingGameEventListener());
+        assertFalse(game.isGameRunning());
+    }
+}
@@ -0,0 +1,227 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for projectone.Move and the UnoGame apply/undo move engine.
+ */
+class MoveTest {
+
+    private static UnoGame startedGame(int players, long seed) {
+        List<PlayerStrategy> strategies = Arrays.asList(new PlayerStrategy[players]);
+        strategies.replaceAll(s -> new BasicAIStrategy());
+        List<String> names = Arrays.asList("A", "B", "C", "D").subList(0, players);
+        UnoGame game = new UnoGame(strategies, names, seed, GameEventListener.NONE);
+        assertTrue(game.start());
+        return game;
+    }
+
+    /** Plays random legal moves until the game ends or the depth is reached; returns the depth. */
+    private static int playRandomLine(UnoGame game, SplittableRandom random, Move[] moves, int maxDepth) {
+        int depth = 0;
+        while (depth < maxDepth) {
+            int n = game.legalMoves(moves);
+            if (n == 0) break;
+            game.apply(moves[random.nextInt(n)]);
+            depth++;
+        }
+        return depth;
+    }
+
+    @Test
+    void testMoveIndicesAreDenseAndUnique() {
+        Set<Integer> indices = new HashSet<>();
+        for (int i = 0; i < Move.COUNT; i++) {
+            Move move = Move.byIndex(i);
+            assertEquals(i, move.getIndex());
+            assertTrue(indices.add(move.getIndex()));
+        }
+        assertSame(Move.DRAW, Move.byIndex(Move.DRAW.getIndex()));
+        assertSame(Move.play(CardTable.get(Color.RED, Value.FIVE), Color.BLUE),
+                   Move.play(CardTable.get(Color.RED, Value.FIVE), null));
+        Move wild = Move.play(CardTable.get(Color.WILD, Value.WILD), Color.GREEN);
+        assertEquals(Color.GREEN, wild.getWildColor());
+        assertThrows(IllegalArgumentException.class,
+                () -> Move.play(CardTable.get(Color.WILD, Value.WILD_DRAW_FOUR), null));
+    }
+
+    @Test
+    void testLegalMovesMatchPlayableCards() {
+        UnoGame game = startedGame(3, 4L);
+        Hand hand = game.getCurrentPlayer().getHand();
+        List<Card> valid = hand.findValidCards(game.getPile().getTopCard(), game.getActiveWildColor());
+        List<Move> moves = game.legalMoves();
+        if (valid.isEmpty()) {
+            assertEquals(List.of(Move.DRAW), moves);
+        } else {
+            for (Move move : moves) {
+                assertEquals(Move.Type.PLAY, move.getType());
+                assertTrue(valid.contains(move.getCard()));
+            }
+        }
+    }
+
+    @Test
+    void testUndoRestoresEveryState() {
+        Move[] moves = new Move[Move.COUNT];
+        for (long seed = 0; seed < 20; seed++) {
+            UnoGame game = startedGame(2 + (int) (seed % 3), seed);
+            SplittableRandom random = new SplittableRandom(seed);
+            GameState before = game.snapshot();
+            int depth = playRandomLine(game, random, moves, 400);
+            assertEquals(depth, game.getUndoDepth());
+            for (int i = 0; i < depth; i++) {
+                game.undo();
+            }
+            assertEquals(before, game.snapshot(), "seed " + seed);
+            assertThrows(IllegalStateException.class, game::undo);
+        }
+    }
+
+    @Test
+    void testUndoRestoresReshuffledPile() {
+        UnoGame game = startedGame(3, 31L);
+        GameState state = game.snapshot();
+        // Bury all but one deck card under the pile's top card so the next draws reshuffle
+        int top = state.pileIds[state.pileSize - 1];
+        int[] pile = new int[state.deckCount];
+        System.arraycopy(state.deckIds, 1, pile, 0, state.deckCount - 1);
+        pile[state.deckCount - 1] = top;
+        state.pileIds = pile;
+        state.pileSize = pile.length;
+        state.deckCount = 1;
+        game.restore(state);
+
+        Move[] moves = new Move[Move.COUNT];
+        SplittableRandom random = new SplittableRandom(5L);
+        int reshuffledLines = 0;
+        for (int line = 0; line < 50; line++) {
+            int depth = playRandomLine(game, random, moves, 40);
+            if (game.getReshuffleCount() > 0) reshuffledLines++;
+            for (int d = 0; d < depth; d++) game.undo();
+            assertEquals(state, game.snapshot(), "line " + line);
+        }
+        assertTrue(reshuffledLines > 0, "No line reshuffled the pile");
+    }
+
+    @Test
+    void testUndoRestoresIntermediateStates() {
+        UnoGame game = startedGame(4, 77L);
+        SplittableRandom random = new SplittableRandom(1L);
+        Move[] moves = new Move[Move.COUNT];
+        GameState[] states = new GameState[60];
+        int depth = 0;
+        while (depth < states.length) {
+            states[depth] = game.snapshot();
+            int n = game.legalMoves(moves);
+            if (n == 0) break;
+            game.apply(moves[random.nextInt(n)]);
+            depth++;
+        }
+        for (int i = depth - 1; i >= 0; i--) {
+            game.undo();
+            assertEquals(states[i], game.snapshot(), "depth " + i);
+        }
+    }
+
+    /** Turns the events of a game played with run() back into the moves that made it. */
+    private static final class MoveRecorder implements GameEventListener {
+        final List<Move> moves = new ArrayList<>();
+        private Card pendingWild;
+
+        @Override
+        public void onCardDrawn(Player player, Card card) {
+            moves.add(Move.DRAW);
+        }
+
+        @Override
+        public void onCardPlayed(Player player, Card card) {
+            if (card.getColor() == Color.WILD) pendingWild = card; // completed by the color choice
+            else moves.add(Move.play(card, null));
+        }
+
+        @Override
+        public void onWildColorChosen(Player player, Color color) {
+            if (pendingWild == null) return; // a wild starting card, chosen before any move
+            moves.add(Move.play(pendingWild, color));
+            pendingWild = null;
+        }
+
+        @Override
+        public void onTurnPassed(Player player) {
+            // apply(DRAW) passes by itself when the drawn card cannot be played
+            if (moves.isEmpty() || moves.get(moves.size() - 1) != Move.DRAW) moves.add(Move.PASS);
+        }
+    }
+
+    @Test
+    void testApplyReplaysRunWithTheSameTurnCount() {
+        for (long seed = 0; seed < 30; seed++) {
+            int players = 2 + (int) (seed % 3);
+            List<String> names = Arrays.asList("A", "B", "C", "D").subList(0, players);
+            List<PlayerStrategy> strategies = Arrays.asList(new PlayerStrategy[players]);
+            strategies.replaceAll(s -> new BasicAIStrategy());
+            MoveRecorder recorder = new MoveRecorder();
+            UnoGame played = new UnoGame(strategies, names, seed, recorder);
+            played.run();
+
+            UnoGame replayed = startedGame(players, seed);
+            for (Move move : recorder.moves) replayed.apply(move);
+            assertFalse(replayed.isGameRunning(), "seed " + seed);
+            assertEquals(played.getWinnerIndex(), replayed.getWinnerIndex(), "seed " + seed);
+            assertEquals(played.getTurnCount(), replayed.getTurnCount(), "seed " + seed);
+            assertEquals(played.getReshuffleCount(), replayed.getReshuffleCount(), "seed " + seed);
+        }
+    }
+
+    @Test
+    void testIllegalMovesAreRejected() {
+        UnoGame game = startedGame(2, 9L);
+        Hand hand = game.getCurrentPlayer().getHand();
+        Move[] moves = new Move[Move.COUNT];
+        int n = game.legalMoves(moves);
+        if (moves[0] != Move.DRAW) {
+            assertThrows(IllegalArgumentException.class, () -> game.apply(Move.DRAW));
+        }
+        for (int id = 0; id < CardTable.SIZE; id++) {
+            if (CardTable.byId(id).getColor() != Color.WILD && hand.count(CardTable.byId(id)) == 0) {
+                Move missing = Move.play(id, null);
+                assertThrows(IllegalArgumentException.class, () -> game.apply(missing));
+                break;
+            }
+        }
+        assertEquals(0, game.getUndoDepth());
+        assertTrue(n > 0);
+    }
+
+    @Test
+    void testApplyAndUndoDoNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        UnoGame game = startedGame(3, 12L);
+        Move[] moves = new Move[Move.COUNT];
+        GameState start = game.snapshot();
+        SplittableRandom random = new SplittableRandom(3L);
+        for (int i = 0; i < 2_000; i++) { // Warm up and grow the journal
+            int depth = playRandomLine(game, random, moves, 50);
+            for (int d = 0; d < depth; d++) game.undo();
+        }
+
+        int iterations = 1_000;
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            int depth = playRandomLine(game, random, moves, 50);
+            for (int d = 0; d < depth; d++) game.undo();
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        assertTrue(allocated < iterations, "Allocated " + allocated + " bytes");
+        assertEquals(start, game.snapshot());
+    }
+}
@@ -92,6 +92,49 @@ class PileTest {
 
     }
 
+    @Test
+    void testRefillDeckFromPileKeepsTopCard() {
+        Deck deck = new Deck(9L);
+        while (!deck.isEmpty()) {
+            pile.addCard(deck.drawCard());
+        }
+        Card top = pile.getTopCard();
+
+        assertEquals(107, deck.refillFrom(pile));
+        assertEquals(107, deck.cardsRemaining());
+        assertEquals(1, pile.getSize());
+        assertEquals(top, pile.getTopCard());
+
+        // The pile keeps working on its new storage
+        pile.addCard(redTwo);
+        assertEquals(redTwo, pile.getTopCard());
+        assertEquals(2, pile.getSize());
+    }
+
+    @Test
+    void testRefillFromSmallPile() {
+        Deck deck = new Deck(9L);
+        deck.drawCards(108);
+        assertEquals(0, deck.refillFrom(pile)); // Empty pile
+        pile.addCard(redTwo);
+        assertEquals(0, deck.refillFrom(pile)); // Only the top card
+        assertTrue(deck.isEmpty());
+        assertEquals(redTwo, pile.getTopCard());
+    }
+
+    @Test
+    void testRefillIntoNonEmptyDeckCopies() {
+        Deck deck = new Deck(9L);
+        deck.drawCards(100);
+        pile.addCard(redTwo);
+        pile.addCard(blueThree);
+        pile.addCard(wild);
+        assertEquals(2, deck.refillFrom(pile));
+        assertEquals(10, deck.cardsRemaining());
+        assertEquals(wild, pile.getTopCard());
+        assertEquals(1, pile.getSize());
+    }
+
     @Test
     void testCanPlayDelegation() {
         pile.addCard(redTwo); // Top is Red Two
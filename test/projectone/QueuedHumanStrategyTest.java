@@ -0,0 +1,96 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the projectone.QueuedHumanStrategy cross-thread decisions.
+ */
+class QueuedHumanStrategyTest {
+    private static final Card RED_FIVE = CardTable.get(Color.RED, Value.FIVE);
+    private static final Card RED_SKIP = CardTable.get(Color.RED, Value.SKIP);
+
+    @Test
+    void testAnswerPicksTheOption() throws Exception {
+        QueuedHumanStrategy human = new QueuedHumanStrategy();
+        CompletableFuture<Card> chosen = CompletableFuture.supplyAsync(
+                () -> human.chooseCard(null, new Hand(), List.of(RED_FIVE, RED_SKIP), RED_FIVE, null));
+        QueuedHumanStrategy.Prompt prompt = human.pollPrompt(5, TimeUnit.SECONDS);
+        assertEquals(QueuedHumanStrategy.Prompt.Kind.CARD, prompt.getKind());
+        assertEquals(List.of(RED_FIVE, RED_SKIP), prompt.getOptions());
+        assertThrows(IllegalArgumentException.class, () -> human.answer(2));
+        human.answer(1);
+        assertEquals(RED_SKIP, chosen.get(5, TimeUnit.SECONDS));
+        assertThrows(IllegalStateException.class, () -> human.answer(0));
+    }
+
+    @Test
+    void testNoPromptWithoutPlayableCards() {
+        QueuedHumanStrategy human = new QueuedHumanStrategy();
+        assertNull(human.chooseCard(null, new Hand(), List.of(), RED_FIVE, null));
+        assertThrows(IllegalStateException.class, () -> human.answer(0));
+    }
+
+    @Test
+    void testInterruptCancelsTheDecision() throws Exception {
+        QueuedHumanStrategy human = new QueuedHumanStrategy();
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try {
+                human.chooseCard(null, new Hand(), List.of(RED_FIVE), RED_FIVE, null);
+            } catch (Throwable t) {
+                thrown.set(t);
+            }
+        });
+        assertNotNull(human.pollPrompt(5, TimeUnit.SECONDS));
+        waiter.interrupt();
+        waiter.join(5_000);
+        assertInstanceOf(CancellationException.class, thrown.get());
+        assertThrows(IllegalStateException.class, () -> human.answer(0));
+    }
+
+    @Test
+    void testAsyncDecisionCompletesWithoutAWaitingThread() throws Exception {
+        QueuedHumanStrategy human = new QueuedHumanStrategy();
+        CompletableFuture<Card> chosen = human.chooseCardAsync(null, new Hand(), List.of(RED_FIVE, RED_SKIP), RED_FIVE, null);
+        QueuedHumanStrategy.Prompt prompt = human.pollPrompt(0, TimeUnit.MILLISECONDS);
+        assertFalse(chosen.isDone());
+        human.answer(prompt, 1);
+        assertEquals(RED_SKIP, chosen.getNow(null));
+        assertThrows(IllegalStateException.class, () -> human.answer(prompt, 0));
+    }
+
+    @Test
+    void testAbandonedAsyncDecisionWithdrawsThePrompt() throws Exception {
+        QueuedHumanStrategy human = new QueuedHumanStrategy();
+        CompletableFuture<Card> chosen = human.chooseCardAsync(null, new Hand(), List.of(RED_FIVE), RED_FIVE, null);
+        QueuedHumanStrategy.Prompt stale = human.pollPrompt(0, TimeUnit.MILLISECONDS);
+        chosen.cancel(false);
+        assertThrows(IllegalStateException.class, () -> human.answer(stale, 0));
+
+        CompletableFuture<Card> next = human.chooseCardAsync(null, new Hand(), List.of(RED_SKIP), RED_FIVE, null);
+        assertThrows(IllegalStateException.class, () -> human.answer(stale, 0));
+        human.answer(human.pollPrompt(0, TimeUnit.MILLISECONDS), 0);
+        assertEquals(RED_SKIP, next.getNow(null));
+    }
+
+    @Test
+    void testWithdrawnPromptIsNeverHandedOut() throws Exception {
+        QueuedHumanStrategy human = new QueuedHumanStrategy();
+        human.chooseCardAsync(null, new Hand(), List.of(RED_FIVE), RED_FIVE, null).cancel(false);
+        assertNull(human.pollPrompt(0, TimeUnit.MILLISECONDS));
+
+        human.chooseCardAsync(null, new Hand(), List.of(RED_FIVE), RED_FIVE, null);
+        CompletableFuture<Card> next = human.chooseCardAsync(null, new Hand(), List.of(RED_SKIP), RED_FIVE, null);
+        QueuedHumanStrategy.Prompt prompt = human.pollPrompt(0, TimeUnit.MILLISECONDS);
+        assertEquals(List.of(RED_SKIP), prompt.getOptions());
+        assertNull(human.pollPrompt(0, TimeUnit.MILLISECONDS));
+        human.answer(prompt, 0);
+        assertEquals(RED_SKIP, next.getNow(null));
+    }
+}
@@ -0,0 +1,162 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the projectone.RemotePlayerServer NIO front end over loopback.
+ */
+class RemotePlayerServerTest {
+    private static final List<String> NAMES = List.of("Remote", "Bot");
+
+    /** Result of a client that played until the game ended. */
+    private record ClientResult(int seat, int winner, int turns) {}
+
+    /**
+     * Plays a whole game as a blocking client, answering every prompt with its first option.
+     * @param answersBeforeLeaving Number of prompts to answer before disconnecting, or -1 to play to the end.
+     */
+    private static ClientResult playClient(InetSocketAddress address, int answersBeforeLeaving) throws IOException {
+        try (Socket socket = new Socket(address.getAddress(), address.getPort())) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+            int seat = -1;
+            int turns = 0;
+            int answers = 0;
+            while (true) {
+                int type = in.readUnsignedByte();
+                byte[] payload = new byte[in.readUnsignedByte()];
+                in.readFully(payload);
+                switch (type) {
+                    case WireProtocol.WELCOME -> seat = payload[0];
+                    case WireProtocol.TURN -> turns++;
+                    case WireProtocol.PROMPT_CARD, WireProtocol.PROMPT_COLOR -> {
+                        if (answers++ == answersBeforeLeaving) return new ClientResult(seat, -2, turns);
+                        out.write(new byte[] {WireProtocol.CHOOSE, 1, 0});
+                    }
+                    case WireProtocol.GAME_OVER -> {
+                        return new ClientResult(seat, payload[0] & 0xFF, turns);
+                    }
+                    default -> { }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testManyRemotePlayersOverLoopback() throws Exception {
+        int clients = 500;
+        BlockingQueue<GameServer.Table> tables = new LinkedBlockingQueue<>();
+        AtomicInteger seed = new AtomicInteger();
+        try (GameServer games = new GameServer();
+             RemotePlayerServer server = RemotePlayerServer.open(new InetSocketAddress("127.0.0.1", 0), 2, remote ->
+                     tables.add(games.openTable(List.of(remote, new BasicAIStrategy()), NAMES, seed.getAndIncrement(), remote)));
+             ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<ClientResult>> results = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return playClient(server.getLocalAddress(), -1);
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                }, clientThreads));
+            }
+            int totalTurns = 0;
+            for (CompletableFuture<ClientResult> result : results) {
+                ClientResult played = result.get(60, TimeUnit.SECONDS);
+                assertEquals(0, played.seat());
+                totalTurns += played.turns();
+            }
+            assertEquals(clients, server.getAcceptedConnections());
+            for (int i = 0; i < clients; i++) {
+                GameServer.Table table = tables.poll(10, TimeUnit.SECONDS);
+                assertTrue(table.await(Duration.ofSeconds(30)));
+                assertEquals(GameServer.TableState.FINISHED, table.getState());
+            }
+            // Besides the deal and the prompts, a turn is a handful of small frames
+            assertTrue(server.getBytesSent() < 20L * totalTurns, server.toString());
+        }
+    }
+
+    @Test
+    void testDisconnectedPlayerIsReplacedByTheFallback() throws Exception {
+        CompletableFuture<GameServer.Table> opened = new CompletableFuture<>();
+        try (GameServer games = new GameServer();
+             RemotePlayerServer server = RemotePlayerServer.open(new InetSocketAddress("127.0.0.1", 0), 1, remote ->
+                     opened.complete(games.openTable(List.of(remote, new BasicAIStrategy()), NAMES, 17, remote)))) {
+            ClientResult left = playClient(server.getLocalAddress(), 1);
+            assertEquals(-2, left.winner());
+            GameServer.Table table = opened.get(10, TimeUnit.SECONDS);
+            assertTrue(table.await(Duration.ofSeconds(30)));
+            assertEquals(GameServer.TableState.FINISHED, table.getState());
+            assertTrue(table.getWinnerIndex() >= 0);
+        }
+    }
+
+    @Test
+    void testProtocolErrorClosesTheConnection() throws Exception {
+        CompletableFuture<GameServer.Table> opened = new CompletableFuture<>();
+        try (GameServer games = new GameServer();
+             RemotePlayerServer server = RemotePlayerServer.open(new InetSocketAddress("127.0.0.1", 0), 1, remote ->
+                     opened.complete(games.openTable(List.of(remote, new BasicAIStrategy()), NAMES, 23, remote)));
+             Socket socket = new Socket("127.0.0.1", server.getLocalAddress().getPort())) {
+            socket.getOutputStream().write(new byte[] {WireProtocol.WELCOME, 1, 0});
+            socket.setSoTimeout(30_000);
+            InputStream in = socket.getInputStream();
+            assertThrows(EOFException.class, () -> {
+                DataInputStream data = new DataInputStream(in);
+                while (true) data.readUnsignedByte();
+            });
+            GameServer.Table table = opened.get(10, TimeUnit.SECONDS);
+            assertTrue(table.await(Duration.ofSeconds(30)));
+            assertEquals(GameServer.TableState.FINISHED, table.getState());
+        }
+    }
+
+    @Test
+    void testClientThatStopsReadingIsDropped() throws Exception {
+        CompletableFuture<RemoteStrategy> connected = new CompletableFuture<>();
+        try (RemotePlayerServer server = RemotePlayerServer.open(new InetSocketAddress("127.0.0.1", 0), 1, connected::complete);
+             Socket socket = new Socket()) {
+            server.setMaxQueuedBytes(4096);
+            socket.setReceiveBufferSize(4096);
+            socket.connect(server.getLocalAddress());
+            RemoteStrategy remote = connected.get(10, TimeUnit.SECONDS);
+            // The client never reads, so once the socket buffers fill, frames pile up on the server
+            for (int i = 0; i < 1_000_000 && remote.isConnected(); i++) remote.onDirectionReversed(i % 2 == 0);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (server.getOpenConnections() > 0 && System.nanoTime() < deadline) Thread.sleep(10);
+            assertFalse(remote.isConnected());
+            assertEquals(1, server.getSlowClientsDropped());
+            assertEquals(0, server.getOpenConnections());
+        }
+    }
+
+    @Test
+    void testInvalidArguments() throws IOException {
+        assertThrows(IllegalArgumentException.class,
+                () -> RemotePlayerServer.open(new InetSocketAddress("127.0.0.1", 0), 0, remote -> { }));
+        try (RemotePlayerServer server = RemotePlayerServer.open(new InetSocketAddress("127.0.0.1", 0), 1, remote -> { })) {
+            assertThrows(IllegalArgumentException.class, () -> server.setMaxQueuedBytes(16));
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.CancellationException;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the projectone.RemoteStrategy wire deltas and remote decisions.
+ */
+class RemoteStrategyTest {
+    private static final Card RED_FIVE = CardTable.get(Color.RED, Value.FIVE);
+    private static final Card RED_SKIP = CardTable.get(Color.RED, Value.SKIP);
+
+    /** Collects the frames sent to the client. */
+    private static final class Frames {
+        final List<byte[]> sent = new ArrayList<>();
+
+        synchronized void add(byte[] frame) {
+            sent.add(frame);
+            notifyAll();
+        }
+
+        synchronized byte[] await(int index) throws InterruptedException {
+            while (sent.size() <= index) wait(5_000);
+            return sent.get(index);
+        }
+
+        synchronized List<Integer> types() {
+            List<Integer> types = new ArrayList<>();
+            for (byte[] frame : sent) types.add(frame[0] & 0xFF);
+            return types;
+        }
+    }
+
+    private static UnoGame dealtGame(RemoteStrategy remote) {
+        UnoGame game = new UnoGame(List.of(new BasicAIStrategy(), remote), List.of("Bot", "Remote"), 5L, remote);
+        assertTrue(game.start());
+        return game;
+    }
+
+    @Test
+    void testDealSendsSeatAndOwnHand() {
+        Frames frames = new Frames();
+        RemoteStrategy remote = new RemoteStrategy(frames::add);
+        UnoGame game = dealtGame(remote);
+        assertEquals(1, remote.getSeat());
+        assertArrayEquals(new byte[] {WireProtocol.WELCOME, 2, 1, 2}, frames.sent.get(0));
+        byte[] hand = frames.sent.get(1);
+        assertEquals(WireProtocol.HAND, hand[0]);
+        assertEquals(7, hand[1]);
+        List<Card> cards = game.getPlayers().get(1).getHand().getCards();
+        for (int i = 0; i < 7; i++) assertEquals(cards.get(i).getId(), hand[2 + i]);
+        assertEquals(WireProtocol.STARTING_CARD, frames.sent.get(2)[0]);
+    }
+
+    @Test
+    void testOpponentDrawsAreHidden() {
+        Frames frames = new Frames();
+        RemoteStrategy remote = new RemoteStrategy(frames::add);
+        UnoGame game = dealtGame(remote);
+        Player bot = game.getPlayers().get(0);
+        Player self = game.getPlayers().get(1);
+        remote.onCardDrawn(bot, RED_FIVE);
+        remote.onCardDrawn(self, RED_SKIP);
+        remote.onCardPlayed(bot, RED_FIVE);
+        remote.onWildColorChosen(bot, Color.GREEN);
+        remote.onDirectionReversed(false);
+        int n = frames.sent.size();
+        assertArrayEquals(new byte[] {WireProtocol.DREW, 2, 0, (byte) WireProtocol.HIDDEN}, frames.sent.get(n - 5));
+        assertArrayEquals(new byte[] {WireProtocol.DREW, 2, 1, (byte) RED_SKIP.getId()}, frames.sent.get(n - 4));
+        assertArrayEquals(new byte[] {WireProtocol.PLAYED, 2, 0, (byte) RED_FIVE.getId()}, frames.sent.get(n - 3));
+        assertArrayEquals(new byte[] {WireProtocol.WILD_COLOR, 2, 0, (byte) Color.GREEN.ordinal()}, frames.sent.get(n - 2));
+        assertArrayEquals(new byte[] {WireProtocol.DIRECTION, 1, 0}, frames.sent.get(n - 1));
+    }
+
+    @Test
+    void testPenaltyDrawResendsOwnHand() {
+        Frames frames = new Frames();
+        RemoteStrategy remote = new RemoteStrategy(frames::add);
+        UnoGame game = dealtGame(remote);
+        int before = frames.sent.size();
+        remote.onCardsDrawn(game.getPlayers().get(0), 2);
+        assertEquals(before + 1, frames.sent.size());
+        remote.onCardsDrawn(game.getPlayers().get(1), 4);
+        assertEquals(List.of(WireProtocol.PENALTY, WireProtocol.PENALTY, WireProtocol.HAND),
+                frames.types().subList(before, before + 3));
+    }
+
+    @Test
+    void testPromptIsAnsweredByIndex() throws Exception {
+        Frames frames = new Frames();
+        RemoteStrategy remote = new RemoteStrategy(frames::add);
+        CompletableFuture<Card> chosen = CompletableFuture.supplyAsync(
+                () -> remote.chooseCard(null, new Hand(), List.of(RED_FIVE, RED_SKIP), RED_FIVE, null));
+        byte[] prompt = frames.await(0);
+        assertArrayEquals(new byte[] {WireProtocol.PROMPT_CARD, 2, (byte) RED_FIVE.getId(), (byte) RED_SKIP.getId()}, prompt);
+        assertFalse(remote.answer(2));
+        assertTrue(remote.answer(1));
+        assertEquals(RED_SKIP, chosen.get(5, TimeUnit.SECONDS));
+        assertFalse(remote.answer(0));
+    }
+
+    @Test
+    void testDisconnectHandsDecisionsToTheFallback() throws Exception {
+        Frames frames = new Frames();
+        RemoteStrategy remote = new RemoteStrategy(frames::add);
+        UnoGame game = dealtGame(remote);
+        int before = frames.sent.size();
+        CompletableFuture<Color> chosen = CompletableFuture.supplyAsync(
+                () -> remote.chooseWildColor(game, game.getPlayers().get(1).getHand()));
+        assertEquals(WireProtocol.PROMPT_COLOR, frames.await(before)[0]);
+        remote.disconnected();
+        Color color = chosen.get(5, TimeUnit.SECONDS);
+        assertTrue(Arrays.asList(Color.RED, Color.YELLOW, Color.GREEN, Color.BLUE).contains(color));
+        assertFalse(remote.isConnected());
+        remote.onDirectionReversed(true);
+        assertEquals(before + 1, frames.sent.size());
+    }
+
+    @Test
+    void testInterruptCancelsTheDecision() throws Exception {
+        Frames frames = new Frames();
+        RemoteStrategy remote = new RemoteStrategy(frames::add);
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try {
+                remote.chooseCard(null, new Hand(), List.of(RED_FIVE), RED_FIVE, null);
+            } catch (Throwable t) {
+                thrown.set(t);
+            }
+        });
+        frames.await(0);
+        waiter.interrupt();
+        waiter.join(5_000);
+        assertInstanceOf(CancellationException.class, thrown.get());
+    }
+
+    @Test
+    void testRejectsAGameItIsNotSeatedIn() {
+        RemoteStrategy remote = new RemoteStrategy(frame -> { });
+        UnoGame game = new UnoGame(List.of(new BasicAIStrategy(), new BasicAIStrategy()), List.of("A", "B"), 1L, remote);
+        assertThrows(IllegalStateException.class, game::start);
+    }
+}
@@ -0,0 +1,57 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the projectone.RunningStats online moments.
+ */
+class RunningStatsTest {
+    @Test
+    void testMeanAndVariance() {
+        RunningStats stats = new RunningStats();
+        for (double x : new double[] {2, 4, 4, 4, 5, 5, 7, 9}) stats.add(x);
+        assertEquals(8, stats.getCount());
+        assertEquals(5.0, stats.getMean(), 1e-12);
+        assertEquals(32.0 / 7, stats.getVariance(), 1e-12);
+        assertEquals(Math.sqrt(32.0 / 7 / 8), stats.getStandardError(), 1e-12);
+        assertEquals(2.0, stats.getMin());
+        assertEquals(9.0, stats.getMax());
+    }
+
+    @Test
+    void testEmptyAndSingleValue() {
+        RunningStats stats = new RunningStats();
+        assertEquals(0.0, stats.getMean());
+        assertTrue(Double.isNaN(stats.getMin()));
+        stats.add(3);
+        assertTrue(Double.isNaN(stats.getVariance()));
+        assertEquals(3.0, stats.getMax());
+    }
+
+    @Test
+    void testStableWithLargeOffset() {
+        RunningStats stats = new RunningStats();
+        for (int i = 0; i < 1000; i++) stats.add(1e9 + (i % 2));
+        assertEquals(0.25 * 1000 / 999, stats.getVariance(), 1e-9);
+    }
+
+    @Test
+    void testMergeMatchesSequential() {
+        SplittableRandom random = new SplittableRandom(1);
+        RunningStats all = new RunningStats();
+        RunningStats[] parts = {new RunningStats(), new RunningStats(), new RunningStats()};
+        for (int i = 0; i < 3000; i++) {
+            double x = random.nextGaussian() * 10 + 50;
+            all.add(x);
+            parts[random.nextInt(3)].add(x);
+        }
+        RunningStats merged = new RunningStats().merge(parts[0]).merge(parts[1]).merge(parts[2]).merge(new RunningStats());
+        assertEquals(all.getCount(), merged.getCount());
+        assertEquals(all.getMean(), merged.getMean(), 1e-9);
+        assertEquals(all.getVariance(), merged.getVariance(), 1e-9);
+        assertEquals(all.getMin(), merged.getMin());
+        assertEquals(all.getMax(), merged.getMax());
+    }
+}
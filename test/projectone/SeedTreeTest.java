@@ -0,0 +1,47 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import java.util.HashSet;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the projectone.SeedTree seed derivation.
+ */
+class SeedTreeTest {
+
+    @Test
+    void testChildrenAreDeterministic() {
+        SeedTree a = new SeedTree(99L);
+        SeedTree b = new SeedTree(99L);
+        assertEquals(a.child(5), b.child(5));
+        assertEquals(a.child(5).childSeed(SeedTree.DECK), b.child(5).childSeed(SeedTree.DECK));
+    }
+
+    @Test
+    void testChildDoesNotDependOnRequestOrder() {
+        SeedTree root = new SeedTree(1L);
+        long later = root.childSeed(1000);
+        for (int i = 0; i < 1000; i++) {
+            root.childSeed(i);
+        }
+        assertEquals(later, root.childSeed(1000));
+    }
+
+    @Test
+    void testSiblingsAndComponentsDiffer() {
+        SeedTree game = new SeedTree(7L).child(0);
+        Set<Long> seeds = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(seeds.add(game.childSeed(i)), "Collision at child " + i);
+        }
+        assertNotEquals(game.childSeed(SeedTree.DECK), game.childSeed(SeedTree.STRATEGY));
+        assertNotEquals(new SeedTree(7L).child(0), new SeedTree(8L).child(0));
+    }
+
+    @Test
+    void testNewRandomIsReproducible() {
+        SeedTree node = new SeedTree(3L).child(2);
+        assertEquals(node.newRandom().nextLong(), node.newRandom().nextLong());
+    }
+}
@@ -0,0 +1,213 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the projectone.SpectatorHub broadcast stream.
+ */
+class SpectatorHubTest {
+    private static final List<String> NAMES = List.of("A", "B", "C", "D");
+
+    /** A spectator's picture of the table, kept up to date from frames. */
+    private static final class View {
+        int topCard = WireProtocol.HIDDEN;
+        int wildColor = WireProtocol.HIDDEN;
+        boolean clockwise = true;
+        int[] handSizes;
+        int winner = -2;
+
+        void apply(byte[] frame) {
+            int type = frame[0] & 0xFF;
+            switch (type) {
+                case WireProtocol.SNAPSHOT -> {
+                    topCard = frame[2] & 0xFF;
+                    wildColor = frame[3] & 0xFF;
+                    clockwise = frame[4] == 1;
+                    handSizes = new int[frame[6]];
+                    for (int seat = 0; seat < handSizes.length; seat++) handSizes[seat] = frame[7 + seat];
+                }
+                case WireProtocol.STARTING_CARD -> topCard = frame[2];
+                case WireProtocol.PLAYED -> {
+                    handSizes[frame[2]]--;
+                    topCard = frame[3];
+                    wildColor = WireProtocol.HIDDEN;
+                }
+                case WireProtocol.DREW -> handSizes[frame[2]]++;
+                case WireProtocol.HAND_SIZE -> handSizes[frame[2]] = frame[3];
+                case WireProtocol.WILD_COLOR -> wildColor = frame[3];
+                case WireProtocol.DIRECTION -> clockwise = frame[2] == 1;
+                case WireProtocol.GAME_OVER -> winner = frame[2] & 0xFF;
+                default -> { }
+            }
+        }
+
+        void assertMatches(UnoGame game) {
+            assertEquals(game.getPile().getTopCard().getId(), topCard);
+            assertEquals(game.isPlayDirectionClockwise(), clockwise);
+            int[] actual = game.getPlayers().stream().mapToInt(p -> p.getHand().getSize()).toArray();
+            assertArrayEquals(actual, handSizes, Arrays.toString(actual));
+        }
+    }
+
+    private static UnoGame newGame(SpectatorHub hub, long seed) {
+        List<PlayerStrategy> strategies = new ArrayList<>();
+        for (int i = 0; i < NAMES.size(); i++) strategies.add(new BasicAIStrategy());
+        return new UnoGame(strategies, NAMES, seed, hub);
+    }
+
+    @Test
+    void testSpectatorReconstructsThePublicState() {
+        for (long seed = 0; seed < 20; seed++) {
+            SpectatorHub hub = new SpectatorHub(1 << 16, 0);
+            SpectatorHub.Subscription subscription = hub.subscribe();
+            UnoGame game = newGame(hub, seed);
+            game.run();
+            View view = new View();
+            byte[] frame;
+            while ((frame = subscription.poll()) != null) view.apply(frame);
+            view.assertMatches(game);
+            assertEquals(game.getWinnerIndex(), view.winner);
+            assertEquals(0, subscription.getResyncs());
+        }
+    }
+
+    @Test
+    void testSlowSpectatorIsResyncedWithASnapshot() {
+        SpectatorHub hub = new SpectatorHub(8, 5);
+        SpectatorHub.Subscription subscription = hub.subscribe();
+        UnoGame game = newGame(hub, 3);
+        game.start();
+        View view = new View();
+        view.apply(subscription.poll()); // the opening snapshot
+        for (int i = 0; i < 30 && game.isGameRunning(); i++) {
+            game.apply(game.legalMoves().get(0));
+        }
+        assertTrue(hub.getPublishedFrames() > 8);
+        byte[] frame = subscription.poll();
+        assertEquals(WireProtocol.SNAPSHOT, frame[0]);
+        assertEquals(1, subscription.getResyncs());
+        view.apply(frame);
+        while ((frame = subscription.poll()) != null) view.apply(frame);
+        view.assertMatches(game);
+    }
+
+    @Test
+    void testSpectatorThatKeepsFallingBehindIsDropped() {
+        SpectatorHub hub = new SpectatorHub(4, 0);
+        SpectatorHub.Subscription subscription = hub.subscribe();
+        newGame(hub, 5).run();
+        assertNotNull(subscription.poll());
+        assertNull(subscription.poll());
+        assertTrue(subscription.isClosed());
+        assertEquals(1, hub.getDropped());
+        assertEquals(0, hub.getSubscribers());
+    }
+
+    @Test
+    void testLateJoinerStartsFromASnapshot() {
+        SpectatorHub hub = new SpectatorHub(1024, 0);
+        UnoGame game = newGame(hub, 7);
+        game.run();
+        SpectatorHub.Subscription late = hub.subscribe();
+        View view = new View();
+        byte[] frame = late.poll();
+        assertEquals(WireProtocol.SNAPSHOT, frame[0]);
+        view.apply(frame);
+        assertNull(late.poll());
+        view.assertMatches(game);
+    }
+
+    @Test
+    void testManySpectatorsFollowALiveTable() throws Exception {
+        int spectators = 1_000;
+        SpectatorHub hub = new SpectatorHub(1 << 16, 0);
+        UnoGame game = newGame(hub, 11);
+        CountDownLatch subscribed = new CountDownLatch(spectators);
+        List<CompletableFuture<View>> views = new ArrayList<>();
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < spectators; i++) {
+                views.add(CompletableFuture.supplyAsync(() -> {
+                    SpectatorHub.Subscription subscription = hub.subscribe();
+                    subscribed.countDown();
+                    View view = new View();
+                    try {
+                        byte[] frame;
+                        while ((frame = subscription.take(Duration.ofSeconds(30))) != null) view.apply(frame);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return view;
+                }, threads));
+            }
+            assertTrue(subscribed.await(30, TimeUnit.SECONDS));
+            game.run();
+            for (CompletableFuture<View> view : views) {
+                View seen = view.get(30, TimeUnit.SECONDS);
+                seen.assertMatches(game);
+                assertEquals(game.getWinnerIndex(), seen.winner);
+            }
+        }
+        assertEquals(0, hub.getResyncs());
+    }
+
+    @Test
+    void testSpectatorsResyncingDuringALiveTableSeeConsistentSnapshots() throws Exception {
+        int spectators = 50;
+        SpectatorHub hub = new SpectatorHub(4, Integer.MAX_VALUE);
+        UnoGame game = newGame(hub, 13);
+        CountDownLatch subscribed = new CountDownLatch(spectators);
+        List<CompletableFuture<View>> views = new ArrayList<>();
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < spectators; i++) {
+                views.add(CompletableFuture.supplyAsync(() -> {
+                    SpectatorHub.Subscription subscription = hub.subscribe();
+                    subscribed.countDown();
+                    View view = new View();
+                    try {
+                        byte[] frame;
+                        while ((frame = subscription.take(Duration.ofSeconds(30))) != null) view.apply(frame);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return view;
+                }, threads));
+            }
+            assertTrue(subscribed.await(30, TimeUnit.SECONDS));
+            game.run();
+            for (CompletableFuture<View> view : views) view.get(30, TimeUnit.SECONDS).assertMatches(game);
+        }
+    }
+
+    @Test
+    void testCloseWakesABlockedSpectator() throws Exception {
+        SpectatorHub hub = new SpectatorHub(16, 0);
+        SpectatorHub.Subscription subscription = hub.subscribe();
+        CompletableFuture<byte[]> taken = new CompletableFuture<>();
+        Thread.ofVirtual().start(() -> {
+            try {
+                taken.complete(subscription.take(Duration.ofMinutes(5)));
+            } catch (InterruptedException e) {
+                taken.completeExceptionally(e);
+            }
+        });
+        Thread.sleep(50); // let it park; closing first would return null just the same
+        subscription.close();
+        assertNull(taken.get(30, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new SpectatorHub(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SpectatorHub(16, -1));
+    }
+}
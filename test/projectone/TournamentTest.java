@@ -0,0 +1,148 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for projectone.Tournament scheduling and standings.
+ */
+class TournamentTest {
+    private static Map<String, Supplier<PlayerStrategy>> entrants(int n) {
+        Map<String, Supplier<PlayerStrategy>> entrants = new LinkedHashMap<>();
+        for (int i = 0; i < n; i++) {
+            entrants.put("basic" + i, BasicAIStrategy::new);
+        }
+        return entrants;
+    }
+
+    private static double ratingSum(List<Tournament.Standing> standings) {
+        return standings.stream().mapToDouble(Tournament.Standing::getRating).sum();
+    }
+
+    @Test
+    void testCombinations() {
+        List<int[]> tables = Tournament.combinations(5, 3);
+        assertEquals(10, tables.size());
+        assertArrayEquals(new int[] {0, 1, 2}, tables.get(0));
+        assertArrayEquals(new int[] {2, 3, 4}, tables.get(9));
+    }
+
+    @Test
+    void testRoundRobinPlaysEverySeatingOfEveryTable() {
+        Tournament tournament = new Tournament(entrants(4), 3);
+        tournament.setGamesPerSeating(2);
+        List<Tournament.Standing> standings = tournament.run(Tournament.Format.ROUND_ROBIN, 42L);
+
+        // C(4,3) tables x 3 rotations x 2 deals, each entrant at 3 of the 4 tables
+        assertEquals(24, tournament.getGamesPlayed());
+        for (Tournament.Standing standing : standings) {
+            assertEquals(18, standing.getGames());
+        }
+        assertEquals(4 * EloRatings.INITIAL_RATING, ratingSum(standings), 1e-6);
+        for (int i = 1; i < standings.size(); i++) {
+            assertTrue(standings.get(i - 1).getRating() >= standings.get(i).getRating());
+        }
+    }
+
+    @Test
+    void testRoundRobinResultsAreReproducible() {
+        Tournament first = new Tournament(entrants(3), 2);
+        Tournament second = new Tournament(entrants(3), 2);
+        first.setGamesPerSeating(3);
+        second.setGamesPerSeating(3);
+        first.run(Tournament.Format.ROUND_ROBIN, 7L);
+        second.run(Tournament.Format.ROUND_ROBIN, 7L);
+        for (Tournament.Standing a : first.getStandings()) {
+            Tournament.Standing b = second.getStandings().stream()
+                    .filter(s -> s.getName().equals(a.getName())).findFirst().orElseThrow();
+            assertEquals(a.getWins(), b.getWins());
+        }
+    }
+
+    @Test
+    void testSingleTableSplitAcrossWorkersPlaysTheSameGames() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        ForkJoinPool serial = new ForkJoinPool(1);
+        try {
+            Tournament parallel = new Tournament(entrants(2), 2, pool);
+            Tournament single = new Tournament(entrants(2), 2, serial);
+            parallel.setGamesPerSeating(50);
+            single.setGamesPerSeating(50);
+            parallel.run(Tournament.Format.ROUND_ROBIN, 5L);
+            single.run(Tournament.Format.ROUND_ROBIN, 5L);
+            assertEquals(100, parallel.getGamesPlayed());
+            for (Tournament.Standing a : parallel.getStandings()) {
+                Tournament.Standing b = single.getStandings().stream()
+                        .filter(s -> s.getName().equals(a.getName())).findFirst().orElseThrow();
+                assertEquals(100, a.getGames());
+                assertEquals(b.getWins(), a.getWins());
+            }
+        } finally {
+            pool.shutdown();
+            serial.shutdown();
+        }
+    }
+
+    @Test
+    void testSwissGivesLeftoverEntrantsAByeAndAvoidsRematches() {
+        Tournament tournament = new Tournament(entrants(5), 2);
+        tournament.setGamesPerSeating(1);
+        tournament.setSwissRounds(3);
+        List<Tournament.Standing> standings = tournament.run(Tournament.Format.SWISS, 3L);
+
+        // 2 tables of 2 per round, 2 rotations, 1 deal
+        assertEquals(3 * 2 * 2 * 1, tournament.getGamesPlayed());
+        assertEquals(5 * EloRatings.INITIAL_RATING, ratingSum(standings), 1e-6);
+        assertTrue(standings.stream().anyMatch(s -> s.getGames() < 6));
+
+        boolean[][] met = new boolean[5][5];
+        for (int round = 0; round < 2; round++) {
+            for (int[] table : tournament.swissTables(met)) {
+                assertEquals(2, table.length);
+            }
+        }
+        int pairs = 0;
+        for (int a = 0; a < 5; a++) {
+            for (int b = a + 1; b < 5; b++) if (met[a][b]) pairs++;
+        }
+        assertEquals(4, pairs, "Two rounds of two tables should meet four distinct pairs");
+    }
+
+    @Test
+    void testStandingsCanBePolledDuringRun() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Tournament tournament = new Tournament(entrants(4), 2, pool);
+            tournament.setGamesPerSeating(20);
+            AtomicInteger polls = new AtomicInteger();
+            Thread runner = new Thread(() -> tournament.run(Tournament.Format.ROUND_ROBIN, 11L));
+            runner.start();
+            while (runner.isAlive()) {
+                List<Tournament.Standing> standings = tournament.getStandings();
+                assertEquals(4, standings.size());
+                assertEquals(4 * EloRatings.INITIAL_RATING, ratingSum(standings), 1e-6);
+                polls.incrementAndGet();
+                runner.join(1);
+            }
+            assertTrue(polls.get() > 0);
+            assertEquals(6 * 2 * 20, tournament.getGamesPlayed());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(entrants(4), 5));
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(entrants(2), 3));
+        Tournament tournament = new Tournament(entrants(2), 2);
+        assertThrows(IllegalArgumentException.class, () -> tournament.setGamesPerSeating(0));
+        assertThrows(IllegalArgumentException.class, () -> tournament.setSwissRounds(0));
+    }
+}
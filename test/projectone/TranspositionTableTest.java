@@ -0,0 +1,90 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the lock-free projectone.TranspositionTable.
+ */
+class TranspositionTableTest {
+
+    @Test
+    void testStoreAndProbe() {
+        TranspositionTable table = new TranspositionTable(1000);
+        assertEquals(1024, table.capacity());
+        Move move = Move.play(CardTable.get(Color.WILD, Value.WILD_DRAW_FOUR), Color.GREEN);
+        table.store(42L, -7, 12, TranspositionTable.LOWER_BOUND, move);
+
+        long entry = table.probe(42L);
+        assertNotEquals(TranspositionTable.MISS, entry);
+        assertEquals(-7, TranspositionTable.value(entry));
+        assertEquals(12, TranspositionTable.depth(entry));
+        assertEquals(TranspositionTable.LOWER_BOUND, TranspositionTable.bound(entry));
+        assertSame(move, TranspositionTable.bestMove(entry));
+        assertEquals(TranspositionTable.MISS, table.probe(43L));
+
+        table.store(7L, 0, 0, TranspositionTable.EXACT, null);
+        assertNull(TranspositionTable.bestMove(table.probe(7L)));
+        table.clear();
+        assertEquals(TranspositionTable.MISS, table.probe(42L));
+    }
+
+    @Test
+    void testCollidingKeysReplaceEachOther() {
+        TranspositionTable table = new TranspositionTable(1);
+        table.store(1L, 10, 1, TranspositionTable.EXACT, Move.DRAW);
+        table.store(2L, 20, 1, TranspositionTable.EXACT, Move.PASS);
+        assertEquals(TranspositionTable.MISS, table.probe(1L));
+        assertEquals(20, TranspositionTable.value(table.probe(2L)));
+    }
+
+    @Test
+    void testConcurrentWritersNeverProduceTornEntries() throws InterruptedException {
+        TranspositionTable table = new TranspositionTable(64);
+        AtomicInteger corrupt = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            long seed = t;
+            threads[t] = new Thread(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                for (int i = 0; i < 200_000; i++) {
+                    long id = random.nextLong(1, 10_000);
+                    // Every writer stores the same value for a key, so a hit must carry that value
+                    table.store(key(id), (int) id * 3, (int) (id % 200), TranspositionTable.EXACT, null);
+                    long probed = random.nextLong(1, 10_000);
+                    long entry = table.probe(key(probed));
+                    if (entry != TranspositionTable.MISS && TranspositionTable.value(entry) != (int) probed * 3) {
+                        corrupt.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) thread.join();
+        assertEquals(0, corrupt.get());
+        for (long id = 1; id < 10_000; id++) {
+            long entry = table.probe(key(id));
+            if (entry != TranspositionTable.MISS) {
+                assertEquals((int) id * 3, TranspositionTable.value(entry));
+                assertEquals(id % 200, TranspositionTable.depth(entry));
+            }
+        }
+    }
+
+    /**
+     * Spreads a small ID over 64 bits like a Zobrist hash. With small keys, the XOR check of
+     * a slot torn between two writers could match a third key by coincidence.
+     */
+    private static long key(long id) {
+        return id * 0x9E3779B97F4A7C15L;
+    }
+
+    @Test
+    void testInvalidArgumentsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+        TranspositionTable table = new TranspositionTable(8);
+        assertThrows(IllegalArgumentException.class, () -> table.store(1L, 0, 0, 0, null));
+    }
+}
@@ -2,10 +2,14 @@ package projectone;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Scanner;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -59,6 +63,36 @@ class UnoGameTest {
          // Cannot easily assert hand sizes without modifying Game/projectone.Player for testability
     }
 
+    @Test
+    void testHeadlessGameWritesNothing() {
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(captured));
+        try {
+            new UnoGame(strategies, playerNames, fixedSeed, GameEventListener.NONE).run();
+        } finally {
+            System.setOut(originalOut);
+        }
+        assertEquals(0, captured.size());
+    }
+
+    @Test
+    void testListenerReceivesEvents() {
+        List<String> events = new ArrayList<>();
+        GameEventListener recorder = new GameEventListener() {
+            @Override public void onGameStart(UnoGame game) { events.add("start"); }
+            @Override public void onCardPlayed(Player player, Card card) { events.add("play"); }
+            @Override public void onGameWon(Player winner) { events.add("win"); }
+            @Override public void onGameOver(UnoGame game) { events.add("over"); }
+        };
+        new UnoGame(strategies, playerNames, fixedSeed, recorder).run();
+
+        assertEquals("start", events.get(0));
+        assertTrue(events.contains("play"));
+        assertEquals("win", events.get(events.size() - 2));
+        assertEquals("over", events.get(events.size() - 1));
+    }
+
     /*
     @Test
     void testInitialFlipSkip() {
@@ -0,0 +1,94 @@
+package projectone;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for Zobrist hashing of hands and game positions.
+ */
+class ZobristTest {
+
+    private static UnoGame startedGame(int players, long seed) {
+        List<PlayerStrategy> strategies = new ArrayList<>();
+        for (int i = 0; i < players; i++) strategies.add(new BasicAIStrategy());
+        UnoGame game = new UnoGame(strategies, Arrays.asList("A", "B", "C", "D").subList(0, players), seed, GameEventListener.NONE);
+        assertTrue(game.start());
+        return game;
+    }
+
+    @Test
+    void testHandHashIgnoresArrivalOrder() {
+        Card red = CardTable.get(Color.RED, Value.FIVE);
+        Card wild = CardTable.get(Color.WILD, Value.WILD);
+        Hand a = new Hand();
+        Hand b = new Hand();
+        a.addCard(red);
+        a.addCard(wild);
+        a.addCard(red);
+        b.addCard(wild);
+        b.addCard(red);
+        b.addCard(red);
+        assertEquals(a.getZobristHash(), b.getZobristHash());
+
+        b.removeCard(red);
+        assertNotEquals(a.getZobristHash(), b.getZobristHash(), "Two copies must hash differently from one");
+        b.playCard(wild);
+        b.removeCard(red);
+        assertEquals(0L, b.getZobristHash());
+    }
+
+    @Test
+    void testLoadedHandHashMatchesIncrementalHash() {
+        Hand hand = new Hand();
+        SplittableRandom random = new SplittableRandom(4L);
+        for (int i = 0; i < 30; i++) {
+            hand.addCard(CardTable.byId(random.nextInt(CardTable.SIZE)));
+        }
+        int[] counts = new int[CardTable.SIZE];
+        hand.saveCounts(counts, 0);
+        Hand loaded = new Hand();
+        loaded.loadCounts(counts, 0);
+        assertEquals(hand.getZobristHash(), loaded.getZobristHash());
+    }
+
+    @Test
+    void testGameHashFollowsApplyAndUndo() {
+        UnoGame game = startedGame(3, 17L);
+        Move[] moves = new Move[Move.COUNT];
+        SplittableRandom random = new SplittableRandom(2L);
+        long[] hashes = new long[80];
+        int depth = 0;
+        while (depth < hashes.length) {
+            hashes[depth] = game.getZobristHash();
+            int n = game.legalMoves(moves);
+            if (n == 0) break;
+            game.apply(moves[random.nextInt(n)]);
+            assertNotEquals(hashes[depth], game.getZobristHash());
+            depth++;
+        }
+        for (int i = depth - 1; i >= 0; i--) {
+            game.undo();
+            assertEquals(hashes[i], game.getZobristHash());
+        }
+    }
+
+    @Test
+    void testRestoredGameHasSameHash() {
+        UnoGame game = startedGame(4, 3L);
+        UnoGame other = startedGame(4, 99L);
+        assertNotEquals(game.getZobristHash(), other.getZobristHash());
+        other.restore(game.snapshot());
+        assertEquals(game.getZobristHash(), other.getZobristHash());
+
+        long before = game.getZobristHash();
+        game.reversePlayDirection();
+        assertNotEquals(before, game.getZobristHash());
+        game.reversePlayDirection();
+        game.setActiveWildColor(Color.BLUE);
+        assertNotEquals(before, game.getZobristHash());
+    }
+}